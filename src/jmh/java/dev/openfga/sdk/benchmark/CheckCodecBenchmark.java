@@ -0,0 +1,138 @@
+package dev.openfga.sdk.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.CheckCodecModule;
+import dev.openfga.sdk.api.model.BatchCheckItem;
+import dev.openfga.sdk.api.model.BatchCheckRequest;
+import dev.openfga.sdk.api.model.BatchCheckResponse;
+import dev.openfga.sdk.api.model.BatchCheckSingleResult;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost per check of the reflective bean (de)serializers and of {@link CheckCodecModule}, for a single
+ * check and for a batch of {@link #batchSize} checks.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=CheckCodecBenchmark}, adding {@code -prof gc} to the JMH arguments
+ * to compare allocations ({@code gc.alloc.rate.norm} is in bytes per operation).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckCodecBenchmark {
+    @Param({"bean", "codec"})
+    public String codec;
+
+    @Param({"50"})
+    public int batchSize;
+
+    private ObjectWriter checkRequestWriter;
+    private ObjectReader checkResponseReader;
+    private ObjectWriter batchCheckRequestWriter;
+    private ObjectReader batchCheckResponseReader;
+    private CheckRequest checkRequest;
+    private byte[] checkResponse;
+    private BatchCheckRequest batchCheckRequest;
+    private byte[] batchCheckResponse;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = "codec".equals(codec) ? new ApiClient().getObjectMapper() : beanMapper();
+        checkRequestWriter = mapper.writerFor(CheckRequest.class);
+        checkResponseReader = mapper.readerFor(CheckResponse.class);
+        batchCheckRequestWriter = mapper.writerFor(BatchCheckRequest.class);
+        batchCheckResponseReader = mapper.readerFor(BatchCheckResponse.class);
+
+        checkRequest = new CheckRequest()
+                .tupleKey(tupleKey(0))
+                .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J")
+                .consistency(ConsistencyPreference.MINIMIZE_LATENCY);
+        checkResponse = mapper.writeValueAsBytes(new CheckResponse().allowed(true).resolution(""));
+
+        List<BatchCheckItem> checks = new ArrayList<>(batchSize);
+        Map<String, BatchCheckSingleResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < batchSize; i++) {
+            String correlationId = "01JA8PM3QM7VBPGB8KMPK8SBD" + i;
+            checks.add(new BatchCheckItem().tupleKey(tupleKey(i)).correlationId(correlationId));
+            results.put(correlationId, new BatchCheckSingleResult().allowed(i % 2 == 0));
+        }
+        batchCheckRequest = new BatchCheckRequest()
+                .checks(checks)
+                .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J")
+                .consistency(ConsistencyPreference.MINIMIZE_LATENCY);
+        batchCheckResponse = mapper.writeValueAsBytes(new BatchCheckResponse().result(results));
+    }
+
+    @Benchmark
+    public byte[] writeCheckRequest() throws Exception {
+        return checkRequestWriter.writeValueAsBytes(checkRequest);
+    }
+
+    @Benchmark
+    public CheckResponse readCheckResponse() throws Exception {
+        return checkResponseReader.readValue(checkResponse);
+    }
+
+    @Benchmark
+    public byte[] writeBatchCheckRequest() throws Exception {
+        return batchCheckRequestWriter.writeValueAsBytes(batchCheckRequest);
+    }
+
+    @Benchmark
+    public BatchCheckResponse readBatchCheckResponse() throws Exception {
+        return batchCheckResponseReader.readValue(batchCheckResponse);
+    }
+
+    private static CheckRequestTupleKey tupleKey(int i) {
+        return new CheckRequestTupleKey()
+                .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                .relation("reader")
+                ._object("document:" + i);
+    }
+
+    /**
+     * The mapper of {@link ApiClient} without {@link CheckCodecModule}.
+     */
+    private static ObjectMapper beanMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+        mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+        mapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new JsonNullableModule());
+        return mapper;
+    }
+}
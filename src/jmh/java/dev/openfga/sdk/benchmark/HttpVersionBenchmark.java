@@ -0,0 +1,129 @@
+package dev.openfga.sdk.benchmark;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.configuration.ClientConfiguration;
+import java.net.http.HttpClient;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares check throughput over HTTP/1.1 and HTTP/2 against a local WireMock stub server, in cleartext (h2c) and
+ * over TLS (h2 negotiated with ALPN). Each invocation sends {@link #CONCURRENT_CHECKS} checks concurrently, which is
+ * where multiplexing over a single connection is expected to pay off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+// The stub server uses a self-signed certificate that is not issued for localhost
+@Fork(value = 1, jvmArgsAppend = "-Djdk.internal.httpclient.disableHostnameVerification=true")
+public class HttpVersionBenchmark {
+    private static final int CONCURRENT_CHECKS = 64;
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+    private static final String AUTHORIZATION_MODEL_ID = "01G5JAVJ41T49E9TT3SKVS7X1J";
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    public HttpClient.Version httpVersion;
+
+    @Param({"http", "https"})
+    public String scheme;
+
+    private WireMockServer server;
+    private OpenFgaClient fga;
+    private ClientCheckRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        server = new WireMockServer(options().dynamicPort().dynamicHttpsPort());
+        server.start();
+        server.stubFor(post(urlPathMatching("/stores/.*/check"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"allowed\":true,\"resolution\":\"\"}")));
+
+        String apiUrl = "https".equals(scheme)
+                ? "https://localhost:" + server.httpsPort()
+                : "http://localhost:" + server.port();
+        ClientConfiguration configuration = new ClientConfiguration()
+                .apiUrl(apiUrl)
+                .storeId(STORE_ID)
+                .authorizationModelId(AUTHORIZATION_MODEL_ID)
+                .httpVersion(httpVersion);
+        ApiClient apiClient = new ApiClient(HttpClient.newBuilder().sslContext(trustAllSslContext()));
+        fga = new OpenFgaClient(configuration, apiClient);
+
+        request = new ClientCheckRequest()
+                .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                .relation("reader")
+                ._object("document:roadmap");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CHECKS)
+    public List<ClientCheckResponse> concurrentChecks() throws Exception {
+        List<CompletableFuture<ClientCheckResponse>> futures = new ArrayList<>(CONCURRENT_CHECKS);
+        for (int i = 0; i < CONCURRENT_CHECKS; i++) {
+            futures.add(fga.check(request));
+        }
+
+        List<ClientCheckResponse> responses = new ArrayList<>(CONCURRENT_CHECKS);
+        for (CompletableFuture<ClientCheckResponse> future : futures) {
+            responses.add(future.join());
+        }
+        return responses;
+    }
+
+    private static SSLContext trustAllSslContext() throws Exception {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+        return sslContext;
+    }
+}
@@ -0,0 +1,102 @@
+package dev.openfga.sdk.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.ReaderWriterRegistry;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ReadResponse;
+import dev.openfga.sdk.api.model.Tuple;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-call cost of serializing requests and deserializing responses with the generic
+ * {@link ObjectMapper} methods and with the pre-built readers and writers of {@link ReaderWriterRegistry}.
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=SerializationBenchmark}, adding {@code -prof gc} to the JMH
+ * arguments to compare allocations.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private ObjectMapper mapper;
+    private ReaderWriterRegistry registry;
+    private CheckRequest checkRequest;
+    private byte[] checkResponse;
+    private byte[] readResponse;
+
+    @Setup
+    public void setup() throws Exception {
+        ApiClient apiClient = new ApiClient();
+        mapper = apiClient.getObjectMapper();
+        registry = apiClient.getReaderWriterRegistry();
+
+        checkRequest = new CheckRequest()
+                .tupleKey(new CheckRequestTupleKey()
+                        .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                        .relation("reader")
+                        ._object("document:roadmap"))
+                .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J");
+        checkResponse = mapper.writeValueAsBytes(new CheckResponse().allowed(true));
+
+        List<Tuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tuples.add(new Tuple()
+                    .key(new TupleKey()
+                            .user("user:" + i)
+                            .relation("reader")
+                            ._object("document:" + i))
+                    .timestamp(OffsetDateTime.now()));
+        }
+        readResponse = mapper.writeValueAsBytes(new ReadResponse().tuples(tuples).continuationToken(""));
+    }
+
+    @Benchmark
+    public byte[] writeCheckRequest_objectMapper() throws Exception {
+        return mapper.writeValueAsBytes(checkRequest);
+    }
+
+    @Benchmark
+    public byte[] writeCheckRequest_registry() throws Exception {
+        return registry.writeValueAsBytes(checkRequest);
+    }
+
+    @Benchmark
+    public CheckResponse readCheckResponse_objectMapper() throws Exception {
+        return mapper.readValue(checkResponse, CheckResponse.class);
+    }
+
+    @Benchmark
+    public CheckResponse readCheckResponse_registry() throws Exception {
+        return registry.readValue(checkResponse, CheckResponse.class);
+    }
+
+    @Benchmark
+    public ReadResponse readReadResponse_objectMapper() throws Exception {
+        return mapper.readValue(readResponse, ReadResponse.class);
+    }
+
+    @Benchmark
+    public ReadResponse readReadResponse_registry() throws Exception {
+        return registry.readValue(readResponse, ReadResponse.class);
+    }
+}
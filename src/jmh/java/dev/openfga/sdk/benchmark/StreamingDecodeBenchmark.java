@@ -0,0 +1,233 @@
+package dev.openfga.sdk.benchmark;
+
+import static dev.openfga.sdk.util.StringUtil.isNullOrWhitespace;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.openfga.sdk.api.StreamedListObjectsApi;
+import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.FgaTransport;
+import dev.openfga.sdk.api.configuration.Configuration;
+import dev.openfga.sdk.api.model.ListObjectsRequest;
+import dev.openfga.sdk.api.model.StreamResult;
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.net.ssl.SSLSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many Streamed List Objects results are decoded per second on a single core, from a response body held
+ * in memory and delivered in read-only buffers of the size the {@link HttpClient} reads, like the buffers it delivers.
+ *
+ * <p>{@code lines} decodes the body to lines of text and reads every line as a string, as the SDK did before decoding
+ * frames from the bytes of the body. {@code frames} streams the results through {@link StreamedListObjectsApi}, whose
+ * body subscriber copies the buffers to a reused array, splits the frames on it and parses them in place with a reused
+ * non-blocking parser.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh -PjmhIncludes=StreamingDecodeBenchmark}, adding {@code -prof gc} to the JMH
+ * arguments to compare allocations ({@code gc.alloc.rate.norm} is in bytes per result).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingDecodeBenchmark {
+    private static final int RESULTS = 10_000;
+    // The default size of the buffers the HttpClient reads response bodies in
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+
+    private List<ByteBuffer> body;
+    private ObjectReader lineReader;
+    private StreamedListObjectsApi api;
+    private ListObjectsRequest request;
+    private long objects;
+
+    @Setup
+    public void setup() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < RESULTS; i++) {
+            lines.append("{\"result\":{\"object\":\"document:0192ab2d-d36e-7cb3-a4a8-").append(i).append("\"}}\n");
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        body = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += BUFFER_SIZE) {
+            body.add(ByteBuffer.wrap(bytes, start, Math.min(BUFFER_SIZE, bytes.length - start))
+                    .slice()
+                    .asReadOnlyBuffer());
+        }
+
+        ApiClient apiClient = new ApiClient().setTransport(new InMemoryTransport());
+        lineReader = apiClient
+                .getObjectMapper()
+                .readerFor(new TypeReference<StreamResult<StreamedListObjectsResponse>>() {});
+        api = new StreamedListObjectsApi(new Configuration().apiUrl("http://localhost:8080"), apiClient);
+        request = new ListObjectsRequest().type("document").relation("viewer").user("user:anne");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public long lines() throws Exception {
+        HttpResponse.BodySubscriber<Stream<String>> subscriber =
+                HttpResponse.BodySubscribers.ofLines(StandardCharsets.UTF_8);
+        subscriber.onSubscribe(new BodySubscription(subscriber));
+        long count = 0;
+        try (Stream<String> lines = subscriber.getBody().toCompletableFuture().join()) {
+            for (Iterator<String> iterator = lines.iterator(); iterator.hasNext(); ) {
+                String line = iterator.next();
+                if (!isNullOrWhitespace(line)) {
+                    StreamResult<StreamedListObjectsResponse> result = lineReader.readValue(line);
+                    count += result.getResult().getObject().length();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public long frames() throws Exception {
+        objects = 0;
+        api.streamedListObjects(STORE_ID, request, response -> objects += response.getObject().length()).join();
+        return objects;
+    }
+
+    /**
+     * Answers every request with the body, as soon as its buffers are requested.
+     */
+    private final class InMemoryTransport implements FgaTransport {
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> send(
+                HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return 200;
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return HttpHeaders.of(Map.of(), (name, value) -> true);
+                }
+
+                @Override
+                public HttpClient.Version version() {
+                    return HttpClient.Version.HTTP_1_1;
+                }
+            });
+            subscriber.onSubscribe(new BodySubscription(subscriber));
+            return subscriber
+                    .getBody()
+                    .toCompletableFuture()
+                    .thenApply(responseBody -> response(request, responseBody));
+        }
+    }
+
+    /**
+     * Delivers the buffers of the body as they are requested.
+     */
+    private final class BodySubscription implements Flow.Subscription {
+        private final Flow.Subscriber<List<ByteBuffer>> subscriber;
+        private int next;
+        private long demand;
+        private boolean emitting;
+
+        private BodySubscription(Flow.Subscriber<List<ByteBuffer>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (demand > 0 && next <= body.size()) {
+                if (next++ == body.size()) {
+                    subscriber.onComplete();
+                } else {
+                    demand--;
+                    subscriber.onNext(List.of(body.get(next - 1).duplicate()));
+                }
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            next = body.size() + 1;
+        }
+    }
+
+    private static <T> HttpResponse<T> response(HttpRequest request, T body) {
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return 200;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return request;
+            }
+
+            @Override
+            public Optional<HttpResponse<T>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.of(Map.of(), (name, value) -> true);
+            }
+
+            @Override
+            public T body() {
+                return body;
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return request.uri();
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+}
@@ -12,21 +12,26 @@
 
 package dev.openfga.sdk.api;
 
-import static dev.openfga.sdk.util.StringUtil.isNullOrWhitespace;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.ReaderWriterRegistry;
 import dev.openfga.sdk.api.configuration.Configuration;
 import dev.openfga.sdk.api.model.Status;
 import dev.openfga.sdk.api.model.StreamResult;
 import dev.openfga.sdk.errors.ApiException;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
+import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 /**
  * Base class for handling streaming API responses.
@@ -40,6 +45,8 @@ public abstract class BaseStreamingApi<T> {
     protected final ApiClient apiClient;
     protected final ObjectMapper objectMapper;
     protected final TypeReference<StreamResult<T>> streamResultTypeRef;
+    private final ReaderWriterRegistry readerWriterRegistry;
+    private final ObjectReader streamResultReader;
 
     /**
      * Constructor for BaseStreamingApi
@@ -54,95 +61,165 @@ public abstract class BaseStreamingApi<T> {
         this.apiClient = apiClient;
         this.objectMapper = apiClient.getObjectMapper();
         this.streamResultTypeRef = streamResultTypeRef;
+        this.readerWriterRegistry = ReaderWriterRegistry.of(apiClient);
+        this.streamResultReader =
+                readerWriterRegistry.reader(objectMapper.getTypeFactory().constructType(streamResultTypeRef));
     }
 
     /**
      * Process a streaming response asynchronously.
-     * Each line in the response is parsed and delivered to the consumer callback.
+     * Each line in the response is parsed as it is received and delivered to the consumer callback.
      *
      * @param request The HTTP request to execute
      * @param consumer Callback to handle each response object (invoked asynchronously)
      * @param errorConsumer Optional callback to handle errors during streaming
-     * @return CompletableFuture<Void> that completes when streaming finishes
+     * @return StreamHandle that completes when streaming finishes, and stops the stream when cancelled
      */
-    protected CompletableFuture<Void> processStreamingResponse(
+    protected StreamHandle processStreamingResponse(
             HttpRequest request, Consumer<T> consumer, Consumer<Throwable> errorConsumer) {
+        return processStreamingResponse(request, consumer, errorConsumer, null);
+    }
 
-        // Use async HTTP client with streaming body handler
-        // ofLines() provides line-by-line streaming
-        return apiClient
-                .getHttpClient()
-                .sendAsync(request, HttpResponse.BodyHandlers.ofLines())
-                .thenCompose(response -> {
-                    // Check response status
-                    int statusCode = response.statusCode();
-                    if (statusCode < 200 || statusCode >= 300) {
-                        ApiException apiException =
-                                new ApiException(statusCode, "API error: " + statusCode, response.headers(), null);
-                        return CompletableFuture.failedFuture(apiException);
-                    }
+    /**
+     * Process a streaming response asynchronously.
+     * Each line in the response is parsed as it is received and delivered to the consumer callback, until
+     * {@code limit} response objects have been delivered.
+     *
+     * @param request The HTTP request to execute
+     * @param consumer Callback to handle each response object (invoked asynchronously)
+     * @param errorConsumer Optional callback to handle errors during streaming
+     * @param limit The number of response objects after which the stream is stopped, or null to read it to its end
+     * @return StreamHandle that completes when streaming finishes, and stops the stream when cancelled
+     */
+    protected StreamHandle processStreamingResponse(
+            HttpRequest request, Consumer<T> consumer, Consumer<Throwable> errorConsumer, Integer limit) {
+        StreamHandle handle = new StreamHandle();
 
-                    // Process the stream - this runs on HttpClient's executor thread
-                    try (Stream<String> lines = response.body()) {
-                        lines.forEach(line -> {
-                            if (!isNullOrWhitespace(line)) {
-                                processLine(line, consumer, errorConsumer);
-                            }
-                        });
-                        return CompletableFuture.completedFuture((Void) null);
-                    } catch (Exception e) {
-                        return CompletableFuture.failedFuture(e);
-                    }
-                })
-                .handle((result, throwable) -> {
-                    if (throwable != null) {
-                        // Unwrap CompletionException to get the original exception
-                        Throwable actualException = throwable;
-                        if (throwable instanceof java.util.concurrent.CompletionException
-                                && throwable.getCause() != null) {
-                            actualException = throwable.getCause();
-                        }
-
-                        if (errorConsumer != null) {
-                            errorConsumer.accept(actualException);
-                        }
-                        // Re-throw to keep the CompletableFuture in failed state
-                        if (actualException instanceof RuntimeException) {
-                            throw (RuntimeException) actualException;
-                        }
-                        throw new RuntimeException(actualException);
-                    }
-                    return result;
-                });
+        // The stream holds a slot of the limiter until it is fully consumed or stopped
+        ConcurrencyLimiter limiter = apiClient.getConcurrentStreamsLimiter();
+        CompletableFuture<Void> streaming = limiter == null
+                ? streamResults(request, consumer, errorConsumer, limit, handle)
+                : limiter.submit(() -> handle.isDone()
+                        ? CompletableFuture.completedFuture(null)
+                        : streamResults(request, consumer, errorConsumer, limit, handle));
+
+        streaming.whenComplete((result, throwable) -> {
+            if (handle.isDone()) {
+                // The stream was stopped, the failure of its aborted request is expected
+                return;
+            }
+            if (throwable != null) {
+                // Unwrap CompletionException to get the original exception
+                Throwable actualException = throwable;
+                if (throwable instanceof java.util.concurrent.CompletionException && throwable.getCause() != null) {
+                    actualException = throwable.getCause();
+                }
+
+                if (errorConsumer != null) {
+                    errorConsumer.accept(actualException);
+                }
+                handle.completeExceptionally(
+                        actualException instanceof RuntimeException
+                                ? actualException
+                                : new RuntimeException(actualException));
+            } else {
+                handle.complete(null);
+            }
+        });
+        return handle;
+    }
+
+    /**
+     * Publish the results of a streaming response. The request is sent for every subscription, and the response body
+     * is read as the subscriber requests results, so a slow subscriber never blocks the HttpClient threads.
+     * Cancelling the subscription aborts the exchange.
+     *
+     * @param request The HTTP request to execute
+     * @return A publisher of the response objects, failing on HTTP errors and on errors in the stream
+     */
+    protected Flow.Publisher<T> publishStreamingResponse(HttpRequest request) {
+        return publishStreamingResponse(request, null);
+    }
+
+    /**
+     * Publish the results of a streaming response, up to {@code limit} response objects. Once they have been
+     * published, the subscription completes and the exchange is aborted.
+     *
+     * @param request The HTTP request to execute
+     * @param limit The number of response objects after which the subscription completes, or null to read the whole
+     *              stream
+     * @return A publisher of the response objects, failing on HTTP errors and on errors in the stream
+     */
+    protected Flow.Publisher<T> publishStreamingResponse(HttpRequest request, Integer limit) {
+        return new StreamResultPublisher<>(
+                apiClient.getTransport(), apiClient.getConcurrentStreamsLimiter(), request, streamResultReader, limit);
     }
 
     /**
-     * Process a single line from the stream
+     * A publisher failing every subscription with the given error, so that errors of a publisher are always
+     * delivered to its subscribers.
      *
-     * @param line The JSON line to process
-     * @param consumer Callback to handle the parsed result
+     * @param error The error of the subscriptions
+     * @return The publisher
+     */
+    protected static <R> Flow.Publisher<R> failedPublisher(Throwable error) {
+        return subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(error);
+        };
+    }
+
+    private CompletableFuture<Void> streamResults(
+            HttpRequest request,
+            Consumer<T> consumer,
+            Consumer<Throwable> errorConsumer,
+            Integer limit,
+            StreamHandle handle) {
+        // The body is decoded as it arrives, on the HttpClient's executor threads
+        CompletableFuture<HttpResponse<Void>> exchange = apiClient.getTransport().stream(request, responseInfo -> {
+            int statusCode = responseInfo.statusCode();
+            return statusCode < 200 || statusCode >= 300
+                    ? HttpResponse.BodySubscribers.discarding()
+                    : new ResultsSubscriber(consumer, errorConsumer, limit, handle);
+        });
+        // Stopping the stream before the response arrived aborts the request
+        handle.whenComplete((result, throwable) -> exchange.cancel(true));
+
+        return exchange.thenCompose(response -> {
+            // Check response status
+            int statusCode = response.statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                ApiException apiException =
+                        new ApiException(statusCode, "API error: " + statusCode, response.headers(), null);
+                return CompletableFuture.failedFuture(apiException);
+            }
+            return CompletableFuture.completedFuture((Void) null);
+        });
+    }
+
+    /**
+     * Process a single result from the stream
+     *
+     * @param streamResult The result to process
+     * @param consumer Callback to handle the result object
      * @param errorConsumer Optional callback to handle errors
      */
-    private void processLine(String line, Consumer<T> consumer, Consumer<Throwable> errorConsumer) {
+    private void processResult(StreamResult<T> streamResult, Consumer<T> consumer, Consumer<Throwable> errorConsumer) {
         try {
-            // Parse the JSON line to extract the object
-            StreamResult<T> streamResult = objectMapper.readValue(line, streamResultTypeRef);
-
             if (streamResult.getError() != null) {
                 // Handle error in stream
                 if (errorConsumer != null) {
-                    Status error = streamResult.getError();
-                    String errorMessage = error.getMessage() != null
-                            ? "Stream error: " + error.getMessage()
-                            : "Stream error: " + (error.getCode() != null ? "code " + error.getCode() : "unknown");
-                    errorConsumer.accept(new ApiException(errorMessage));
+                    errorConsumer.accept(streamError(streamResult.getError()));
                 }
             } else if (streamResult.getResult() != null) {
                 // Deliver the response object to the consumer
-                T result = streamResult.getResult();
-                if (result != null) {
-                    consumer.accept(result);
-                }
+                consumer.accept(streamResult.getResult());
             }
         } catch (Exception e) {
             if (errorConsumer != null) {
@@ -151,6 +228,98 @@ public abstract class BaseStreamingApi<T> {
         }
     }
 
+    /**
+     * Decodes the body of a successful response and processes every result as soon as its frame is received.
+     */
+    private final class ResultsSubscriber implements HttpResponse.BodySubscriber<Void> {
+        private final StreamResultDecoder<T> decoder = new StreamResultDecoder<>(streamResultReader);
+        private final CompletableFuture<Void> body = new CompletableFuture<>();
+        private final Consumer<T> consumer;
+        private final Consumer<Throwable> errorConsumer;
+        private final Integer limit;
+        private final StreamHandle handle;
+        private int delivered;
+
+        private ResultsSubscriber(
+                Consumer<T> consumer, Consumer<Throwable> errorConsumer, Integer limit, StreamHandle handle) {
+            this.consumer = consumer;
+            this.errorConsumer = errorConsumer;
+            this.limit = limit;
+            this.handle = handle;
+        }
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            // Stopping the stream stops reading the body, which closes the connection, and releases the stream
+            handle.whenComplete((result, throwable) -> {
+                subscription.cancel();
+                body.complete(null);
+            });
+            if (!handle.isDone()) {
+                // Results are processed within onNext, which holds back the next buffers
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            buffers.forEach(decoder::feed);
+            processDecoded();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            decoder.endOfInput();
+            processDecoded();
+            body.complete(null);
+        }
+
+        private void processDecoded() {
+            while (!handle.isDone()) {
+                StreamResult<T> streamResult;
+                try {
+                    streamResult = decoder.next();
+                } catch (IOException | RuntimeException e) {
+                    // The frame is skipped, decoding continues with the next one
+                    if (errorConsumer != null) {
+                        errorConsumer.accept(e);
+                    }
+                    continue;
+                }
+                if (streamResult == null) {
+                    return;
+                }
+                processResult(streamResult, consumer, errorConsumer);
+                if (limit != null
+                        && streamResult.getError() == null
+                        && streamResult.getResult() != null
+                        && ++delivered >= limit) {
+                    handle.complete(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the exception of an error result in the stream
+     */
+    static ApiException streamError(Status error) {
+        String errorMessage = error.getMessage() != null
+                ? "Stream error: " + error.getMessage()
+                : "Stream error: " + (error.getCode() != null ? "code " + error.getCode() : "unknown");
+        return new ApiException(errorMessage);
+    }
+
     /**
      * Build an HTTP request for the streaming endpoint
      *
@@ -165,7 +334,7 @@ public abstract class BaseStreamingApi<T> {
     protected HttpRequest buildHttpRequest(String method, String path, Object body, Configuration configuration)
             throws ApiException, FgaInvalidParameterException {
         try {
-            byte[] bodyBytes = objectMapper.writeValueAsBytes(body);
+            byte[] bodyBytes = readerWriterRegistry.writeValueAsBytes(body);
             HttpRequest.Builder requestBuilder = ApiClient.requestBuilder(method, path, bodyBytes, configuration);
 
             apiClient.applyAuthHeader(requestBuilder, configuration);
@@ -96,6 +96,8 @@ public class OpenFgaApi {
         if (connectTimeout != null) {
             apiClient.setHttpClientBuilder(apiClient.getHttpClientBuilder().connectTimeout(connectTimeout));
         }
+
+        apiClient.applyHttpSettings(configuration);
     }
 
     /**
@@ -1265,7 +1267,7 @@ public class OpenFgaApi {
     private <T> HttpRequest buildHttpRequest(String method, String path, T body, Configuration configuration)
             throws ApiException, FgaInvalidParameterException {
         try {
-            byte[] localVarPostBody = apiClient.getObjectMapper().writeValueAsBytes(body);
+            byte[] localVarPostBody = ReaderWriterRegistry.of(apiClient).writeValueAsBytes(body);
             var bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(localVarPostBody);
             return buildHttpRequestWithPublisher(method, path, bodyPublisher, configuration);
         } catch (IOException e) {
@@ -0,0 +1,39 @@
+package dev.openfga.sdk.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A running stream of a streaming endpoint, completing when the stream ends.
+ *
+ * <p>The handle completes normally once the server has sent every result, or once the stream has been stopped with
+ * {@link #cancel()} or because it reached its limit. It completes exceptionally if the request fails.</p>
+ *
+ * <p>Completing the handle in any other way, e.g. with {@link #cancel(boolean)} or {@link #complete(Object)}, also
+ * stops the stream.</p>
+ */
+public class StreamHandle extends CompletableFuture<Void> {
+
+    /**
+     * Get the handle of a stream that failed before it started.
+     *
+     * @param throwable The failure.
+     * @return A handle completed exceptionally with the failure.
+     */
+    public static StreamHandle failed(Throwable throwable) {
+        StreamHandle handle = new StreamHandle();
+        handle.completeExceptionally(throwable);
+        return handle;
+    }
+
+    /**
+     * Stop the stream and complete the handle normally. The request is aborted: the rest of the response body is not
+     * read and its connection is closed (or its HTTP/2 stream reset), so the server stops producing results. Results
+     * that have not been delivered to the consumer yet are dropped. A stream that is still waiting for a slot of the
+     * concurrent streams limiter is never sent.
+     *
+     * @return true if this call stopped the stream, false if the stream had already ended.
+     */
+    public boolean cancel() {
+        return complete(null);
+    }
+}
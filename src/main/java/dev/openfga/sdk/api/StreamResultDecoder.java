@@ -0,0 +1,141 @@
+package dev.openfga.sdk.api;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.openfga.sdk.api.model.StreamResult;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the newline-delimited JSON body of a streaming endpoint into {@link StreamResult}s, straight from the
+ * {@link ByteBuffer}s of the response.
+ *
+ * <p>The buffers of the {@link java.net.http.HttpClient} are read-only, so their content cannot be parsed in place.
+ * Each buffer is copied once, with a bulk get, to an input array reused for the whole body. Frames are split on the
+ * newline bytes of that array, without decoding the body into lines of text, and every complete frame is parsed where
+ * it lies by a single non-blocking parser, also reused for the whole body, and bound to a result by the reader. Blank
+ * frames are skipped.</p>
+ *
+ * <p>A frame that cannot be parsed fails with an {@link IOException}, after which decoding continues with the next
+ * frame. Not thread-safe.</p>
+ */
+final class StreamResultDecoder<T> {
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectReader reader;
+    private JsonParser parser;
+    private byte[] input = new byte[16 * 1024];
+    // The bytes of the input not decoded yet are those from position to limit
+    private int position;
+    private int limit;
+    // The bytes of the input from position to scanned hold no newline
+    private int scanned;
+    private boolean endOfInput;
+
+    /**
+     * @param reader Reads a {@link StreamResult}.
+     */
+    StreamResultDecoder(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Add a buffer of the body. Its content is copied: the buffer can be reused as soon as this method returns.
+     */
+    void feed(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (length == 0) {
+            return;
+        }
+        if (limit + length > input.length) {
+            // Move the undecoded bytes to the start of the input, and grow it if they still leave too little room
+            int undecoded = limit - position;
+            byte[] target = undecoded + length > input.length
+                    ? new byte[Math.max(input.length * 2, undecoded + length)]
+                    : input;
+            System.arraycopy(input, position, target, 0, undecoded);
+            input = target;
+            scanned -= position;
+            position = 0;
+            limit = undecoded;
+        }
+        buffer.get(input, limit, length);
+        limit += length;
+    }
+
+    /**
+     * Signal the end of the body, so that a last frame without a trailing newline is decoded.
+     */
+    void endOfInput() {
+        endOfInput = true;
+    }
+
+    /**
+     * Decode the next result.
+     *
+     * @return The result of the next complete frame, or null when the input holds no complete frame.
+     * @throws IOException If the next frame cannot be parsed.
+     */
+    StreamResult<T> next() throws IOException {
+        while (true) {
+            int end = indexOfNewline();
+            if (end < 0) {
+                scanned = limit;
+                if (!endOfInput || position == limit) {
+                    return null;
+                }
+                // The last frame has no trailing newline
+                end = limit;
+            } else {
+                end++;
+            }
+            int start = position;
+            position = end;
+            scanned = end;
+            StreamResult<T> result = parse(start, end);
+            if (result != null) {
+                return result;
+            }
+        }
+    }
+
+    private int indexOfNewline() {
+        byte[] bytes = input;
+        for (int i = Math.max(scanned, position), end = limit; i < end; i++) {
+            if (bytes[i] == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parse a complete frame. As the frame is complete, the reader never runs out of input while binding its value,
+     * and the parser has consumed the whole frame when it returns, so the input can then be moved or overwritten.
+     */
+    private StreamResult<T> parse(int start, int end) throws IOException {
+        if (parser == null) {
+            parser = reader.createNonBlockingByteArrayParser();
+        }
+        try {
+            ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(input, start, end);
+            if (parser.nextToken() == JsonToken.NOT_AVAILABLE) {
+                // A blank frame
+                return null;
+            }
+            StreamResult<T> result = reader.readValue(parser);
+            if (parser.nextToken() != JsonToken.NOT_AVAILABLE) {
+                throw new JsonParseException(parser, "Unexpected content after the result of a stream frame");
+            }
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // The parser may hold the rest of the failed frame, start the next frame with a new one
+            parser.close();
+            parser = null;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package dev.openfga.sdk.api;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.openfga.sdk.api.client.FgaTransport;
+import dev.openfga.sdk.api.model.StreamResult;
+import dev.openfga.sdk.errors.ApiException;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the results of a streaming endpoint, reading the response body as the results are requested.
+ *
+ * <p>Every subscription sends the request. Buffers of the response body are requested from the HTTP client as the
+ * subscriber requests results and decoded by a {@link StreamResultDecoder}, so the body is read no faster than it is
+ * consumed and HTTP client threads never wait for the subscriber: a subscriber that stops requesting results only stops
+ * the body from being read. Cancelling the subscription aborts the exchange. A response with a non-2xx status, an
+ * error result in the stream, or a line that cannot be parsed fails the subscription. With a limit, the subscription
+ * completes and the rest of the body is not read once that many results have been published.</p>
+ *
+ * <p>With a concurrent streams limiter, the request is only sent once the limiter has a free slot, and the slot is
+ * held until the subscription completes, fails or is cancelled.</p>
+ */
+class StreamResultPublisher<T> implements Flow.Publisher<T> {
+    private final FgaTransport transport;
+    private final ConcurrencyLimiter limiter;
+    private final HttpRequest request;
+    private final ObjectReader reader;
+    private final Integer limit;
+
+    /**
+     * @param transport The transport the request is sent with.
+     * @param limiter   The limiter of concurrent streams, or null.
+     * @param request   The request of the stream.
+     * @param reader    Reads a {@link StreamResult}.
+     * @param limit     The number of results after which the subscription completes, or null.
+     */
+    StreamResultPublisher(
+            FgaTransport transport,
+            ConcurrencyLimiter limiter,
+            HttpRequest request,
+            ObjectReader reader,
+            Integer limit) {
+        this.transport = transport;
+        this.limiter = limiter;
+        this.request = request;
+        this.reader = reader;
+        this.limit = limit;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (limiter == null) {
+            subscription.start();
+        } else {
+            limiter.submit(() -> {
+                subscription.start();
+                return subscription.done;
+            });
+        }
+    }
+
+    /**
+     * Bridges the demand of the subscriber to the buffers of the response body.
+     */
+    private final class ResultSubscription implements Flow.Subscription, HttpResponse.BodySubscriber<Void> {
+        private final Flow.Subscriber<? super T> downstream;
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private final AtomicInteger wip = new AtomicInteger();
+        // Completes once the subscription completed, failed or was cancelled
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final StreamResultDecoder<T> decoder = new StreamResultDecoder<>(reader);
+        private final Deque<ByteBuffer> received = new ArrayDeque<>();
+        private Flow.Subscription upstream;
+        private CompletableFuture<HttpResponse<Void>> exchange;
+        private StreamResult<T> next;
+        private long requested;
+        private long remaining = limit != null ? limit : Long.MAX_VALUE;
+        private boolean bufferRequested;
+        private boolean bodyComplete;
+
+        private ResultSubscription(Flow.Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        private void start() {
+            if (terminated.get()) {
+                // Cancelled while waiting for the limiter
+                return;
+            }
+            CompletableFuture<HttpResponse<Void>> sent;
+            try {
+                sent = transport.stream(request, this::bodySubscriber);
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            sent.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    fail(throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable);
+                }
+            });
+            boolean abort;
+            synchronized (this) {
+                exchange = sent;
+                abort = terminated.get();
+            }
+            if (abort) {
+                sent.cancel(true);
+            }
+        }
+
+        private HttpResponse.BodySubscriber<Void> bodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+            int statusCode = responseInfo.statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                fail(new ApiException(statusCode, "API error: " + statusCode, responseInfo.headers(), null));
+                return HttpResponse.BodySubscribers.discarding();
+            }
+            return this;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("n must be greater than 0"));
+                return;
+            }
+            synchronized (this) {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (terminated.compareAndSet(false, true)) {
+                abort();
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return done;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            synchronized (this) {
+                if (!terminated.get()) {
+                    upstream = subscription;
+                }
+            }
+            if (terminated.get()) {
+                subscription.cancel();
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            synchronized (this) {
+                received.addAll(buffers);
+                bufferRequested = false;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                bodyComplete = true;
+            }
+            drain();
+        }
+
+        /**
+         * Emits results while they are requested, and requests the next buffer of the body once the received buffers
+         * hold no complete result. Re-entrant calls (e.g. requests from {@code onNext}) are folded into the outermost
+         * loop.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (true) {
+                T result = null;
+                Throwable error = null;
+                boolean complete = false;
+                boolean last = false;
+                Flow.Subscription requestBuffer = null;
+                synchronized (this) {
+                    if (terminated.get()) {
+                        return;
+                    }
+                    try {
+                        if (next == null) {
+                            next = decode();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        error = e;
+                    }
+                    if (error != null) {
+                        // Failed below
+                    } else if (next != null && next.getError() != null) {
+                        error = BaseStreamingApi.streamError(next.getError());
+                    } else if (next != null) {
+                        if (requested == 0) {
+                            return;
+                        }
+                        result = next.getResult();
+                        next = null;
+                        if (requested != Long.MAX_VALUE) {
+                            requested--;
+                        }
+                        last = --remaining == 0;
+                    } else if (bodyComplete) {
+                        complete = true;
+                    } else if (requested > 0 && !bufferRequested && upstream != null) {
+                        bufferRequested = true;
+                        requestBuffer = upstream;
+                    }
+                }
+                if (error != null) {
+                    fail(error);
+                    return;
+                } else if (complete) {
+                    if (terminated.compareAndSet(false, true)) {
+                        done.complete(null);
+                        downstream.onComplete();
+                    }
+                    return;
+                } else if (result != null) {
+                    downstream.onNext(result);
+                    if (last) {
+                        // The limit is reached, the rest of the body is not read
+                        if (terminated.compareAndSet(false, true)) {
+                            abort();
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                } else {
+                    if (requestBuffer != null) {
+                        requestBuffer.request(1);
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Decode the next error or result from the received buffers, skipping frames that hold neither.
+         */
+        private StreamResult<T> decode() throws IOException {
+            for (ByteBuffer buffer; (buffer = received.poll()) != null; ) {
+                decoder.feed(buffer);
+            }
+            if (bodyComplete) {
+                decoder.endOfInput();
+            }
+            StreamResult<T> streamResult;
+            while ((streamResult = decoder.next()) != null) {
+                if (streamResult.getError() != null || streamResult.getResult() != null) {
+                    return streamResult;
+                }
+            }
+            return null;
+        }
+
+        private void fail(Throwable throwable) {
+            if (terminated.compareAndSet(false, true)) {
+                abort();
+                downstream.onError(throwable);
+            }
+        }
+
+        /**
+         * Stop reading the response body, or abort the exchange if the body did not start yet.
+         */
+        private void abort() {
+            Flow.Subscription current;
+            CompletableFuture<HttpResponse<Void>> sent;
+            synchronized (this) {
+                current = upstream;
+                sent = exchange;
+                received.clear();
+                next = null;
+            }
+            if (current != null) {
+                current.cancel();
+            } else if (sent != null) {
+                sent.cancel(true);
+            }
+            done.complete(null);
+        }
+    }
+}
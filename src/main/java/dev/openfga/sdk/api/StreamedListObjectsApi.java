@@ -25,7 +25,7 @@ import dev.openfga.sdk.errors.ApiException;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
 import dev.openfga.sdk.util.StringUtil;
 import java.net.http.HttpRequest;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 /**
@@ -42,80 +42,81 @@ public class StreamedListObjectsApi extends BaseStreamingApi<StreamedListObjects
     /**
      * Stream all objects of the given type that the user has a relation with.
      * Each streamed response is delivered to the consumer callback asynchronously as it arrives.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished, and stops the stream when cancelled.
      *
      * @param storeId The store ID
      * @param body The list objects request
      * @param consumer Callback to handle each StreamedListObjectsResponse (invoked asynchronously)
-     * @return CompletableFuture<Void> that completes when streaming finishes
+     * @return StreamHandle that completes when streaming finishes
      * @throws ApiException if the API call fails immediately
      * @throws FgaInvalidParameterException if required parameters are missing
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             String storeId, ListObjectsRequest body, Consumer<StreamedListObjectsResponse> consumer)
             throws ApiException, FgaInvalidParameterException {
-        return streamedListObjects(storeId, body, consumer, null, this.configuration);
+        return streamedListObjects(storeId, body, consumer, null, this.configuration, null);
     }
 
     /**
      * Stream all objects of the given type that the user has a relation with.
      * Each streamed response is delivered to the consumer callback asynchronously as it arrives.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished, and stops the stream when cancelled.
      *
      * @param storeId The store ID
      * @param body The list objects request
      * @param consumer Callback to handle each StreamedListObjectsResponse (invoked asynchronously)
      * @param configurationOverride Configuration overrides (e.g., additional headers)
-     * @return CompletableFuture<Void> that completes when streaming finishes
+     * @return StreamHandle that completes when streaming finishes
      * @throws ApiException if the API call fails immediately
      * @throws FgaInvalidParameterException if required parameters are missing
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             String storeId,
             ListObjectsRequest body,
             Consumer<StreamedListObjectsResponse> consumer,
             ConfigurationOverride configurationOverride)
             throws ApiException, FgaInvalidParameterException {
-        return streamedListObjects(storeId, body, consumer, null, this.configuration.override(configurationOverride));
+        return streamedListObjects(
+                storeId, body, consumer, null, this.configuration.override(configurationOverride), null);
     }
 
     /**
      * Stream all objects of the given type that the user has a relation with.
      * Each streamed response is delivered to the consumer callback asynchronously as it arrives.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished, and stops the stream when cancelled.
      *
      * @param storeId The store ID
      * @param body The list objects request
      * @param consumer Callback to handle each StreamedListObjectsResponse (invoked asynchronously)
      * @param errorConsumer Optional callback to handle errors during streaming
-     * @return CompletableFuture<Void> that completes when streaming finishes or exceptionally on error
+     * @return StreamHandle that completes when streaming finishes or exceptionally on error
      * @throws ApiException if the API call fails immediately
      * @throws FgaInvalidParameterException if required parameters are missing
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             String storeId,
             ListObjectsRequest body,
             Consumer<StreamedListObjectsResponse> consumer,
             Consumer<Throwable> errorConsumer)
             throws ApiException, FgaInvalidParameterException {
-        return streamedListObjects(storeId, body, consumer, errorConsumer, this.configuration);
+        return streamedListObjects(storeId, body, consumer, errorConsumer, this.configuration, null);
     }
 
     /**
      * Stream all objects of the given type that the user has a relation with.
      * Each streamed response is delivered to the consumer callback asynchronously as it arrives.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished, and stops the stream when cancelled.
      *
      * @param storeId The store ID
      * @param body The list objects request
      * @param consumer Callback to handle each StreamedListObjectsResponse (invoked asynchronously)
      * @param errorConsumer Optional callback to handle errors during streaming
      * @param configurationOverride Configuration overrides (e.g., additional headers)
-     * @return CompletableFuture<Void> that completes when streaming finishes or exceptionally on error
+     * @return StreamHandle that completes when streaming finishes or exceptionally on error
      * @throws ApiException if the API call fails immediately
      * @throws FgaInvalidParameterException if required parameters are missing
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             String storeId,
             ListObjectsRequest body,
             Consumer<StreamedListObjectsResponse> consumer,
@@ -123,18 +124,99 @@ public class StreamedListObjectsApi extends BaseStreamingApi<StreamedListObjects
             ConfigurationOverride configurationOverride)
             throws ApiException, FgaInvalidParameterException {
         return streamedListObjects(
-                storeId, body, consumer, errorConsumer, this.configuration.override(configurationOverride));
+                storeId, body, consumer, errorConsumer, this.configuration.override(configurationOverride), null);
+    }
+
+    /**
+     * Stream the objects of the given type that the user has a relation with, up to the given number of objects.
+     * Each streamed response is delivered to the consumer callback asynchronously as it arrives. Once {@code limit}
+     * objects have been delivered, the request is aborted and the returned StreamHandle completes normally.
+     *
+     * @param storeId The store ID
+     * @param body The list objects request
+     * @param consumer Callback to handle each StreamedListObjectsResponse (invoked asynchronously)
+     * @param errorConsumer Optional callback to handle errors during streaming
+     * @param configurationOverride Configuration overrides (e.g., additional headers)
+     * @param limit The number of objects after which the stream is stopped, or null to read the whole stream
+     * @return StreamHandle that completes when streaming finishes or exceptionally on error
+     * @throws ApiException if the API call fails immediately
+     * @throws FgaInvalidParameterException if required parameters are missing
+     * @throws IllegalArgumentException if the limit is less than 1
+     */
+    public StreamHandle streamedListObjects(
+            String storeId,
+            ListObjectsRequest body,
+            Consumer<StreamedListObjectsResponse> consumer,
+            Consumer<Throwable> errorConsumer,
+            ConfigurationOverride configurationOverride,
+            Integer limit)
+            throws ApiException, FgaInvalidParameterException {
+        assertValidLimit(limit);
+        return streamedListObjects(
+                storeId, body, consumer, errorConsumer, this.configuration.override(configurationOverride), limit);
+    }
+
+    /**
+     * Publish all objects of the given type that the user has a relation with.
+     * The request is sent for every subscription, and objects are read from the response as the subscriber
+     * requests them. Cancelling the subscription aborts the request.
+     *
+     * @param storeId The store ID
+     * @param body The list objects request
+     * @param configurationOverride Configuration overrides (e.g., additional headers)
+     * @return A publisher of the StreamedListObjectsResponse objects. Subscriptions fail if the request cannot be
+     *         built.
+     * @throws FgaInvalidParameterException if required parameters are missing
+     */
+    public Flow.Publisher<StreamedListObjectsResponse> streamedListObjectsPublisher(
+            String storeId, ListObjectsRequest body, ConfigurationOverride configurationOverride)
+            throws FgaInvalidParameterException {
+        return streamedListObjectsPublisher(storeId, body, configurationOverride, null);
+    }
+
+    /**
+     * Publish the objects of the given type that the user has a relation with, up to the given number of objects.
+     * The request is sent for every subscription, and objects are read from the response as the subscriber
+     * requests them. Once {@code limit} objects have been published, the request is aborted and the subscription
+     * completes. Cancelling the subscription aborts the request.
+     *
+     * @param storeId The store ID
+     * @param body The list objects request
+     * @param configurationOverride Configuration overrides (e.g., additional headers)
+     * @param limit The number of objects after which the subscription completes, or null to read the whole stream
+     * @return A publisher of the StreamedListObjectsResponse objects. Subscriptions fail if the request cannot be
+     *         built.
+     * @throws FgaInvalidParameterException if required parameters are missing
+     * @throws IllegalArgumentException if the limit is less than 1
+     */
+    public Flow.Publisher<StreamedListObjectsResponse> streamedListObjectsPublisher(
+            String storeId, ListObjectsRequest body, ConfigurationOverride configurationOverride, Integer limit)
+            throws FgaInvalidParameterException {
+        assertParamExists(storeId, "storeId", "streamedListObjects");
+        assertParamExists(body, "body", "streamedListObjects");
+        assertValidLimit(limit);
+
+        String path = "/stores/{store_id}/streamed-list-objects"
+                .replace("{store_id}", StringUtil.urlEncode(storeId.toString()));
+
+        try {
+            return publishStreamingResponse(
+                    buildHttpRequest("POST", path, body, this.configuration.override(configurationOverride)), limit);
+        } catch (ApiException e) {
+            return failedPublisher(e);
+        }
     }
 
     /**
      * Internal implementation that accepts a final Configuration to use for the request.
      */
-    private CompletableFuture<Void> streamedListObjects(
+    private StreamHandle streamedListObjects(
             String storeId,
             ListObjectsRequest body,
             Consumer<StreamedListObjectsResponse> consumer,
             Consumer<Throwable> errorConsumer,
-            Configuration configuration)
+            Configuration configuration,
+            Integer limit)
             throws ApiException, FgaInvalidParameterException {
 
         assertParamExists(storeId, "storeId", "streamedListObjects");
@@ -145,12 +227,18 @@ public class StreamedListObjectsApi extends BaseStreamingApi<StreamedListObjects
 
         try {
             HttpRequest request = buildHttpRequest("POST", path, body, configuration);
-            return processStreamingResponse(request, consumer, errorConsumer);
+            return processStreamingResponse(request, consumer, errorConsumer, limit);
         } catch (Exception e) {
             if (errorConsumer != null) {
                 errorConsumer.accept(e);
             }
-            return CompletableFuture.failedFuture(e);
+            return StreamHandle.failed(e);
+        }
+    }
+
+    private static void assertValidLimit(Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit must be greater than 0");
         }
     }
 }
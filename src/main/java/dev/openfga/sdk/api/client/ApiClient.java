@@ -14,6 +14,7 @@ import dev.openfga.sdk.api.configuration.Credentials;
 import dev.openfga.sdk.api.configuration.CredentialsMethod;
 import dev.openfga.sdk.errors.ApiException;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
 import dev.openfga.sdk.util.StringUtil;
 import java.io.InputStream;
 import java.net.URI;
@@ -50,9 +51,17 @@ public class ApiClient {
     private HttpClient.Builder builder;
     private HttpClient client;
     private ObjectMapper mapper;
+    private ReaderWriterRegistry readerWriterRegistry;
     private Consumer<HttpRequest.Builder> interceptor;
     private Consumer<HttpResponse<InputStream>> responseInterceptor;
     private Consumer<HttpResponse<String>> asyncResponseInterceptor;
+    private HttpClient.Version httpVersion;
+    private ConcurrencyLimiter concurrentStreamsLimiter;
+    // Whether the settings above were applied from a Configuration, which a later one may then reset
+    private boolean httpVersionConfigured;
+    private boolean maxConcurrentStreamsConfigured;
+    private final FgaTransport defaultTransport = new HttpClientTransport(this::getHttpClient);
+    private FgaTransport transport;
     private final ConcurrentMap<CredentialsCacheKey, OAuth2Client> oAuth2Clients = new ConcurrentHashMap<>();
 
     /**
@@ -61,6 +70,7 @@ public class ApiClient {
     public ApiClient() {
         this.builder = createDefaultHttpClientBuilder();
         this.mapper = createDefaultObjectMapper();
+        this.readerWriterRegistry = warmedRegistry(this.mapper);
         this.client = this.builder.build();
         interceptor = null;
         responseInterceptor = null;
@@ -79,6 +89,7 @@ public class ApiClient {
     public ApiClient(HttpClient.Builder builder) {
         this.builder = builder;
         this.mapper = createDefaultObjectMapper();
+        this.readerWriterRegistry = warmedRegistry(this.mapper);
         this.client = this.builder.build();
         interceptor = null;
         responseInterceptor = null;
@@ -98,6 +109,7 @@ public class ApiClient {
     public ApiClient(HttpClient.Builder builder, ObjectMapper mapper) {
         this.builder = builder;
         this.mapper = mapper;
+        this.readerWriterRegistry = warmedRegistry(this.mapper);
         this.client = this.builder.build();
         interceptor = null;
         responseInterceptor = null;
@@ -179,9 +191,17 @@ public class ApiClient {
         mapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
         mapper.registerModule(new JavaTimeModule());
         mapper.registerModule(new JsonNullableModule());
+        mapper.registerModule(new CheckCodecModule());
         return mapper;
     }
 
+    /**
+     * Creates the registry of readers and writers of the given mapper, warmed with every model of the API.
+     */
+    private static ReaderWriterRegistry warmedRegistry(ObjectMapper mapper) {
+        return new ReaderWriterRegistry(mapper).warm(ReaderWriterRegistry.MODEL_CLASSES);
+    }
+
     protected String getDefaultBaseUri() {
         return "http://localhost";
     }
@@ -229,15 +249,127 @@ public class ApiClient {
         return builder;
     }
 
+    /**
+     * Set a custom {@link FgaTransport} to send the requests of the API client with, instead of the
+     * {@link HttpClient}. Retries, telemetry and authentication are still handled by the SDK.
+     * <p>
+     * Note that settings of the {@link HttpClient.Builder} and transport settings of a {@link Configuration}
+     * (e.g. connect timeout and HTTP version) only apply to the default transport.
+     *
+     * @param transport Custom transport. A value of null resets the transport to the default one.
+     * @return This object.
+     */
+    public ApiClient setTransport(FgaTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Get the {@link FgaTransport} requests are sent with. Unless a custom transport is set, requests are sent
+     * with the current {@link HttpClient} (see {@link #getHttpClient()}).
+     *
+     * @return The transport.
+     */
+    public FgaTransport getTransport() {
+        return transport != null ? transport : defaultTransport;
+    }
+
+    /**
+     * Set the HTTP protocol version of the {@link HttpClient}, as {@link HttpClient.Builder#version} does on the
+     * current {@link HttpClient.Builder}. The {@link HttpClient} is only rebuilt if its version changes.
+     *
+     * @param httpVersion The HTTP version. A value of null restores the default (HTTP/1.1) if a version was set with
+     *                    this method, and otherwise keeps the version of the current {@link HttpClient.Builder}.
+     * @return This object.
+     */
+    public ApiClient setHttpVersion(HttpClient.Version httpVersion) {
+        httpVersionConfigured = false;
+        if (httpVersion == null && this.httpVersion == null) {
+            return this;
+        }
+        this.httpVersion = httpVersion;
+        HttpClient.Version version = httpVersion != null ? httpVersion : HttpClient.Version.HTTP_1_1;
+        if (client.version() != version) {
+            setHttpClientBuilder(builder.version(version));
+        }
+        return this;
+    }
+
+    /**
+     * Get the HTTP protocol version set with {@link #setHttpVersion(HttpClient.Version)}.
+     *
+     * @return The HTTP version, or null if the version of the {@link HttpClient.Builder} is used.
+     */
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Limit the number of requests sent concurrently over the {@link HttpClient}. With HTTP/2 this caps the number
+     * of streams multiplexed over the connection, so the client does not exceed the limit advertised by the server.
+     * Requests over the limit are queued without blocking the caller.
+     *
+     * @param maxConcurrentStreams The maximum number of concurrent requests, or null to remove the limit.
+     * @return This object.
+     */
+    public ApiClient setMaxConcurrentStreams(Integer maxConcurrentStreams) {
+        maxConcurrentStreamsConfigured = false;
+        if (maxConcurrentStreams == null) {
+            this.concurrentStreamsLimiter = null;
+        } else if (concurrentStreamsLimiter == null
+                || concurrentStreamsLimiter.getMaxInFlight() != maxConcurrentStreams) {
+            this.concurrentStreamsLimiter = new ConcurrencyLimiter(maxConcurrentStreams);
+        }
+        return this;
+    }
+
+    /**
+     * Apply the HTTP version and the maximum number of concurrent streams of a {@link Configuration}. A setting the
+     * configuration leaves unset only resets a value applied by an earlier configuration, and keeps a value set
+     * directly on this object.
+     *
+     * @param configuration The configuration.
+     * @return This object.
+     */
+    public ApiClient applyHttpSettings(Configuration configuration) {
+        HttpClient.Version configuredHttpVersion = configuration.getHttpVersion();
+        if (configuredHttpVersion != null || httpVersionConfigured) {
+            setHttpVersion(configuredHttpVersion);
+            httpVersionConfigured = configuredHttpVersion != null;
+        }
+        Integer configuredMaxConcurrentStreams = configuration.getMaxConcurrentStreams();
+        if (configuredMaxConcurrentStreams != null || maxConcurrentStreamsConfigured) {
+            setMaxConcurrentStreams(configuredMaxConcurrentStreams);
+            maxConcurrentStreamsConfigured = configuredMaxConcurrentStreams != null;
+        }
+        return this;
+    }
+
+    /**
+     * Get the limiter applied to requests sent over the {@link HttpClient}.
+     *
+     * @return The limiter, or null if the number of concurrent requests is not limited.
+     */
+    public ConcurrencyLimiter getConcurrentStreamsLimiter() {
+        return concurrentStreamsLimiter;
+    }
+
     /**
      * Set a custom {@link ObjectMapper} to serialize and deserialize the request
      * and response bodies.
+     * <p>
+     * The readers and writers of the mapper are created ahead of their first use, by this
+     * method. They follow later changes to the configuration of the mapper.
+     * <p>
+     * The mapper is used as it is: unlike the default mapper, it does not get the {@link CheckCodecModule} unless
+     * it is registered on it.
      *
      * @param mapper Custom object mapper.
      * @return This object.
      */
     public ApiClient setObjectMapper(ObjectMapper mapper) {
         this.mapper = mapper;
+        this.readerWriterRegistry = warmedRegistry(mapper);
         return this;
     }
 
@@ -250,6 +382,16 @@ public class ApiClient {
         return mapper;
     }
 
+    /**
+     * Get the registry of readers and writers of the current {@link ObjectMapper}, used to serialize and
+     * deserialize the request and response bodies.
+     *
+     * @return the current registry.
+     */
+    public ReaderWriterRegistry getReaderWriterRegistry() {
+        return readerWriterRegistry;
+    }
+
     /**
      * Set a custom request interceptor.
      *
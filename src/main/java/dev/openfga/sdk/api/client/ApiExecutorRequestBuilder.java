@@ -200,7 +200,7 @@ public class ApiExecutorRequestBuilder {
         if (hasBody()) {
             byte[] bodyBytes = body instanceof String
                     ? ((String) body).getBytes(StandardCharsets.UTF_8)
-                    : apiClient.getObjectMapper().writeValueAsBytes(body);
+                    : ReaderWriterRegistry.of(apiClient).writeValueAsBytes(body);
             httpRequestBuilder = ApiClient.requestBuilder(method.name(), resolvedPath, bodyBytes, configuration);
         } else {
             httpRequestBuilder = ApiClient.requestBuilder(method.name(), resolvedPath, configuration);
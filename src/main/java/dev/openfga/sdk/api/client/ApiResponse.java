@@ -1,5 +1,6 @@
 package dev.openfga.sdk.api.client;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -13,7 +14,8 @@ import java.util.TreeMap;
 public class ApiResponse<T> {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final byte[] rawBody;
+    private volatile String rawResponse;
     private final T data;
 
     /**
@@ -22,12 +24,28 @@ public class ApiResponse<T> {
      * @param data The object deserialized from response bod
      */
     public ApiResponse(int statusCode, Map<String, List<String>> headers, String rawResponse, T data) {
+        this(statusCode, headers, null, rawResponse, data);
+    }
+
+    /**
+     * @param statusCode The status code of HTTP response
+     * @param headers The headers of HTTP response
+     * @param rawBody The bytes of the response body, only decoded if {@link #getRawResponse()} is called
+     * @param data The object deserialized from response body
+     */
+    ApiResponse(int statusCode, Map<String, List<String>> headers, byte[] rawBody, T data) {
+        this(statusCode, headers, rawBody, null, data);
+    }
+
+    private ApiResponse(
+            int statusCode, Map<String, List<String>> headers, byte[] rawBody, String rawResponse, T data) {
         this.statusCode = statusCode;
         Map<String, List<String>> responseHeaders = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
         for (Entry<String, List<String>> entry : headers.entrySet()) {
             responseHeaders.put(entry.getKey().toLowerCase(), entry.getValue());
         }
         this.headers = responseHeaders;
+        this.rawBody = rawBody;
         this.rawResponse = rawResponse;
         this.data = data;
     }
@@ -40,8 +58,17 @@ public class ApiResponse<T> {
         return headers;
     }
 
+    /**
+     * The response body as a string. When the response was received as bytes, they are decoded (as UTF-8) on the
+     * first call only.
+     */
     public String getRawResponse() {
-        return rawResponse;
+        String raw = rawResponse;
+        if (raw == null && rawBody != null) {
+            raw = new String(rawBody, StandardCharsets.UTF_8);
+            rawResponse = raw;
+        }
+        return raw;
     }
 
     public T getData() {
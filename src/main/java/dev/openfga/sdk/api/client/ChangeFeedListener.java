@@ -0,0 +1,29 @@
+package dev.openfga.sdk.api.client;
+
+import dev.openfga.sdk.api.model.TupleChange;
+import java.util.List;
+
+/**
+ * Receives the tuple changes read by a {@link ChangeFeedWatcher}.
+ */
+@FunctionalInterface
+public interface ChangeFeedListener {
+
+    /**
+     * Called with every non-empty page of changes, in the order they were made. When a listener throws, the
+     * continuation token is not advanced and the same page is delivered again (to every listener) after a backoff.
+     *
+     * @param storeId The store the changes were made in.
+     * @param changes The changes.
+     */
+    void onChanges(String storeId, List<TupleChange> changes) throws Exception;
+
+    /**
+     * Called when reading the changes, saving the continuation token or calling a listener failed. The watcher keeps
+     * running and retries after a backoff.
+     *
+     * @param storeId The store being watched.
+     * @param error The failure.
+     */
+    default void onError(String storeId, Throwable error) {}
+}
@@ -0,0 +1,243 @@
+package dev.openfga.sdk.api.client;
+
+import dev.openfga.sdk.api.OpenFgaApi;
+import dev.openfga.sdk.api.configuration.ClientChangeFeedWatcherOptions;
+import dev.openfga.sdk.api.configuration.ConfigurationOverride;
+import dev.openfga.sdk.api.model.ReadChangesResponse;
+import dev.openfga.sdk.api.model.TupleChange;
+import dev.openfga.sdk.util.ExponentialBackoff;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tails the changes of a store in the background by polling the ReadChanges API, and passes every page of changes to
+ * its {@link ChangeFeedListener}s.
+ *
+ * <p>Each watched type (or the whole store) has its own continuation token, loaded from and saved to a
+ * {@link ContinuationTokenStore}. A token is saved only after every listener has received the changes before it, so
+ * changes are delivered at least once. Polling adapts to the rate of changes: a page with changes is followed by the
+ * next page right away, and an idle store is polled less and less often, from
+ * {@link ClientChangeFeedWatcherOptions#getMinPollInterval()} up to
+ * {@link ClientChangeFeedWatcherOptions#getMaxPollInterval()}. Failures are retried with exponential backoff, capped at
+ * the maximum interval.</p>
+ *
+ * <p>Create a watcher with {@link OpenFgaClient#changeFeedWatcher(ClientChangeFeedWatcherOptions)}, add listeners
+ * and {@link #start()} it. {@link OpenFgaClient#decisionCacheInvalidator()} is a listener that keeps the decision cache
+ * of a client consistent with writes made by other processes.</p>
+ */
+public class ChangeFeedWatcher implements AutoCloseable {
+    private static final int MAX_BACKOFF_RETRY_COUNT = 16;
+
+    private final OpenFgaApi api;
+    private final String storeId;
+    private final Integer pageSize;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final ConfigurationOverride overrides;
+    private final ContinuationTokenStore tokenStore;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final List<ChangeFeedListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Cursor> cursors = new ArrayList<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final OffsetDateTime configuredStartTime;
+    private volatile OffsetDateTime startTime;
+    private volatile boolean closed;
+
+    ChangeFeedWatcher(OpenFgaApi api, String storeId, ClientChangeFeedWatcherOptions options) {
+        this.api = api;
+        this.storeId = storeId;
+        this.pageSize = options.getPageSize();
+        this.minPollInterval = options.getMinPollInterval();
+        this.maxPollInterval = options.getMaxPollInterval().compareTo(minPollInterval) < 0
+                ? minPollInterval
+                : options.getMaxPollInterval();
+        this.overrides = new ConfigurationOverride().addHeaders(options);
+        this.tokenStore = options.getContinuationTokenStore() != null
+                ? options.getContinuationTokenStore()
+                : ContinuationTokenStore.inMemory();
+        this.ownsScheduler = options.getScheduler() == null;
+        this.scheduler = ownsScheduler
+                ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "openfga-change-feed");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : options.getScheduler();
+        this.configuredStartTime = options.getStartTime();
+        if (options.getTypes() == null || options.getTypes().isEmpty()) {
+            cursors.add(new Cursor(null));
+        } else {
+            options.getTypes().forEach(type -> cursors.add(new Cursor(type)));
+        }
+    }
+
+    /**
+     * Add a listener. Listeners added after the watcher was started receive the pages read after they were added.
+     *
+     * @return This watcher.
+     */
+    public ChangeFeedWatcher addListener(ChangeFeedListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Start polling. Calling this method again has no effect.
+     *
+     * @return This watcher.
+     * @throws IllegalStateException If the watcher was closed.
+     */
+    public ChangeFeedWatcher start() {
+        if (closed) {
+            throw new IllegalStateException("ChangeFeedWatcher is closed");
+        }
+        if (started.compareAndSet(false, true)) {
+            startTime = configuredStartTime != null ? configuredStartTime : OffsetDateTime.now();
+            cursors.forEach(cursor -> schedule(cursor, Duration.ZERO));
+        }
+        return this;
+    }
+
+    public boolean isRunning() {
+        return started.get() && !closed;
+    }
+
+    public String getStoreId() {
+        return storeId;
+    }
+
+    /**
+     * Stop polling. A page that is being delivered to the listeners is delivered in full, but its continuation token
+     * may not be saved. The scheduler is shut down unless it was given in the options.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Cursor cursor : cursors) {
+            ScheduledFuture<?> next = cursor.next;
+            if (next != null) {
+                next.cancel(false);
+            }
+        }
+        if (ownsScheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void poll(Cursor cursor) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!cursor.loaded) {
+                cursor.token = emptyToNull(tokenStore.load(storeId, cursor.type));
+                cursor.loaded = true;
+            }
+            api.readChanges(
+                            storeId,
+                            cursor.type,
+                            pageSize,
+                            cursor.token,
+                            cursor.token == null ? startTime : null,
+                            overrides)
+                    .whenCompleteAsync((response, throwable) -> onPage(cursor, response, throwable), scheduler);
+        } catch (Throwable throwable) {
+            onFailure(cursor, throwable);
+        }
+    }
+
+    private void onPage(Cursor cursor, ApiResponse<ReadChangesResponse> response, Throwable throwable) {
+        if (closed) {
+            return;
+        }
+        if (throwable != null) {
+            onFailure(cursor, throwable);
+            return;
+        }
+        ReadChangesResponse page = response.getData();
+        List<TupleChange> changes = page != null && page.getChanges() != null ? page.getChanges() : List.of();
+        String token = page != null ? emptyToNull(page.getContinuationToken()) : null;
+        try {
+            if (!changes.isEmpty()) {
+                for (ChangeFeedListener listener : listeners) {
+                    listener.onChanges(storeId, changes);
+                }
+            }
+            if (token != null && !token.equals(cursor.token)) {
+                tokenStore.save(storeId, cursor.type, token);
+                cursor.token = token;
+            }
+        } catch (Throwable t) {
+            onFailure(cursor, t);
+            return;
+        }
+
+        cursor.failures = 0;
+        if (!changes.isEmpty()) {
+            cursor.idleInterval = minPollInterval;
+            schedule(cursor, Duration.ZERO);
+        } else {
+            schedule(cursor, cursor.idleInterval);
+            Duration doubled = cursor.idleInterval.multipliedBy(2);
+            cursor.idleInterval = doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+        }
+    }
+
+    private void onFailure(Cursor cursor, Throwable throwable) {
+        Throwable error = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        for (ChangeFeedListener listener : listeners) {
+            try {
+                listener.onError(storeId, error);
+            } catch (RuntimeException ignored) {
+                // A failing error handler must not stop the watcher
+            }
+        }
+        Duration backoff = ExponentialBackoff.calculateDelay(cursor.failures, minPollInterval);
+        cursor.failures = Math.min(cursor.failures + 1, MAX_BACKOFF_RETRY_COUNT);
+        schedule(cursor, backoff.compareTo(maxPollInterval) > 0 ? maxPollInterval : backoff);
+    }
+
+    private void schedule(Cursor cursor, Duration delay) {
+        if (closed) {
+            return;
+        }
+        try {
+            cursor.next = scheduler.schedule(() -> poll(cursor), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler was shut down
+        }
+    }
+
+    private static String emptyToNull(String token) {
+        return token == null || token.isEmpty() ? null : token;
+    }
+
+    /**
+     * The position of the watcher in the changes of one type. A cursor is only accessed by one poll at a time.
+     */
+    private final class Cursor {
+        private final String type;
+        private volatile String token;
+        private volatile boolean loaded;
+        private volatile Duration idleInterval = minPollInterval;
+        private volatile int failures;
+        private volatile ScheduledFuture<?> next;
+
+        private Cursor(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package dev.openfga.sdk.api.client;
+
+import dev.openfga.sdk.api.configuration.CheckBatchingConfiguration;
+import dev.openfga.sdk.api.model.BatchCheckItem;
+import dev.openfga.sdk.api.model.BatchCheckRequest;
+import dev.openfga.sdk.api.model.BatchCheckResponse;
+import dev.openfga.sdk.api.model.BatchCheckSingleResult;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent checks into {@code BatchCheck} requests.
+ *
+ * <p>Checks are grouped by store, authorization model, consistency and headers. The first check of a group opens a
+ * batch that is sent after {@link CheckBatchingConfiguration#getWindow()}, or as soon as it holds
+ * {@link CheckBatchingConfiguration#getMaxBatchSize()} checks. The checks of a batch are identified by their index,
+ * which is used as their correlation ID.</p>
+ *
+ * <p>A batch that only collected one check is sent as a regular check. A check whose result in the batch is an error
+ * is sent again as a regular check, so that callers see the same errors as without batching. When the batch request
+ * itself fails, every check of the batch fails with its error. This class is thread-safe.</p>
+ *
+ * <p>{@code BatchCheck} items have no {@code trace} flag and its results no {@code resolution}, so a check that asks
+ * for a trace is never batched: it is sent right away as a regular check and gets its resolution.</p>
+ */
+class CheckBatcher {
+    private final CheckBatchingConfiguration configuration;
+    private final BatchSender batchSender;
+    private final CheckSender checkSender;
+    private final Executor delayedExecutor;
+    private final Map<GroupKey, Batch> open = new HashMap<>();
+
+    /**
+     * Sends a batch of checks.
+     */
+    @FunctionalInterface
+    interface BatchSender {
+        CompletableFuture<ApiResponse<BatchCheckResponse>> send(
+                String storeId, BatchCheckRequest body, Map<String, String> headers);
+    }
+
+    /**
+     * Sends a single check.
+     */
+    @FunctionalInterface
+    interface CheckSender {
+        CompletableFuture<ApiResponse<CheckResponse>> send(
+                String storeId, CheckRequest body, Map<String, String> headers);
+    }
+
+    CheckBatcher(CheckBatchingConfiguration configuration, BatchSender batchSender, CheckSender checkSender) {
+        this(
+                configuration,
+                batchSender,
+                checkSender,
+                CompletableFuture.delayedExecutor(configuration.getWindow().toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    CheckBatcher(
+            CheckBatchingConfiguration configuration,
+            BatchSender batchSender,
+            CheckSender checkSender,
+            Executor delayedExecutor) {
+        this.configuration = configuration;
+        this.batchSender = batchSender;
+        this.checkSender = checkSender;
+        this.delayedExecutor = delayedExecutor;
+    }
+
+    CheckBatchingConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Add a check to the open batch of its group.
+     *
+     * @param storeId The store to check in.
+     * @param body The check. Its authorization model and consistency select the batch it is added to. A check with
+     *     {@code trace} set is not batched.
+     * @param headers The additional headers of the check, or null.
+     * @return The response of the check.
+     */
+    CompletableFuture<ApiResponse<CheckResponse>> submit(
+            String storeId, CheckRequest body, Map<String, String> headers) {
+        GroupKey groupKey = new GroupKey(storeId, body.getAuthorizationModelId(), body.getConsistency(), headers);
+        Pending pending = new Pending(body);
+        if (Boolean.TRUE.equals(body.getTrace())) {
+            // A batch would drop the trace
+            sendAlone(groupKey, pending);
+            return pending.future;
+        }
+        Batch batch;
+        boolean opened = false;
+        boolean full = false;
+        synchronized (this) {
+            batch = open.get(groupKey);
+            if (batch == null) {
+                batch = new Batch(groupKey);
+                open.put(groupKey, batch);
+                opened = true;
+            }
+            batch.checks.add(pending);
+            if (batch.checks.size() >= configuration.getMaxBatchSize()) {
+                open.remove(groupKey);
+                full = true;
+            }
+        }
+        if (full) {
+            send(batch);
+        } else if (opened) {
+            Batch windowed = batch;
+            delayedExecutor.execute(() -> sendAfterWindow(windowed));
+        }
+        return pending.future;
+    }
+
+    private void sendAfterWindow(Batch batch) {
+        synchronized (this) {
+            // The batch was already sent if it filled up during the window
+            if (!open.remove(batch.groupKey, batch)) {
+                return;
+            }
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        GroupKey groupKey = batch.groupKey;
+        if (batch.checks.size() == 1) {
+            sendAlone(groupKey, batch.checks.get(0));
+            return;
+        }
+
+        List<BatchCheckItem> items = new ArrayList<>(batch.checks.size());
+        for (int i = 0; i < batch.checks.size(); i++) {
+            CheckRequest check = batch.checks.get(i).body;
+            items.add(new BatchCheckItem()
+                    .tupleKey(check.getTupleKey())
+                    .contextualTuples(check.getContextualTuples())
+                    .context(check.getContext())
+                    .correlationId(Integer.toString(i)));
+        }
+        BatchCheckRequest body = new BatchCheckRequest().checks(items);
+        if (groupKey.authorizationModelId != null && !groupKey.authorizationModelId.isBlank()) {
+            body.authorizationModelId(groupKey.authorizationModelId);
+        }
+        if (groupKey.consistency != null) {
+            body.consistency(groupKey.consistency);
+        }
+
+        sendSafely(() -> batchSender.send(groupKey.storeId, body, groupKey.headers))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = unwrap(throwable);
+                        batch.checks.forEach(pending -> pending.future.completeExceptionally(cause));
+                        return;
+                    }
+                    Map<String, BatchCheckSingleResult> results =
+                            response.getData() != null ? response.getData().getResult() : null;
+                    for (int i = 0; i < batch.checks.size(); i++) {
+                        Pending pending = batch.checks.get(i);
+                        BatchCheckSingleResult result = results != null ? results.get(Integer.toString(i)) : null;
+                        if (result == null || result.getError() != null || result.getAllowed() == null) {
+                            sendAlone(groupKey, pending);
+                        } else {
+                            pending.future.complete(new ApiResponse<>(
+                                    response.getStatusCode(),
+                                    response.getHeaders(),
+                                    (String) null,
+                                    new CheckResponse().allowed(result.getAllowed())));
+                        }
+                    }
+                });
+    }
+
+    private void sendAlone(GroupKey groupKey, Pending pending) {
+        sendSafely(() -> checkSender.send(groupKey.storeId, pending.body, groupKey.headers))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        pending.future.completeExceptionally(unwrap(throwable));
+                    } else {
+                        pending.future.complete(response);
+                    }
+                });
+    }
+
+    private static <T> CompletableFuture<T> sendSafely(Supplier<CompletableFuture<T>> sender) {
+        try {
+            return sender.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private static final class Pending {
+        private final CheckRequest body;
+        private final CompletableFuture<ApiResponse<CheckResponse>> future = new CompletableFuture<>();
+
+        private Pending(CheckRequest body) {
+            this.body = body;
+        }
+    }
+
+    private static final class Batch {
+        private final GroupKey groupKey;
+        private final List<Pending> checks = new ArrayList<>();
+
+        private Batch(GroupKey groupKey) {
+            this.groupKey = groupKey;
+        }
+    }
+
+    private static final class GroupKey {
+        private final String storeId;
+        private final String authorizationModelId;
+        private final ConsistencyPreference consistency;
+        private final Map<String, String> headers;
+
+        private GroupKey(
+                String storeId,
+                String authorizationModelId,
+                ConsistencyPreference consistency,
+                Map<String, String> headers) {
+            this.storeId = storeId;
+            this.authorizationModelId = authorizationModelId;
+            this.consistency = consistency;
+            this.headers = headers == null || headers.isEmpty() ? null : new HashMap<>(headers);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof GroupKey)) {
+                return false;
+            }
+            GroupKey other = (GroupKey) o;
+            return Objects.equals(storeId, other.storeId)
+                    && Objects.equals(authorizationModelId, other.authorizationModelId)
+                    && consistency == other.consistency
+                    && Objects.equals(headers, other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(storeId, authorizationModelId, consistency, headers);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.openfga.sdk.api.model.BatchCheckItem;
+import dev.openfga.sdk.api.model.BatchCheckRequest;
+import dev.openfga.sdk.api.model.BatchCheckResponse;
+import dev.openfga.sdk.api.model.BatchCheckSingleResult;
+import dev.openfga.sdk.api.model.CheckError;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming codecs for the Check and BatchCheck payloads, the highest-volume requests of the SDK.
+ *
+ * <p>The requests ({@link CheckRequest}, {@link BatchCheckRequest}, {@link BatchCheckItem} and
+ * {@link CheckRequestTupleKey}) are written field by field with the {@link JsonGenerator}, and the responses
+ * ({@link CheckResponse} and {@link BatchCheckResponse}) are read token by token with the {@link JsonParser},
+ * instead of going through the reflective bean (de)serializers. The wire format is the one of the bean
+ * (de)serializers of the mapper created by {@link ApiClient}: same property order, null properties omitted unless
+ * the model always includes them, and unknown response properties handled by the {@link DeserializationContext}.
+ * The less frequent nested values (contextual tuples, context and check errors) are delegated to the mapper; the
+ * context goes through the bean property writer of its model, so that its annotations (which keep null map values)
+ * still apply.</p>
+ *
+ * <p>The module is registered on the default mapper only. A mapper given to {@link ApiClient#setObjectMapper} is used
+ * as it is, with its own (de)serializers for these payloads; register the module on it to use the codecs, provided
+ * that it omits null properties as the default mapper does.</p>
+ */
+public class CheckCodecModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString TUPLE_KEY = new SerializedString(CheckRequest.JSON_PROPERTY_TUPLE_KEY);
+    private static final SerializableString AUTHORIZATION_MODEL_ID =
+            new SerializedString(CheckRequest.JSON_PROPERTY_AUTHORIZATION_MODEL_ID);
+    private static final SerializableString TRACE = new SerializedString(CheckRequest.JSON_PROPERTY_TRACE);
+    private static final SerializableString CONSISTENCY = new SerializedString(CheckRequest.JSON_PROPERTY_CONSISTENCY);
+    private static final SerializableString CHECKS = new SerializedString(BatchCheckRequest.JSON_PROPERTY_CHECKS);
+    private static final SerializableString CORRELATION_ID =
+            new SerializedString(BatchCheckItem.JSON_PROPERTY_CORRELATION_ID);
+    private static final SerializableString USER = new SerializedString(CheckRequestTupleKey.JSON_PROPERTY_USER);
+    private static final SerializableString RELATION =
+            new SerializedString(CheckRequestTupleKey.JSON_PROPERTY_RELATION);
+    private static final SerializableString OBJECT = new SerializedString(CheckRequestTupleKey.JSON_PROPERTY_OBJECT);
+
+    public CheckCodecModule() {
+        super(CheckCodecModule.class.getSimpleName());
+        addSerializer(CheckRequest.class, new CheckRequestSerializer());
+        addSerializer(BatchCheckRequest.class, new BatchCheckRequestSerializer());
+        addSerializer(BatchCheckItem.class, new BatchCheckItemSerializer());
+        addSerializer(CheckRequestTupleKey.class, new CheckRequestTupleKeySerializer());
+        addDeserializer(CheckResponse.class, new CheckResponseDeserializer());
+        addDeserializer(BatchCheckResponse.class, new BatchCheckResponseDeserializer());
+    }
+
+    static class CheckRequestSerializer extends StdSerializer<CheckRequest> implements ResolvableSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private PropertyWriter context;
+
+        CheckRequestSerializer() {
+            super(CheckRequest.class);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            context = findBeanProperty(provider, CheckRequest.class, CheckRequest.JSON_PROPERTY_CONTEXT);
+        }
+
+        @Override
+        public void serialize(CheckRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(TUPLE_KEY);
+            writeTupleKey(value.getTupleKey(), gen);
+            if (value.getContextualTuples() != null) {
+                provider.defaultSerializeField(
+                        CheckRequest.JSON_PROPERTY_CONTEXTUAL_TUPLES, value.getContextualTuples(), gen);
+            }
+            if (value.getAuthorizationModelId() != null) {
+                gen.writeFieldName(AUTHORIZATION_MODEL_ID);
+                gen.writeString(value.getAuthorizationModelId());
+            }
+            if (value.getTrace() != null) {
+                gen.writeFieldName(TRACE);
+                gen.writeBoolean(value.getTrace());
+            }
+            if (value.getContext() != null) {
+                serializeAsField(context, value, gen, provider);
+            }
+            writeConsistency(value.getConsistency(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    static class BatchCheckRequestSerializer extends StdSerializer<BatchCheckRequest> implements ResolvableSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private PropertyWriter context;
+
+        BatchCheckRequestSerializer() {
+            super(BatchCheckRequest.class);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            context = findBeanProperty(provider, BatchCheckItem.class, BatchCheckItem.JSON_PROPERTY_CONTEXT);
+        }
+
+        @Override
+        public void serialize(BatchCheckRequest value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CHECKS);
+            List<BatchCheckItem> checks = value.getChecks();
+            if (checks == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(checks, checks.size());
+                for (BatchCheckItem check : checks) {
+                    writeBatchCheckItem(check, context, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            if (value.getAuthorizationModelId() != null) {
+                gen.writeFieldName(AUTHORIZATION_MODEL_ID);
+                gen.writeString(value.getAuthorizationModelId());
+            }
+            writeConsistency(value.getConsistency(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    static class BatchCheckItemSerializer extends StdSerializer<BatchCheckItem> implements ResolvableSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private PropertyWriter context;
+
+        BatchCheckItemSerializer() {
+            super(BatchCheckItem.class);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            context = findBeanProperty(provider, BatchCheckItem.class, BatchCheckItem.JSON_PROPERTY_CONTEXT);
+        }
+
+        @Override
+        public void serialize(BatchCheckItem value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            writeBatchCheckItem(value, context, gen, provider);
+        }
+    }
+
+    static class CheckRequestTupleKeySerializer extends StdSerializer<CheckRequestTupleKey> {
+        private static final long serialVersionUID = 1L;
+
+        CheckRequestTupleKeySerializer() {
+            super(CheckRequestTupleKey.class);
+        }
+
+        @Override
+        public void serialize(CheckRequestTupleKey value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            writeTupleKey(value, gen);
+        }
+    }
+
+    static class CheckResponseDeserializer extends StdDeserializer<CheckResponse> {
+        private static final long serialVersionUID = 1L;
+
+        CheckResponseDeserializer() {
+            super(CheckResponse.class);
+        }
+
+        @Override
+        public CheckResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CheckResponse response = new CheckResponse();
+            JsonToken t = startObject(p, ctxt, CheckResponse.class);
+            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case CheckResponse.JSON_PROPERTY_ALLOWED:
+                        response.setAllowed(readBoolean(p, ctxt));
+                        break;
+                    case CheckResponse.JSON_PROPERTY_RESOLUTION:
+                        response.setResolution(readString(p, ctxt));
+                        break;
+                    default:
+                        ctxt.handleUnknownProperty(p, this, CheckResponse.class, name);
+                }
+            }
+            return response;
+        }
+    }
+
+    static class BatchCheckResponseDeserializer extends StdDeserializer<BatchCheckResponse> {
+        private static final long serialVersionUID = 1L;
+
+        BatchCheckResponseDeserializer() {
+            super(BatchCheckResponse.class);
+        }
+
+        @Override
+        public BatchCheckResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BatchCheckResponse response = new BatchCheckResponse();
+            JsonToken t = startObject(p, ctxt, BatchCheckResponse.class);
+            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if (BatchCheckResponse.JSON_PROPERTY_RESULT.equals(name)) {
+                    response.setResult(value == JsonToken.VALUE_NULL ? null : readResults(p, ctxt));
+                } else {
+                    ctxt.handleUnknownProperty(p, this, BatchCheckResponse.class, name);
+                }
+            }
+            return response;
+        }
+
+        private Map<String, BatchCheckSingleResult> readResults(JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+            Map<String, BatchCheckSingleResult> results = new LinkedHashMap<>();
+            JsonToken t = startObject(p, ctxt, Map.class);
+            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String correlationId = p.currentName();
+                JsonToken value = p.nextToken();
+                results.put(correlationId, value == JsonToken.VALUE_NULL ? null : readResult(p, ctxt));
+            }
+            return results;
+        }
+
+        private BatchCheckSingleResult readResult(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BatchCheckSingleResult result = new BatchCheckSingleResult();
+            JsonToken t = startObject(p, ctxt, BatchCheckSingleResult.class);
+            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (name) {
+                    case BatchCheckSingleResult.JSON_PROPERTY_ALLOWED:
+                        result.setAllowed(readBoolean(p, ctxt));
+                        break;
+                    case BatchCheckSingleResult.JSON_PROPERTY_ERROR:
+                        result.setError(value == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, CheckError.class));
+                        break;
+                    default:
+                        ctxt.handleUnknownProperty(p, this, BatchCheckSingleResult.class, name);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static void writeBatchCheckItem(
+            BatchCheckItem value, PropertyWriter context, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(TUPLE_KEY);
+        writeTupleKey(value.getTupleKey(), gen);
+        if (value.getContextualTuples() != null) {
+            provider.defaultSerializeField(
+                    BatchCheckItem.JSON_PROPERTY_CONTEXTUAL_TUPLES, value.getContextualTuples(), gen);
+        }
+        if (value.getContext() != null) {
+            serializeAsField(context, value, gen, provider);
+        }
+        gen.writeFieldName(CORRELATION_ID);
+        gen.writeString(value.getCorrelationId());
+        gen.writeEndObject();
+    }
+
+    private static void writeTupleKey(CheckRequestTupleKey tupleKey, JsonGenerator gen) throws IOException {
+        if (tupleKey == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(tupleKey);
+        gen.writeFieldName(USER);
+        gen.writeString(tupleKey.getUser());
+        gen.writeFieldName(RELATION);
+        gen.writeString(tupleKey.getRelation());
+        gen.writeFieldName(OBJECT);
+        gen.writeString(tupleKey.getObject());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Finds the writer of a property in the bean serializer of a model, which the mapper would otherwise use.
+     */
+    private static PropertyWriter findBeanProperty(SerializerProvider provider, Class<?> type, String name)
+            throws JsonMappingException {
+        JsonSerializer<Object> serializer =
+                BeanSerializerFactory.instance.createSerializer(provider, provider.constructType(type));
+        if (serializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) serializer).resolve(provider);
+        }
+        for (var properties = serializer.properties(); properties.hasNext(); ) {
+            PropertyWriter property = properties.next();
+            if (property.getName().equals(name)) {
+                return property;
+            }
+        }
+        throw JsonMappingException.from(provider, "No property '" + name + "' in " + type.getName());
+    }
+
+    private static void serializeAsField(
+            PropertyWriter property, Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try {
+            property.serializeAsField(bean, gen, provider);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw JsonMappingException.from(gen, e.getMessage(), e);
+        }
+    }
+
+    private static void writeConsistency(ConsistencyPreference consistency, JsonGenerator gen) throws IOException {
+        if (consistency != null) {
+            gen.writeFieldName(CONSISTENCY);
+            gen.writeString(consistency.getValue());
+        }
+    }
+
+    /**
+     * Moves past the start of an object and returns its first field name token, or {@link JsonToken#END_OBJECT}
+     * if it is empty.
+     */
+    private static JsonToken startObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (t == JsonToken.FIELD_NAME || t == JsonToken.END_OBJECT) {
+            return t;
+        }
+        ctxt.handleUnexpectedToken(type, p);
+        return JsonToken.END_OBJECT;
+    }
+
+    private static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                // Coercions (e.g. from strings) follow the configuration of the mapper
+                return ctxt.readValue(p, Boolean.class);
+        }
+    }
+
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_STRING:
+                return p.getText();
+            case VALUE_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, String.class);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.openfga.sdk.api.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists the continuation tokens of a {@link ChangeFeedWatcher}, so that a restarted watcher resumes where the
+ * previous one stopped instead of reading the changes of the store again.
+ *
+ * <p>A token is saved only after the listeners have received the changes before it, so changes are delivered at least
+ * once. Implementations are called from the scheduler of the watcher, one call at a time per store and type.</p>
+ */
+public interface ContinuationTokenStore {
+
+    /**
+     * Load the continuation token of a store and type.
+     *
+     * @param storeId The store being watched.
+     * @param type The type being watched, or null if all the changes of the store are watched.
+     * @return The last saved token, or null if none was saved.
+     */
+    String load(String storeId, String type) throws Exception;
+
+    /**
+     * Save the continuation token of a store and type.
+     *
+     * @param storeId The store being watched.
+     * @param type The type being watched, or null if all the changes of the store are watched.
+     * @param continuationToken The token to resume from.
+     */
+    void save(String storeId, String type, String continuationToken) throws Exception;
+
+    /**
+     * Create a store that keeps the tokens in memory, for the lifetime of the process.
+     */
+    static ContinuationTokenStore inMemory() {
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        return new ContinuationTokenStore() {
+            @Override
+            public String load(String storeId, String type) {
+                return tokens.get(storeId + ' ' + (type != null ? type : ""));
+            }
+
+            @Override
+            public void save(String storeId, String type, String continuationToken) {
+                tokens.put(storeId + ' ' + (type != null ? type : ""), continuationToken);
+            }
+        };
+    }
+}
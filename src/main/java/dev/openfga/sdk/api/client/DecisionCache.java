@@ -0,0 +1,389 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.openfga.sdk.api.configuration.DecisionCacheConfiguration;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.ContextualTupleKeys;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * A client-side cache of check decisions, with a time to live and least-recently-used eviction once it holds
+ * {@link DecisionCacheConfiguration#getMaxEntries()} decisions.
+ *
+ * <p>Decisions are keyed by store, authorization model, tuple key, contextual tuples and context. Contextual tuples
+ * and context are part of the key as canonical JSON (with map entries ordered by key), so that equal values built in
+ * a different order share an entry. Only successful decisions are cached. This class is thread-safe.</p>
+ *
+ * <p>Writes made through the client invalidate the decisions they may change with
+ * {@link #invalidate(String, String, String)}, so that a process reads its own writes. An invalidation index maps
+ * every object, user and object type to the decisions that mention it. Writing a tuple removes the decisions about
+ * its object and its user. A tuple whose user is a userset ({@code group:eng#member}) or a wildcard
+ * ({@code user:*}) changes the relations of users that are not known here, so it removes every decision about
+ * objects of its type. Changes that propagate to objects of other types through the model are only bounded by the
+ * time to live.</p>
+ *
+ * <p>A decision evaluated while a write was in flight may predate it. The cache records when each object, user and
+ * type was last invalidated, and drops a decision whose check was sent before an invalidation that would have removed
+ * it; decisions about other objects and users are still cached. The records are bounded: once 10,000 are kept, the
+ * oldest are forgotten, and decisions whose checks were sent before them are dropped.</p>
+ */
+public class DecisionCache {
+    private static final int MAX_INVALIDATIONS = 10_000;
+
+    private final DecisionCacheConfiguration configuration;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Listener listener;
+    private final LongSupplier nanoTime;
+    private final ObjectWriter canonicalWriter;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<Key>> byObject = new HashMap<>();
+    private final Map<String, Set<Key>> byUser = new HashMap<>();
+    private final Map<String, Set<Key>> byType = new HashMap<>();
+    // The version of the last invalidation of each object, user and type, oldest first
+    private final LinkedHashMap<String, Long> invalidations = new LinkedHashMap<>();
+    // Invalidations up to this version are no longer recorded, so decisions sent before it are dropped
+    private long forgottenVersion;
+    private long version;
+
+    /**
+     * Receives the hits, misses and evictions of a {@link DecisionCache}, outside of its lock.
+     */
+    public interface Listener {
+        default void onHit(Key key) {}
+
+        default void onMiss(Key key) {}
+
+        default void onEviction(Key key) {}
+    }
+
+    public DecisionCache(DecisionCacheConfiguration configuration, ObjectMapper mapper, Listener listener) {
+        this(configuration, mapper, listener, System::nanoTime);
+    }
+
+    DecisionCache(
+            DecisionCacheConfiguration configuration, ObjectMapper mapper, Listener listener, LongSupplier nanoTime) {
+        this.configuration = configuration;
+        this.ttlNanos = configuration.getTtl().toNanos();
+        this.maxEntries = configuration.getMaxEntries();
+        this.listener = listener != null ? listener : new Listener() {};
+        this.nanoTime = nanoTime;
+        this.canonicalWriter = (mapper != null ? mapper : new ObjectMapper())
+                .writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    public DecisionCacheConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Build the key of a check.
+     *
+     * @return The key, or null if the contextual tuples or the context cannot be serialized, in which case the check
+     *     should not be cached.
+     */
+    public Key key(
+            String storeId,
+            String authorizationModelId,
+            CheckRequestTupleKey tupleKey,
+            ContextualTupleKeys contextualTuples,
+            Object context) {
+        try {
+            return new Key(
+                    storeId,
+                    authorizationModelId,
+                    tupleKey.getUser(),
+                    tupleKey.getRelation(),
+                    tupleKey.getObject(),
+                    contextualTuples != null ? canonicalWriter.writeValueAsString(contextualTuples) : null,
+                    context != null ? canonicalWriter.writeValueAsString(context) : null);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get a cached decision.
+     *
+     * @return The decision, or null if it is not cached or has expired.
+     */
+    public Boolean get(Key key) {
+        Boolean allowed = null;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (nanoTime.getAsLong() - entry.createdAt < ttlNanos) {
+                    allowed = entry.allowed;
+                } else {
+                    remove(key);
+                }
+            }
+        }
+        if (allowed != null) {
+            listener.onHit(key);
+        } else {
+            listener.onMiss(key);
+        }
+        return allowed;
+    }
+
+    /**
+     * Get the current version of the cache, which increases on every invalidation. Read it before sending a check
+     * and pass it to {@link #put(Key, boolean, long)} with the decision.
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Cache a decision, evicting the least recently used decisions if the cache is full. The decision is dropped if
+     * an invalidation since {@code version} would have removed it, as it may have been evaluated before a write.
+     *
+     * @param version The {@link #version()} read before the check was sent.
+     */
+    public void put(Key key, boolean allowed, long version) {
+        List<Key> evicted = null;
+        synchronized (this) {
+            if (invalidatedSince(key, version)) {
+                return;
+            }
+            if (entries.put(key, new Entry(allowed, nanoTime.getAsLong())) == null) {
+                index(byObject, key.storeId, key.object, key);
+                index(byUser, key.storeId, key.user, key);
+                index(byType, key.storeId, typeOf(key.object), key);
+            }
+            if (entries.size() > maxEntries) {
+                evicted = new ArrayList<>(entries.size() - maxEntries);
+                Iterator<Key> eldest = entries.keySet().iterator();
+                while (entries.size() > maxEntries) {
+                    Key eldestKey = eldest.next();
+                    eldest.remove();
+                    unindex(eldestKey);
+                    evicted.add(eldestKey);
+                }
+            }
+        }
+        if (evicted != null) {
+            evicted.forEach(listener::onEviction);
+        }
+    }
+
+    /**
+     * Remove the decisions that writing or deleting a tuple may change.
+     *
+     * @param storeId The store of the tuple.
+     * @param user The user of the tuple.
+     * @param object The object of the tuple.
+     */
+    public synchronized void invalidate(String storeId, String user, String object) {
+        version++;
+        removeAll(byObject.get(indexKey(storeId, object)));
+        removeAll(byUser.get(indexKey(storeId, user)));
+        recordInvalidation(objectKey(storeId, object));
+        recordInvalidation(userKey(storeId, user));
+        if (user != null && (user.indexOf('#') >= 0 || user.endsWith(":*"))) {
+            removeAll(byType.get(indexKey(storeId, typeOf(object))));
+            recordInvalidation(typeKey(storeId, typeOf(object)));
+        }
+    }
+
+    /**
+     * Remove every cached decision.
+     */
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+        byObject.clear();
+        byUser.clear();
+        byType.clear();
+        invalidations.clear();
+        forgottenVersion = version;
+    }
+
+    /**
+     * Get the number of cached decisions, including expired decisions that have not been removed yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void recordInvalidation(String invalidationKey) {
+        // Removed first, so that the records stay ordered by version
+        invalidations.remove(invalidationKey);
+        invalidations.put(invalidationKey, version);
+        if (invalidations.size() > MAX_INVALIDATIONS) {
+            Iterator<Long> eldest = invalidations.values().iterator();
+            forgottenVersion = Math.max(forgottenVersion, eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private boolean invalidatedSince(Key key, long version) {
+        return version < forgottenVersion
+                || invalidatedSince(objectKey(key.storeId, key.object), version)
+                || invalidatedSince(userKey(key.storeId, key.user), version)
+                || invalidatedSince(typeKey(key.storeId, typeOf(key.object)), version);
+    }
+
+    private boolean invalidatedSince(String invalidationKey, long version) {
+        Long invalidated = invalidations.get(invalidationKey);
+        return invalidated != null && invalidated > version;
+    }
+
+    private static String objectKey(String storeId, String object) {
+        return "object " + indexKey(storeId, object);
+    }
+
+    private static String userKey(String storeId, String user) {
+        return "user " + indexKey(storeId, user);
+    }
+
+    private static String typeKey(String storeId, String type) {
+        return "type " + indexKey(storeId, type);
+    }
+
+    private void removeAll(Set<Key> keys) {
+        if (keys != null) {
+            // Copied, as removing the keys also removes them from the set
+            for (Key key : new ArrayList<>(keys)) {
+                remove(key);
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        if (entries.remove(key) != null) {
+            unindex(key);
+        }
+    }
+
+    private void unindex(Key key) {
+        unindex(byObject, key.storeId, key.object, key);
+        unindex(byUser, key.storeId, key.user, key);
+        unindex(byType, key.storeId, typeOf(key.object), key);
+    }
+
+    private static void index(Map<String, Set<Key>> index, String storeId, String value, Key key) {
+        index.computeIfAbsent(indexKey(storeId, value), k -> new HashSet<>()).add(key);
+    }
+
+    private static void unindex(Map<String, Set<Key>> index, String storeId, String value, Key key) {
+        String indexKey = indexKey(storeId, value);
+        Set<Key> keys = index.get(indexKey);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            index.remove(indexKey);
+        }
+    }
+
+    private static String indexKey(String storeId, String value) {
+        // Neither store IDs nor object and user identifiers contain whitespace
+        return storeId + ' ' + value;
+    }
+
+    private static String typeOf(String object) {
+        if (object == null) {
+            return null;
+        }
+        int colon = object.indexOf(':');
+        return colon >= 0 ? object.substring(0, colon) : object;
+    }
+
+    /**
+     * The key of a cached decision.
+     */
+    public static final class Key {
+        private final String storeId;
+        private final String authorizationModelId;
+        private final String user;
+        private final String relation;
+        private final String object;
+        private final String contextualTuples;
+        private final String context;
+        private final int hash;
+
+        Key(
+                String storeId,
+                String authorizationModelId,
+                String user,
+                String relation,
+                String object,
+                String contextualTuples,
+                String context) {
+            this.storeId = storeId;
+            this.authorizationModelId = authorizationModelId;
+            this.user = user;
+            this.relation = relation;
+            this.object = object;
+            this.contextualTuples = contextualTuples;
+            this.context = context;
+            this.hash = Objects.hash(storeId, authorizationModelId, user, relation, object, contextualTuples, context);
+        }
+
+        public String getStoreId() {
+            return storeId;
+        }
+
+        public String getAuthorizationModelId() {
+            return authorizationModelId;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public String getRelation() {
+            return relation;
+        }
+
+        public String getObject() {
+            return object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash
+                    && Objects.equals(storeId, other.storeId)
+                    && Objects.equals(authorizationModelId, other.authorizationModelId)
+                    && Objects.equals(user, other.user)
+                    && Objects.equals(relation, other.relation)
+                    && Objects.equals(object, other.object)
+                    && Objects.equals(contextualTuples, other.contextualTuples)
+                    && Objects.equals(context, other.context);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final boolean allowed;
+        private final long createdAt;
+
+        private Entry(boolean allowed, long createdAt) {
+            this.allowed = allowed;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dev.openfga.sdk.api.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The HTTP transport used to exchange requests and responses with the OpenFGA API.
+ *
+ * <p>A transport only sends requests and receives responses. Retries, telemetry, authentication and
+ * (de)serialization are handled by the SDK above it, so every transport behaves the same way for callers.
+ * By default, requests are sent with the JDK {@link java.net.http.HttpClient} (see {@link HttpClientTransport}).
+ * Another implementation, e.g. one backed by Netty or Jetty for finer connection pool control, or a blocking
+ * client running on virtual threads, can be plugged in with {@link ApiClient#setTransport(FgaTransport)}.</p>
+ *
+ * <p>Response bodies are read through the JDK {@link HttpResponse.BodyHandler} contract: once the status and
+ * headers are received, an implementation calls {@link HttpResponse.BodyHandler#apply(HttpResponse.ResponseInfo)}
+ * and feeds the body to the returned {@link HttpResponse.BodySubscriber}. The request body is available from
+ * {@link HttpRequest#bodyPublisher()}.</p>
+ *
+ * <p>Implementations must be thread-safe and must not block the calling thread.</p>
+ */
+public interface FgaTransport {
+
+    /**
+     * Send a unary request: the response body is read in full before the SDK processes it.
+     *
+     * @param request     The request, with authentication and headers already applied.
+     * @param bodyHandler The handler for the response body.
+     * @return A future completing with the response, or exceptionally if no response was received.
+     */
+    <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+
+    /**
+     * Send a streaming request: the response body is consumed incrementally while it is received, and the exchange
+     * may stay open for a long time. By default, streaming requests are sent like unary ones.
+     *
+     * @param request     The request, with authentication and headers already applied.
+     * @param bodyHandler The handler for the response body.
+     * @return A future completing with the response, or exceptionally if no response was received.
+     */
+    default <T> CompletableFuture<HttpResponse<T>> stream(
+            HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return send(request, bodyHandler);
+    }
+}
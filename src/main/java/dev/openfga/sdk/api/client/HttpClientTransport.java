@@ -0,0 +1,33 @@
+package dev.openfga.sdk.api.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link FgaTransport}, sending requests with the JDK {@link HttpClient}.
+ */
+public class HttpClientTransport implements FgaTransport {
+    private final Supplier<HttpClient> httpClient;
+
+    /**
+     * @param httpClient The http client requests are sent with.
+     */
+    public HttpClientTransport(HttpClient httpClient) {
+        this(() -> httpClient);
+    }
+
+    /**
+     * @param httpClient Supplies the http client for each request, e.g. the current client of an {@link ApiClient}.
+     */
+    public HttpClientTransport(Supplier<HttpClient> httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return httpClient.get().sendAsync(request, bodyHandler);
+    }
+}
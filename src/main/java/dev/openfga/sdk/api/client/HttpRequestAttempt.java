@@ -9,6 +9,7 @@ import dev.openfga.sdk.errors.*;
 import dev.openfga.sdk.telemetry.Attribute;
 import dev.openfga.sdk.telemetry.Attributes;
 import dev.openfga.sdk.telemetry.Telemetry;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
 import dev.openfga.sdk.util.RetryAfterHeaderParser;
 import dev.openfga.sdk.util.RetryStrategy;
 import java.io.IOException;
@@ -19,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class HttpRequestAttempt<T> {
@@ -95,17 +97,16 @@ public class HttpRequestAttempt<T> {
         addTelemetryAttribute(Attributes.HTTP_REQUEST_METHOD, request.method());
         addTelemetryAttribute(Attributes.USER_AGENT, configuration.getUserAgent());
 
-        return attemptHttpRequest(getHttpClient(), 0, null);
+        return attemptHttpRequest(getTransport(), 0, null);
     }
 
-    private HttpClient getHttpClient() {
-        return apiClient.getHttpClient();
+    private FgaTransport getTransport() {
+        return apiClient.getTransport();
     }
 
     private CompletableFuture<ApiResponse<T>> attemptHttpRequest(
-            HttpClient httpClient, int retryNumber, Throwable previousError) {
-        return httpClient
-                .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            FgaTransport transport, int retryNumber, Throwable previousError) {
+        return send(transport)
                 .handle((response, throwable) -> {
                     if (throwable != null) {
                         // Handle network errors (no HTTP response received)
@@ -118,6 +119,15 @@ public class HttpRequestAttempt<T> {
                 .thenCompose(Function.identity());
     }
 
+    private CompletableFuture<HttpResponse<byte[]>> send(FgaTransport transport) {
+        // The body is kept as bytes: it is deserialized from them, and only decoded to a string when needed
+        ConcurrencyLimiter limiter = apiClient.getConcurrentStreamsLimiter();
+        if (limiter == null) {
+            return transport.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        return limiter.submit(() -> transport.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
     private CompletableFuture<ApiResponse<T>> handleNetworkError(Throwable throwable, int retryNumber) {
         if (retryNumber < configuration.getMaxRetries()) {
             // Network errors should be retried with exponential backoff (no Retry-After header available)
@@ -143,6 +153,15 @@ public class HttpRequestAttempt<T> {
         // Add telemetry for HTTP error retry
         addTelemetryAttribute(Attributes.HTTP_REQUEST_RESEND_COUNT, String.valueOf(retryNumber + 1));
 
+        Consumer<FgaError> retryListener = configuration.getRetryListener();
+        if (retryListener != null) {
+            try {
+                retryListener.accept(error);
+            } catch (RuntimeException e) {
+                // A failing listener must not prevent the retry
+            }
+        }
+
         return delayedRetry(retryDelay, retryNumber + 1, error);
     }
 
@@ -164,14 +183,21 @@ public class HttpRequestAttempt<T> {
                         },
                         CompletableFuture.delayedExecutor(retryDelay.toNanos(), TimeUnit.NANOSECONDS))
                 .thenCompose(ignored -> {
-                    // Get HttpClient when needed (just returns cached instance)
-                    return attemptHttpRequest(getHttpClient(), nextRetryNumber, previousError);
+                    // Get the transport when needed (just returns cached instance)
+                    return attemptHttpRequest(getTransport(), nextRetryNumber, previousError);
                 });
     }
 
     private CompletableFuture<ApiResponse<T>> processHttpResponse(
-            HttpResponse<String> response, int retryNumber, Throwable previousError) {
-        Optional<FgaError> fgaError = FgaError.getError(name, request, configuration, response, previousError);
+            HttpResponse<byte[]> response, int retryNumber, Throwable previousError) {
+        Optional<FgaError> fgaError = FgaError.getError(
+                name,
+                request,
+                configuration,
+                response.statusCode(),
+                response.headers(),
+                () -> new String(response.body(), StandardCharsets.UTF_8),
+                previousError);
 
         if (fgaError.isPresent()) {
             FgaError error = fgaError.get();
@@ -221,25 +247,33 @@ public class HttpRequestAttempt<T> {
         telemetry.metrics().requestDuration(requestDuration, this.getTelemetryAttributes());
         telemetry.metrics().requestCount(1L, this.getTelemetryAttributes());
 
-        return deserializeResponse(response)
-                .thenApply(modeledResponse -> new ApiResponse<>(
-                        response.statusCode(), response.headers().map(), response.body(), modeledResponse));
+        return deserializeResponse(response).thenApply(modeledResponse -> toApiResponse(response, modeledResponse));
     }
 
-    private CompletableFuture<T> deserializeResponse(HttpResponse<String> response) {
-        if (clazz == Void.class && isNullOrWhitespace(response.body())) {
+    private ApiResponse<T> toApiResponse(HttpResponse<byte[]> response, T modeledResponse) {
+        Map<String, List<String>> headers = response.headers().map();
+        if (clazz == String.class) {
+            // The body is already decoded
+            return new ApiResponse<>(response.statusCode(), headers, (String) modeledResponse, modeledResponse);
+        }
+        return new ApiResponse<>(response.statusCode(), headers, response.body(), modeledResponse);
+    }
+
+    private CompletableFuture<T> deserializeResponse(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        if (clazz == Void.class && isBlank(body)) {
             return CompletableFuture.completedFuture(null);
         }
 
         // Return raw response body as-is for String.class
         if (clazz == String.class) {
             @SuppressWarnings("unchecked")
-            T raw = (T) response.body();
+            T raw = (T) new String(body, StandardCharsets.UTF_8);
             return CompletableFuture.completedFuture(raw);
         }
 
         try {
-            T deserialized = apiClient.getObjectMapper().readValue(response.body(), clazz);
+            T deserialized = ReaderWriterRegistry.of(apiClient).readValue(body, clazz);
             return CompletableFuture.completedFuture(deserialized);
         } catch (IOException e) {
             // Malformed response.
@@ -247,6 +281,18 @@ public class HttpRequestAttempt<T> {
         }
     }
 
+    private static boolean isBlank(byte[] body) {
+        if (body == null) {
+            return true;
+        }
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static class BodyLogger implements Flow.Subscriber<ByteBuffer> {
         private final PrintStream out;
         private final String target;
@@ -0,0 +1,100 @@
+package dev.openfga.sdk.api.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists the progress of a tuple import, so that an interrupted import resumes where it stopped instead of
+ * writing every tuple again.
+ *
+ * <p>The checkpoint of an import is an offset: the number of tuples, from the start of the source, that were all
+ * written or reported as failed. An import resumed from a checkpoint skips that many tuples of its source. Chunks are
+ * written in parallel, so tuples after the checkpoint may already have been written when an import is interrupted;
+ * they are written again when it resumes. Implementations are called one call at a time per import.</p>
+ */
+public interface ImportCheckpointStore {
+
+    /**
+     * Load the checkpoint of an import.
+     *
+     * @param importId The import, see {@code ClientImportTuplesOptions#importId(String)}.
+     * @return The last saved offset, or null if none was saved.
+     */
+    Long load(String importId) throws Exception;
+
+    /**
+     * Save the checkpoint of an import.
+     *
+     * @param importId The import.
+     * @param offset The number of tuples from the start of the source that were all written or reported as failed.
+     */
+    void save(String importId, long offset) throws Exception;
+
+    /**
+     * Create a store that keeps the checkpoints in memory, for the lifetime of the process.
+     */
+    static ImportCheckpointStore inMemory() {
+        Map<String, Long> offsets = new ConcurrentHashMap<>();
+        return new ImportCheckpointStore() {
+            @Override
+            public Long load(String importId) {
+                return offsets.get(importId);
+            }
+
+            @Override
+            public void save(String importId, long offset) {
+                offsets.put(importId, offset);
+            }
+        };
+    }
+
+    /**
+     * Create a store that keeps the checkpoints in a properties file, keyed by import. The file is replaced
+     * atomically on every save, so a process stopped while saving leaves the previous checkpoint.
+     *
+     * @param file The file to keep the checkpoints in. It is created on the first save.
+     */
+    static ImportCheckpointStore file(Path file) {
+        return new ImportCheckpointStore() {
+            @Override
+            public synchronized Long load(String importId) throws IOException {
+                String offset = read().getProperty(importId);
+                return offset != null ? Long.valueOf(offset) : null;
+            }
+
+            @Override
+            public synchronized void save(String importId, long offset) throws IOException {
+                Properties checkpoints = read();
+                checkpoints.setProperty(importId, Long.toString(offset));
+                Path directory = file.toAbsolutePath().getParent();
+                Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+                try {
+                    try (OutputStream out = Files.newOutputStream(temporary)) {
+                        checkpoints.store(out, "OpenFGA tuple import checkpoints");
+                    }
+                    Files.move(
+                            temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+
+            private Properties read() throws IOException {
+                Properties checkpoints = new Properties();
+                if (Files.exists(file)) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        checkpoints.load(in);
+                    }
+                }
+                return checkpoints;
+            }
+        };
+    }
+}
@@ -4,6 +4,7 @@ import static dev.openfga.sdk.util.StringUtil.isNullOrWhitespace;
 import static java.util.UUID.randomUUID;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.openfga.sdk.api.*;
 import dev.openfga.sdk.api.client.model.*;
 import dev.openfga.sdk.api.configuration.*;
@@ -11,20 +12,52 @@ import dev.openfga.sdk.api.model.*;
 import dev.openfga.sdk.api.model.StreamResult;
 import dev.openfga.sdk.constants.FgaConstants;
 import dev.openfga.sdk.errors.*;
+import dev.openfga.sdk.telemetry.Attribute;
+import dev.openfga.sdk.telemetry.Attributes;
 import dev.openfga.sdk.telemetry.Telemetry;
+import dev.openfga.sdk.util.AdaptiveBatchController;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
+import dev.openfga.sdk.util.IteratorPublisher;
+import dev.openfga.sdk.util.PublisherIterator;
+import dev.openfga.sdk.util.SlidingWindow;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class OpenFgaClient {
+    // The number of stores for which what adaptive batchCheck calls learnt is kept
+    private static final int MAX_BATCH_CONTROLLERS = 1_000;
+
     private final ApiClient apiClient;
+    private ConcurrencyLimiter requestLimiter;
+    private DecisionCache decisionCache;
+    private CheckBatcher checkBatcher;
+    private RequestCoalescer requestCoalescer;
+    // Guarded by itself, and evicts the controllers of the stores used least recently
+    private final Map<String, AdaptiveBatchController> batchControllers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AdaptiveBatchController> eldest) {
+            return size() > MAX_BATCH_CONTROLLERS;
+        }
+    };
     private Telemetry telemetry;
     private ClientConfiguration configuration;
     private OpenFgaApi api;
@@ -36,10 +69,73 @@ public class OpenFgaClient {
     public OpenFgaClient(ClientConfiguration configuration, ApiClient apiClient) throws FgaInvalidParameterException {
         this.apiClient = apiClient;
         this.configuration = configuration;
+        this.requestLimiter = createRequestLimiter(configuration);
+        this.decisionCache = createDecisionCache(configuration);
+        this.checkBatcher = createCheckBatcher(configuration);
+        this.requestCoalescer = createRequestCoalescer(configuration);
         this.telemetry = new Telemetry(configuration);
         this.api = new OpenFgaApi(configuration, apiClient, telemetry);
     }
 
+    private static ConcurrencyLimiter createRequestLimiter(ClientConfiguration configuration) {
+        return new ConcurrencyLimiter(configuration.getMaxInFlightRequests(), configuration.isPerStoreFairness());
+    }
+
+    private DecisionCache createDecisionCache(ClientConfiguration configuration) {
+        if (configuration.getDecisionCache() == null) {
+            return null;
+        }
+        // Metrics are recorded with the telemetry of the current configuration
+        var listener = new DecisionCache.Listener() {
+            @Override
+            public void onHit(DecisionCache.Key key) {
+                telemetry.metrics().decisionCacheHit(1L, decisionCacheAttributes(key));
+            }
+
+            @Override
+            public void onMiss(DecisionCache.Key key) {
+                telemetry.metrics().decisionCacheMiss(1L, decisionCacheAttributes(key));
+            }
+
+            @Override
+            public void onEviction(DecisionCache.Key key) {
+                telemetry.metrics().decisionCacheEviction(1L, decisionCacheAttributes(key));
+            }
+        };
+        return new DecisionCache(configuration.getDecisionCache(), apiClient.getObjectMapper(), listener);
+    }
+
+    private CheckBatcher createCheckBatcher(ClientConfiguration configuration) {
+        if (configuration.getCheckBatching() == null) {
+            return null;
+        }
+        // Batches are sent with the API of the current configuration. Like single checks, they do not go through
+        // the request limiter, which clientBatchCheck already holds while its checks are batched.
+        return new CheckBatcher(
+                configuration.getCheckBatching(),
+                (storeId, body, headers) -> call(() -> api.batchCheck(storeId, body, checkBatchOverrides(headers))),
+                (storeId, body, headers) -> call(() -> api.check(storeId, body, checkBatchOverrides(headers))));
+    }
+
+    private RequestCoalescer createRequestCoalescer(ClientConfiguration configuration) {
+        return configuration.isRequestCoalescing() ? new RequestCoalescer(apiClient.getObjectMapper()) : null;
+    }
+
+    private static ConfigurationOverride checkBatchOverrides(Map<String, String> headers) {
+        return new ConfigurationOverride().additionalHeaders(headers != null ? new HashMap<>(headers) : null);
+    }
+
+    private static Map<Attribute, String> decisionCacheAttributes(DecisionCache.Key key) {
+        Map<Attribute, String> attributes = new HashMap<>();
+        if (key.getStoreId() != null) {
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_STORE_ID, key.getStoreId());
+        }
+        if (key.getAuthorizationModelId() != null) {
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_MODEL_ID, key.getAuthorizationModelId());
+        }
+        return attributes;
+    }
+
     /* ***********
      * Utilities *
      *************/
@@ -114,7 +210,24 @@ public class OpenFgaClient {
     }
 
     public void setConfiguration(ClientConfiguration configuration) throws FgaInvalidParameterException {
+        var decisionCacheConfiguration = decisionCache != null ? decisionCache.getConfiguration() : null;
+        if (configuration.getDecisionCache() != decisionCacheConfiguration) {
+            this.decisionCache = createDecisionCache(configuration);
+        }
+        var checkBatchingConfiguration = checkBatcher != null ? checkBatcher.getConfiguration() : null;
+        if (configuration.getCheckBatching() != checkBatchingConfiguration) {
+            // Checks already added to a batch of the previous batcher are sent normally
+            this.checkBatcher = createCheckBatcher(configuration);
+        }
+        if (configuration.isRequestCoalescing() != (requestCoalescer != null)) {
+            this.requestCoalescer = createRequestCoalescer(configuration);
+        }
         this.configuration = configuration;
+        if (requestLimiter.getMaxInFlight() != configuration.getMaxInFlightRequests()
+                || requestLimiter.isFair() != configuration.isPerStoreFairness()) {
+            // Requests already dispatched by the previous limiter complete normally
+            this.requestLimiter = createRequestLimiter(configuration);
+        }
         this.telemetry = new Telemetry(configuration);
         this.api = new OpenFgaApi(configuration, apiClient, telemetry);
     }
@@ -280,7 +393,13 @@ public class OpenFgaClient {
         configuration.assertValid();
         String storeId = configuration.getStoreIdChecked();
         String authorizationModelId = configuration.getAuthorizationModelIdChecked();
-        return call(() -> api.readAuthorizationModel(storeId, authorizationModelId))
+        return coalesce(
+                        "ReadAuthorizationModel",
+                        storeId,
+                        authorizationModelId,
+                        authorizationModelId,
+                        null,
+                        () -> call(() -> api.readAuthorizationModel(storeId, authorizationModelId)))
                 .thenApply(ClientReadAuthorizationModelResponse::new);
     }
 
@@ -301,7 +420,13 @@ public class OpenFgaClient {
             authorizationModelId = configuration.getAuthorizationModelIdChecked();
         }
         var overrides = new ConfigurationOverride().addHeaders(options);
-        return call(() -> api.readAuthorizationModel(storeId, authorizationModelId, overrides))
+        return coalesce(
+                        "ReadAuthorizationModel",
+                        storeId,
+                        authorizationModelId,
+                        authorizationModelId,
+                        options,
+                        () -> call(() -> api.readAuthorizationModel(storeId, authorizationModelId, overrides)))
                 .thenApply(ClientReadAuthorizationModelResponse::new);
     }
 
@@ -365,6 +490,45 @@ public class OpenFgaClient {
                 .thenApply(ClientReadChangesResponse::new);
     }
 
+    /**
+     * Change Feed Watcher - Create a watcher that tails the changes of the current store in the background. The
+     * watcher keeps the store ID configured when it is created, and is started with {@link ChangeFeedWatcher#start()}.
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public ChangeFeedWatcher changeFeedWatcher(ClientChangeFeedWatcherOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        String storeId = configuration.getStoreIdChecked();
+        return new ChangeFeedWatcher(api, storeId, options != null ? options : new ClientChangeFeedWatcherOptions());
+    }
+
+    /**
+     * Returns a {@link ChangeFeedListener} that removes the cached decisions that the changes it receives may change,
+     * to keep the decision cache consistent with writes made by other clients. It does nothing when the decision cache
+     * is disabled.
+     *
+     * <pre>{@code
+     * client.changeFeedWatcher(new ClientChangeFeedWatcherOptions())
+     *     .addListener(client.decisionCacheInvalidator())
+     *     .start();
+     * }</pre>
+     */
+    public ChangeFeedListener decisionCacheInvalidator() {
+        return (storeId, changes) -> {
+            DecisionCache cache = decisionCache;
+            if (cache == null) {
+                return;
+            }
+            for (TupleChange change : changes) {
+                TupleKey tupleKey = change.getTupleKey();
+                if (tupleKey != null) {
+                    cache.invalidate(storeId, tupleKey.getUser(), tupleKey.getObject());
+                }
+            }
+        };
+    }
+
     /**
      * Read - Read tuples previously written to the store (does not evaluate)
      *
@@ -406,6 +570,325 @@ public class OpenFgaClient {
         return call(() -> api.read(storeId, body, overrides)).thenApply(ClientReadResponse::new);
     }
 
+    /**
+     * ReadAll - Read every page of tuples previously written to the store (does not evaluate)
+     *
+     * <p>Each subscription reads the pages one after the other from the first one, and reads the next pages while the
+     * tuples of the current one are consumed, up to {@link ClientReadAllOptions#getPrefetch()} pages ahead. Tuples are
+     * emitted as the subscriber requests them.</p>
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public Flow.Publisher<Tuple> readAll(ClientReadRequest request, ClientReadAllOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        configuration.getStoreIdChecked();
+
+        var readAllOptions = options != null ? options : new ClientReadAllOptions();
+        HashMap<String, String> headers = readAllOptions.getAdditionalHeaders() != null
+                ? new HashMap<>(readAllOptions.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "ReadAll");
+
+        return new TuplePublisher(
+                continuationToken -> call(() -> read(
+                        request,
+                        new ClientReadOptions()
+                                .additionalHeaders(headers)
+                                .pageSize(readAllOptions.getPageSize())
+                                .consistency(readAllOptions.getConsistency())
+                                .continuationToken(continuationToken))),
+                readAllOptions.getContinuationToken(),
+                readAllOptions.getPrefetch());
+    }
+
+    /**
+     * ReadAll - Iterate over every page of tuples previously written to the store (does not evaluate)
+     *
+     * <p>The iterator blocks while the page of the next tuple is being read. A failed read is thrown by
+     * {@link Iterator#hasNext()}, wrapped in a {@link CompletionException} when it is a checked exception. Close the
+     * iterator to stop reading pages when it is not consumed to the end.</p>
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     * @see #readAll(ClientReadRequest, ClientReadAllOptions)
+     */
+    public PublisherIterator<Tuple> readAllIterator(ClientReadRequest request, ClientReadAllOptions options)
+            throws FgaInvalidParameterException {
+        Integer pageSize = options != null ? options.getPageSize() : null;
+        return PublisherIterator.of(
+                readAll(request, options),
+                pageSize != null && pageSize > 0 ? pageSize : FgaConstants.CLIENT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * ReadAll - Stream every page of tuples previously written to the store (does not evaluate)
+     *
+     * <p>The stream reads pages as it is consumed, as with {@link #readAllIterator(ClientReadRequest,
+     * ClientReadAllOptions)}. Close the stream to stop reading pages when it is not consumed to the end.</p>
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     * @see #readAll(ClientReadRequest, ClientReadAllOptions)
+     */
+    public Stream<Tuple> readAllStream(ClientReadRequest request, ClientReadAllOptions options)
+            throws FgaInvalidParameterException {
+        PublisherIterator<Tuple> iterator = readAllIterator(request, options);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * SyncTuples - Make the tuples matching a filter equal to a desired set of tuples
+     *
+     * <p>The current tuples matching the filter are read page by page as with
+     * {@link #readAll(ClientReadRequest, ClientReadAllOptions)}, and compared with the desired tuples by their user,
+     * relation, object and condition. Only the desired tuples that are missing are written, and only the current
+     * tuples that are not desired are deleted. Nothing is written when the tuples are already in sync.</p>
+     *
+     * <p>The desired tuples are held in memory, as are the current tuples to delete until the changes are written.
+     * Current tuples that are already in sync are not kept once compared.</p>
+     *
+     * <p>The changes are applied in a single transaction unless transactions are disabled, in which case they are
+     * applied in chunks as with {@link #write(ClientWriteRequest, ClientWriteOptions)}. A desired tuple that exists
+     * with another condition is the exception: it is deleted with the other changes, then written again with its
+     * condition in a second request, so the tuple is missing between the two requests. If that second request fails,
+     * the tuple stays deleted and is returned among the writes with {@link ClientWriteStatus#FAILURE} and the error of
+     * the request.</p>
+     *
+     * @param filter The tuples to sync, as read by {@link #read(ClientReadRequest)}. Every desired tuple must match it.
+     * @param desired The tuples that should match the filter once synced.
+     * @return The writes and deletes that were applied, and the rewritten tuples that could not be written.
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace, or a desired tuple does not
+     *                                      match the filter
+     */
+    public CompletableFuture<ClientWriteResponse> syncTuples(
+            ClientReadRequest filter, List<ClientTupleKey> desired, ClientSyncTuplesOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        configuration.getStoreIdChecked();
+
+        if (filter == null) {
+            throw new FgaInvalidParameterException("filter", "syncTuples");
+        }
+        // Desired tuples by a compact key, removed as they are found among the current tuples
+        Map<String, ClientTupleKey> missing = new LinkedHashMap<>();
+        for (ClientTupleKey tuple : desired) {
+            if (!matches(filter, tuple)) {
+                throw new FgaInvalidParameterException(
+                        "The desired tuple " + tupleString(tuple.getUser(), tuple.getRelation(), tuple.getObject())
+                                + " does not match the filter of syncTuples");
+            }
+            missing.put(tupleString(tuple.getUser(), tuple.getRelation(), tuple.getObject()), tuple);
+        }
+
+        var syncOptions = options != null ? options : new ClientSyncTuplesOptions();
+        HashMap<String, String> headers = syncOptions.getAdditionalHeaders() != null
+                ? new HashMap<>(syncOptions.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "SyncTuples");
+        var readOptions = new ClientReadAllOptions()
+                .additionalHeaders(headers)
+                .pageSize(syncOptions.getPageSize())
+                .consistency(syncOptions.getConsistency());
+        var writeOptions = new ClientWriteOptions()
+                .additionalHeaders(headers)
+                .authorizationModelId(syncOptions.getAuthorizationModelId())
+                .disableTransactions(syncOptions.disableTransactions())
+                .transactionChunkSize(
+                        syncOptions.getTransactionChunkSize() > 0
+                                ? syncOptions.getTransactionChunkSize()
+                                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS)
+                .maxParallelRequests(syncOptions.getMaxParallelRequests());
+
+        List<ClientTupleKeyWithoutCondition> deletes = new ArrayList<>();
+        List<ClientTupleKey> rewrites = new ArrayList<>();
+        ObjectMapper mapper = apiClient.getObjectMapper();
+
+        return forEachTuple(readAll(filter, readOptions), tuple -> {
+                    TupleKey current = tuple.getKey();
+                    ClientTupleKey wanted = missing.remove(
+                            tupleString(current.getUser(), current.getRelation(), current.getObject()));
+                    if (wanted != null && sameCondition(mapper, current.getCondition(), wanted.getCondition())) {
+                        return;
+                    }
+                    deletes.add(new ClientTupleKeyWithoutCondition()
+                            .user(current.getUser())
+                            .relation(current.getRelation())
+                            ._object(current.getObject()));
+                    if (wanted != null) {
+                        rewrites.add(wanted);
+                    }
+                })
+                .thenCompose(ignored -> {
+                    List<ClientTupleKey> writes = new ArrayList<>(missing.values());
+                    if (writes.isEmpty() && deletes.isEmpty()) {
+                        return CompletableFuture.completedFuture(new ClientWriteResponse(List.of(), List.of()));
+                    }
+                    var changes = call(
+                            () -> write(new ClientWriteRequest().writes(writes).deletes(deletes), writeOptions));
+                    if (rewrites.isEmpty()) {
+                        return changes;
+                    }
+                    // A tuple cannot be deleted and written in the same request, so tuples whose condition changed
+                    // are written once they were deleted. The deletes are committed by then, so a failed rewrite is
+                    // reported per tuple rather than failing the sync
+                    return changes.thenCompose(
+                            applied -> call(() -> write(ClientWriteRequest.ofWrites(rewrites), writeOptions))
+                                    .handle((rewritten, throwable) -> {
+                                        List<ClientWriteSingleResponse> written = new ArrayList<>(applied.getWrites());
+                                        if (throwable == null) {
+                                            written.addAll(rewritten.getWrites());
+                                        } else {
+                                            Throwable cause = unwrapCompletionException(throwable);
+                                            Exception error = cause instanceof Exception
+                                                    ? (Exception) cause
+                                                    : new Exception(cause);
+                                            for (ClientTupleKey rewrite : rewrites) {
+                                                written.add(new ClientWriteSingleResponse(
+                                                        rewrite.asTupleKey(), ClientWriteStatus.FAILURE, error));
+                                            }
+                                        }
+                                        return new ClientWriteResponse(written, applied.getDeletes());
+                                    }));
+                });
+    }
+
+    /**
+     * Pass every tuple of a publisher to a consumer, requesting them all at once.
+     *
+     * @return A future completing once every tuple was consumed, or failing with the error of the publisher or of the
+     *         consumer.
+     */
+    private static CompletableFuture<Void> forEachTuple(Flow.Publisher<Tuple> tuples, Consumer<Tuple> consumer) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        tuples.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Tuple tuple) {
+                if (done.isDone()) {
+                    return;
+                }
+                try {
+                    consumer.accept(tuple);
+                } catch (RuntimeException e) {
+                    subscription.cancel();
+                    done.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Pass the tuples of a publisher to a consumer in pages of up to {@code pageSize} tuples, requesting the tuples of
+     * the next page only once the current one was consumed.
+     *
+     * @return A future completing once every tuple was consumed, or failing with the error of the publisher or of the
+     *         consumer.
+     */
+    private static CompletableFuture<Void> forEachPage(
+            Flow.Publisher<Tuple> tuples, int pageSize, Consumer<List<Tuple>> consumer) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        tuples.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+            private List<Tuple> page = new ArrayList<>(pageSize);
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(pageSize);
+            }
+
+            @Override
+            public void onNext(Tuple tuple) {
+                if (done.isDone()) {
+                    return;
+                }
+                page.add(tuple);
+                if (page.size() == pageSize && accept()) {
+                    subscription.request(pageSize);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done.isDone() && (page.isEmpty() || accept())) {
+                    done.complete(null);
+                }
+            }
+
+            private boolean accept() {
+                List<Tuple> full = page;
+                page = new ArrayList<>(pageSize);
+                try {
+                    consumer.accept(full);
+                    return true;
+                } catch (RuntimeException e) {
+                    subscription.cancel();
+                    done.completeExceptionally(e);
+                    return false;
+                }
+            }
+        });
+        return done;
+    }
+
+    private static boolean matches(ClientReadRequest filter, ClientTupleKey tuple) {
+        String object = filter.getObject();
+        return (filter.getUser() == null || filter.getUser().equals(tuple.getUser()))
+                && (filter.getRelation() == null || filter.getRelation().equals(tuple.getRelation()))
+                && (object == null
+                        || (object.endsWith(":")
+                                ? tuple.getObject() != null && tuple.getObject().startsWith(object)
+                                : object.equals(tuple.getObject())));
+    }
+
+    private static String tupleString(String user, String relation, String object) {
+        return object + "#" + relation + "@" + user;
+    }
+
+    /**
+     * Compare the condition of a stored tuple with a desired one. Contexts are compared as JSON, so that the order of
+     * their keys and the Java types of their values do not matter.
+     */
+    private static boolean sameCondition(
+            ObjectMapper mapper, RelationshipCondition current, ClientRelationshipCondition wanted) {
+        if (current == null || wanted == null) {
+            return current == null && wanted == null;
+        }
+        if (!Objects.equals(current.getName(), wanted.getName())) {
+            return false;
+        }
+        try {
+            return Objects.equals(
+                    mapper.readTree(mapper.writeValueAsBytes(current.getContext())),
+                    mapper.readTree(mapper.writeValueAsBytes(wanted.getContext())));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * Write - Create or delete relationship tuples
      *
@@ -548,7 +1031,11 @@ public class OpenFgaClient {
 
         var overrides = new ConfigurationOverride().addHeaders(options);
 
-        return call(() -> api.write(storeId, body, overrides)).thenApply(apiResponse -> {
+        // A failed write may still have been applied, so cached decisions are invalidated either way
+        var written = call(() -> api.write(storeId, body, overrides))
+                .whenComplete((apiResponse, throwable) -> invalidateDecisions(storeId, writeTuples, deleteTuples));
+
+        return written.thenApply(apiResponse -> {
             // For transaction-based writes, all tuples are successful if the call succeeds
             List<ClientWriteSingleResponse> writeResponses = writeTuples != null
                     ? writeTuples.stream()
@@ -579,7 +1066,8 @@ public class OpenFgaClient {
      *
      * <ol>
      *   <li>Splits writes and deletes into chunks based on {@code transactionChunkSize}</li>
-     *   <li>Processes each chunk as an independent transaction in parallel</li>
+     *   <li>Processes each chunk as an independent transaction, with at most {@code maxParallelRequests} chunks in
+     *   flight; further chunks are created and sent as earlier ones complete</li>
      *   <li>Collects results from all chunks, marking individual tuples as SUCCESS or FAILURE</li>
      *   <li>Re-throws authentication errors immediately to stop all processing</li>
      *   <li>Converts other errors to FAILURE status for affected tuples</li>
@@ -614,106 +1102,125 @@ public class OpenFgaClient {
         options.additionalHeaders(headers);
 
         int chunkSize = options.getTransactionChunkSize();
+        int maxParallelRequests = options.getMaxParallelRequests() != null
+                ? options.getMaxParallelRequests()
+                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
 
-        List<CompletableFuture<List<ClientWriteSingleResponse>>> writeFutures = new ArrayList<>();
-        List<CompletableFuture<List<ClientWriteSingleResponse>>> deleteFutures = new ArrayList<>();
-
-        // Handle writes
-        if (request.getWrites() != null && !request.getWrites().isEmpty()) {
-            var writeChunks = chunksOf(chunkSize, request.getWrites()).collect(Collectors.toList());
-
-            for (List<ClientTupleKey> chunk : writeChunks) {
-                CompletableFuture<List<ClientWriteSingleResponse>> chunkFuture = this.writeTransactions(
-                                storeId, ClientWriteRequest.ofWrites(chunk), options)
-                        .thenApply(response -> {
-                            // On success, mark all tuples in this chunk as successful
-                            return chunk.stream()
-                                    .map(tuple -> new ClientWriteSingleResponse(
-                                            tuple.asTupleKey(), ClientWriteStatus.SUCCESS))
-                                    .collect(Collectors.toList());
-                        })
-                        .exceptionally(exception -> {
-                            // Re-throw authentication errors to stop all processing
-                            Throwable cause =
-                                    exception instanceof CompletionException ? exception.getCause() : exception;
-                            if (cause instanceof FgaApiAuthenticationError) {
-                                throw new CompletionException(cause);
-                            }
+        List<ClientTupleKey> writes = request.getWrites() != null ? request.getWrites() : List.of();
+        List<ClientTupleKeyWithoutCondition> deletes = request.getDeletes() != null ? request.getDeletes() : List.of();
+        long writeChunks = (writes.size() + chunkSize - 1) / chunkSize;
+
+        // Chunks are produced lazily and only sent as earlier ones complete, so that no more than
+        // maxParallelRequests chunk requests are prepared or in flight at any time
+        Stream<Supplier<CompletableFuture<List<ClientWriteSingleResponse>>>> tasks = Stream.concat(
+                chunksOf(chunkSize, writes).map(chunk -> () -> writeChunk(storeId, chunk, options)),
+                chunksOf(chunkSize, deletes).map(chunk -> () -> deleteChunk(storeId, chunk, options)));
+
+        return SlidingWindow.run(tasks.iterator(), maxParallelRequests).thenApply(chunkResponses -> {
+            List<ClientWriteSingleResponse> writeResponses = new ArrayList<>(writes.size());
+            List<ClientWriteSingleResponse> deleteResponses = new ArrayList<>(deletes.size());
+            for (int i = 0; i < chunkResponses.size(); i++) {
+                (i < writeChunks ? writeResponses : deleteResponses).addAll(chunkResponses.get(i));
+            }
+            return new ClientWriteResponse(writeResponses, deleteResponses);
+        });
+    }
 
-                            // On failure, mark all tuples in this chunk as failed, but continue processing other chunks
-                            return chunk.stream()
-                                    .map(tuple -> new ClientWriteSingleResponse(
-                                            tuple.asTupleKey(),
-                                            ClientWriteStatus.FAILURE,
-                                            cause instanceof Exception ? (Exception) cause : new Exception(cause)))
-                                    .collect(Collectors.toList());
-                        });
+    private CompletableFuture<List<ClientWriteSingleResponse>> writeChunk(
+            String storeId, List<ClientTupleKey> chunk, ClientWriteOptions options) {
+        return writeChunk(
+                chunk,
+                part -> this.writeTransactions(storeId, ClientWriteRequest.ofWrites(part), options),
+                ClientTupleKey::asTupleKey,
+                options.getBisectFailedChunks());
+    }
 
-                writeFutures.add(chunkFuture);
-            }
-        }
+    private CompletableFuture<List<ClientWriteSingleResponse>> deleteChunk(
+            String storeId, List<ClientTupleKeyWithoutCondition> chunk, ClientWriteOptions options) {
+        return writeChunk(
+                chunk,
+                part -> this.writeTransactions(storeId, ClientWriteRequest.ofDeletes(part), options),
+                tuple -> new TupleKey()
+                        .user(tuple.getUser())
+                        .relation(tuple.getRelation())
+                        ._object(tuple.getObject()),
+                options.getBisectFailedChunks());
+    }
 
-        // Handle deletes
-        if (request.getDeletes() != null && !request.getDeletes().isEmpty()) {
-            var deleteChunks = chunksOf(chunkSize, request.getDeletes()).collect(Collectors.toList());
-
-            for (List<ClientTupleKeyWithoutCondition> chunk : deleteChunks) {
-                CompletableFuture<List<ClientWriteSingleResponse>> chunkFuture = this.writeTransactions(
-                                storeId, ClientWriteRequest.ofDeletes(chunk), options)
-                        .thenApply(response -> {
-                            // On success, mark all tuples in this chunk as successful
-                            return chunk.stream()
-                                    .map(tuple -> new ClientWriteSingleResponse(
-                                            new TupleKey()
-                                                    .user(tuple.getUser())
-                                                    .relation(tuple.getRelation())
-                                                    ._object(tuple.getObject()),
-                                            ClientWriteStatus.SUCCESS))
-                                    .collect(Collectors.toList());
-                        })
-                        .exceptionally(exception -> {
-                            // Re-throw authentication errors to stop all processing
-                            Throwable cause =
-                                    exception instanceof CompletionException ? exception.getCause() : exception;
-                            if (cause instanceof FgaApiAuthenticationError) {
-                                throw new CompletionException(cause);
-                            }
+    /**
+     * Write a chunk, and when bisecting, split a chunk rejected with a validation error in halves written one after
+     * the other, until the rejected tuples are isolated and the others are committed. A chunk with k invalid tuples
+     * takes at most about 2k * log2(size) extra requests, and stays within the parallelism of a single chunk.
+     */
+    private <T> CompletableFuture<List<ClientWriteSingleResponse>> writeChunk(
+            List<T> chunk,
+            Function<List<T>, CompletableFuture<ClientWriteResponse>> write,
+            Function<T, TupleKey> tupleKey,
+            Boolean bisect) {
+        return write.apply(chunk)
+                .handle((response, exception) -> {
+                    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                    if (cause instanceof FgaApiValidationError && Boolean.TRUE.equals(bisect) && chunk.size() > 1) {
+                        int middle = chunk.size() / 2;
+                        return writeChunk(chunk.subList(0, middle), write, tupleKey, bisect)
+                                .thenCompose(first -> writeChunk(
+                                                chunk.subList(middle, chunk.size()), write, tupleKey, bisect)
+                                        .thenApply(second -> {
+                                            List<ClientWriteSingleResponse> responses = new ArrayList<>(first);
+                                            responses.addAll(second);
+                                            return responses;
+                                        }));
+                    }
+                    List<TupleKey> tupleKeys = chunk.stream().map(tupleKey).collect(Collectors.toList());
+                    return CompletableFuture.completedFuture(chunkResponses(tupleKeys, exception));
+                })
+                .thenCompose(responses -> responses);
+    }
 
-                            // On failure, mark all tuples in this chunk as failed, but continue processing other chunks
-                            return chunk.stream()
-                                    .map(tuple -> new ClientWriteSingleResponse(
-                                            new TupleKey()
-                                                    .user(tuple.getUser())
-                                                    .relation(tuple.getRelation())
-                                                    ._object(tuple.getObject()),
-                                            ClientWriteStatus.FAILURE,
-                                            cause instanceof Exception ? (Exception) cause : new Exception(cause)))
-                                    .collect(Collectors.toList());
-                        });
-
-                deleteFutures.add(chunkFuture);
-            }
+    /**
+     * Mark all tuples of a chunk as successful, or as failed with the error of the chunk so that other chunks are
+     * still processed. Authentication errors are re-thrown to stop all processing.
+     */
+    private static List<ClientWriteSingleResponse> chunkResponses(List<TupleKey> tupleKeys, Throwable exception) {
+        if (exception == null) {
+            return tupleKeys.stream()
+                    .map(tupleKey -> new ClientWriteSingleResponse(tupleKey, ClientWriteStatus.SUCCESS))
+                    .collect(Collectors.toList());
         }
 
-        // Combine all futures
-        CompletableFuture<List<ClientWriteSingleResponse>> allWritesFuture = writeFutures.isEmpty()
-                ? CompletableFuture.completedFuture(new ArrayList<>())
-                : CompletableFuture.allOf(writeFutures.toArray(new CompletableFuture[0]))
-                        .thenApply(v -> writeFutures.stream()
-                                .map(CompletableFuture::join)
-                                .flatMap(List::stream)
-                                .collect(Collectors.toList()));
+        Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+        if (cause instanceof FgaApiAuthenticationError) {
+            throw new CompletionException(cause);
+        }
 
-        CompletableFuture<List<ClientWriteSingleResponse>> allDeletesFuture = deleteFutures.isEmpty()
-                ? CompletableFuture.completedFuture(new ArrayList<>())
-                : CompletableFuture.allOf(deleteFutures.toArray(new CompletableFuture[0]))
-                        .thenApply(v -> deleteFutures.stream()
-                                .map(CompletableFuture::join)
-                                .flatMap(List::stream)
-                                .collect(Collectors.toList()));
+        return tupleKeys.stream()
+                .map(tupleKey -> new ClientWriteSingleResponse(
+                        tupleKey,
+                        ClientWriteStatus.FAILURE,
+                        cause instanceof Exception ? (Exception) cause : new Exception(cause)))
+                .collect(Collectors.toList());
+    }
 
-        return CompletableFuture.allOf(allWritesFuture, allDeletesFuture)
-                .thenApply(v -> new ClientWriteResponse(allWritesFuture.join(), allDeletesFuture.join()));
+    /**
+     * Remove the cached decisions that writing or deleting the given tuples may change, and stop sharing the requests
+     * in flight with later calls.
+     */
+    private void invalidateDecisions(
+            String storeId, List<ClientTupleKey> writes, List<ClientTupleKeyWithoutCondition> deletes) {
+        RequestCoalescer coalescer = requestCoalescer;
+        if (coalescer != null) {
+            coalescer.clear();
+        }
+        DecisionCache cache = decisionCache;
+        if (cache == null) {
+            return;
+        }
+        if (writes != null) {
+            writes.forEach(tuple -> cache.invalidate(storeId, tuple.getUser(), tuple.getObject()));
+        }
+        if (deletes != null) {
+            deletes.forEach(tuple -> cache.invalidate(storeId, tuple.getUser(), tuple.getObject()));
+        }
     }
 
     private <T> Stream<List<T>> chunksOf(int chunkSize, List<T> list) {
@@ -724,14 +1231,10 @@ public class OpenFgaClient {
         int nChunks = (int) Math.ceil(list.size() / (double) chunkSize);
 
         int finalEndExclusive = list.size();
-        Stream.Builder<List<T>> chunks = Stream.builder();
 
-        for (int i = 0; i < nChunks; i++) {
-            List<T> chunk = list.subList(i * chunkSize, Math.min((i + 1) * chunkSize, finalEndExclusive));
-            chunks.add(chunk);
-        }
-
-        return chunks.build();
+        // Chunks are views of the list, created as the stream is consumed
+        return IntStream.range(0, nChunks)
+                .mapToObj(i -> list.subList(i * chunkSize, Math.min((i + 1) * chunkSize, finalEndExclusive)));
     }
 
     /**
@@ -766,7 +1269,10 @@ public class OpenFgaClient {
 
         var overrides = new ConfigurationOverride().addHeaders(options);
 
-        return call(() -> api.write(storeId, body, overrides)).thenApply(apiResponse -> {
+        var written = call(() -> api.write(storeId, body, overrides))
+                .whenComplete((apiResponse, throwable) -> invalidateDecisions(storeId, tupleKeys, null));
+
+        return written.thenApply(apiResponse -> {
             List<ClientWriteSingleResponse> writeResponses = tupleKeys.stream()
                     .map(tuple -> new ClientWriteSingleResponse(tuple.asTupleKey(), ClientWriteStatus.SUCCESS))
                     .collect(Collectors.toList());
@@ -807,7 +1313,10 @@ public class OpenFgaClient {
 
         var overrides = new ConfigurationOverride().addHeaders(options);
 
-        return call(() -> api.write(storeId, body, overrides)).thenApply(apiResponse -> {
+        var written = call(() -> api.write(storeId, body, overrides))
+                .whenComplete((apiResponse, throwable) -> invalidateDecisions(storeId, null, tupleKeys));
+
+        return written.thenApply(apiResponse -> {
             List<ClientWriteSingleResponse> deleteResponses = tupleKeys.stream()
                     .map(tuple -> new ClientWriteSingleResponse(
                             new TupleKey()
@@ -820,6 +1329,244 @@ public class OpenFgaClient {
         });
     }
 
+    /**
+     * Tuple Write Buffer - Create a buffer that collects tuple writes and deletes of the current store, and writes them
+     * in batches in the background. The buffer keeps the store ID configured when it is created, and should be closed
+     * to write the operations left in it.
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public TupleWriteBuffer tupleWriteBuffer(ClientTupleWriteBufferOptions options) throws FgaInvalidParameterException {
+        configuration.assertValid();
+        String storeId = configuration.getStoreIdChecked();
+
+        var bufferOptions = options != null ? options : new ClientTupleWriteBufferOptions();
+        HashMap<String, String> headers = bufferOptions.getAdditionalHeaders() != null
+                ? new HashMap<>(bufferOptions.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "TupleWriteBuffer");
+        headers.putIfAbsent(
+                FgaConstants.CLIENT_BULK_REQUEST_ID_HEADER, randomUUID().toString());
+        var writeOptions = new ClientWriteOptions()
+                .additionalHeaders(headers)
+                .authorizationModelId(bufferOptions.getAuthorizationModelId())
+                .onDuplicate(bufferOptions.getOnDuplicate())
+                .onMissing(bufferOptions.getOnMissing());
+
+        return new TupleWriteBuffer(
+                bufferOptions,
+                request -> requestLimiter.submit(storeId, () -> writeTransactions(storeId, request, writeOptions)));
+    }
+
+    /**
+     * ImportTuples - Write the tuples of a file, one chunk at a time with bounded parallelism
+     *
+     * <p>The file is read as NDJSON or CSV, see {@link ClientImportTuplesOptions.FileFormat}, and its lines are only
+     * read as chunks are written. Unless another import ID is set, the absolute path of the file identifies the import
+     * in the checkpoint store.</p>
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public CompletableFuture<ClientImportTuplesResponse> importTuples(Path file, ClientImportTuplesOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        configuration.getStoreIdChecked();
+
+        var importOptions = options != null ? options : new ClientImportTuplesOptions();
+        String importId = importOptions.getImportId() != null
+                ? importOptions.getImportId()
+                : file.toAbsolutePath().toString();
+
+        IteratorPublisher<ClientTupleKey> tuples;
+        try {
+            tuples = TupleFiles.open(file, importOptions.getFileFormat(), apiClient.getObjectMapper());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return importTuples(tuples, importOptions, importId);
+    }
+
+    /**
+     * ImportTuples - Write the tuples of a stream, one chunk at a time with bounded parallelism. The stream is closed
+     * once the import completes.
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public CompletableFuture<ClientImportTuplesResponse> importTuples(
+            Stream<? extends ClientTupleKey> tuples, ClientImportTuplesOptions options)
+            throws FgaInvalidParameterException {
+        try {
+            return importTuples(new IteratorPublisher<ClientTupleKey>(tuples.iterator(), tuples::close), options);
+        } catch (FgaInvalidParameterException | RuntimeException e) {
+            // The publisher closes the stream once subscribed, which an invalid import never is
+            tuples.close();
+            throw e;
+        }
+    }
+
+    /**
+     * ImportTuples - Write the tuples of an iterator, one chunk at a time with bounded parallelism
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public CompletableFuture<ClientImportTuplesResponse> importTuples(
+            Iterator<? extends ClientTupleKey> tuples, ClientImportTuplesOptions options)
+            throws FgaInvalidParameterException {
+        return importTuples(new IteratorPublisher<ClientTupleKey>(tuples, null), options);
+    }
+
+    /**
+     * ImportTuples - Write the tuples of a publisher, one chunk at a time with bounded parallelism
+     *
+     * <p>Tuples are requested from the publisher as chunks complete, so no more than
+     * {@link ClientImportTuplesOptions#maxParallelRequests(Integer)} chunks are held in memory. Chunks that fail are
+     * reported to {@link ClientImportTuplesOptions#failureListener(Consumer)}, or in
+     * {@link ClientImportTuplesResponse#getFailures()} up to {@link FgaConstants#CLIENT_IMPORT_MAX_FAILURES} tuples,
+     * without stopping the import, while authentication errors, errors of the publisher and errors of the checkpoint
+     * store cancel the subscription and fail the import.</p>
+     *
+     * <p>With a {@link ClientImportTuplesOptions#checkpointStore(ImportCheckpointStore)}, the number of tuples
+     * processed from the start of the source is saved as chunks complete, and an import with the same import ID
+     * skips that many tuples of its source.</p>
+     *
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace, or a checkpoint store is
+     *                                      set without an import ID
+     */
+    public CompletableFuture<ClientImportTuplesResponse> importTuples(
+            Flow.Publisher<? extends ClientTupleKey> tuples, ClientImportTuplesOptions options)
+            throws FgaInvalidParameterException {
+        var importOptions = options != null ? options : new ClientImportTuplesOptions();
+        return importTuples(tuples, importOptions, importOptions.getImportId());
+    }
+
+    private CompletableFuture<ClientImportTuplesResponse> importTuples(
+            Flow.Publisher<? extends ClientTupleKey> tuples, ClientImportTuplesOptions importOptions, String importId)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        String storeId = configuration.getStoreIdChecked();
+
+        ImportCheckpointStore checkpointStore = importOptions.getCheckpointStore();
+        if (checkpointStore != null && isNullOrWhitespace(importId)) {
+            throw new FgaInvalidParameterException("importId", "importTuples");
+        }
+
+        HashMap<String, String> headers = importOptions.getAdditionalHeaders() != null
+                ? new HashMap<>(importOptions.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "ImportTuples");
+        headers.putIfAbsent(
+                FgaConstants.CLIENT_BULK_REQUEST_ID_HEADER, randomUUID().toString());
+        var writeOptions = new ClientWriteOptions()
+                .additionalHeaders(headers)
+                .authorizationModelId(importOptions.getAuthorizationModelId())
+                .bisectFailedChunks(importOptions.getBisectFailedChunks())
+                .onDuplicate(importOptions.getOnDuplicate());
+
+        int chunkSize = importOptions.getChunkSize() != null
+                ? importOptions.getChunkSize()
+                : FgaConstants.CLIENT_IMPORT_CHUNK_SIZE;
+        int maxParallelRequests = importOptions.getMaxParallelRequests() != null
+                ? importOptions.getMaxParallelRequests()
+                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
+
+        long skip = 0;
+        if (checkpointStore != null) {
+            try {
+                Long checkpoint = checkpointStore.load(importId);
+                skip = checkpoint != null ? checkpoint : 0;
+            } catch (Exception e) {
+                return TupleImport.cancel(tuples, e);
+            }
+        }
+
+        return TupleImport.run(
+                tuples,
+                new TupleImport(
+                        chunk -> writeChunk(storeId, chunk, writeOptions),
+                        chunkSize,
+                        maxParallelRequests,
+                        skip,
+                        importId,
+                        checkpointStore,
+                        // Checkpoints are saved off the threads completing the writes, as stores may do I/O
+                        runnable -> CompletableFuture.runAsync(runnable),
+                        importOptions.getFailureListener(),
+                        FgaConstants.CLIENT_IMPORT_MAX_FAILURES));
+    }
+
+    /**
+     * ExportTuples - Write the tuples of the store to an NDJSON file, reading partitions in parallel
+     *
+     * <p>Each partition is read as with {@link #readAll(ClientReadRequest, ClientReadAllOptions)}, and its tuples are
+     * written to the file a page at a time while the next page is read, so memory is bounded by the page being written
+     * and the page read ahead of it per partition read at the same time. The file has one tuple per line, in the
+     * format read by {@link #importTuples(Path, ClientImportTuplesOptions)}, and is compressed with gzip when its name
+     * ends with {@code .gz} unless set otherwise. Tuples of different partitions are interleaved in no particular
+     * order.</p>
+     *
+     * <p>The first failed read stops the other partitions and fails the export, and the file is then deleted.</p>
+     *
+     * @param file The file to write, replaced if it exists.
+     * @return The number of tuples written and the throughput of the export.
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public CompletableFuture<ClientExportTuplesResponse> exportTuples(Path file, ClientExportTuplesOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        configuration.getStoreIdChecked();
+
+        var exportOptions = options != null ? options : new ClientExportTuplesOptions();
+        List<ClientReadRequest> partitions = exportOptions.getPartitions() != null
+                        && !exportOptions.getPartitions().isEmpty()
+                ? exportOptions.getPartitions()
+                : List.of(new ClientReadRequest());
+
+        HashMap<String, String> headers = exportOptions.getAdditionalHeaders() != null
+                ? new HashMap<>(exportOptions.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "ExportTuples");
+        headers.putIfAbsent(
+                FgaConstants.CLIENT_BULK_REQUEST_ID_HEADER, randomUUID().toString());
+        var readOptions = new ClientReadAllOptions()
+                .additionalHeaders(headers)
+                .pageSize(exportOptions.getPageSize())
+                .consistency(exportOptions.getConsistency());
+        int pageSize = exportOptions.getPageSize() != null && exportOptions.getPageSize() > 0
+                ? exportOptions.getPageSize()
+                : FgaConstants.CLIENT_MAX_BATCH_SIZE;
+        int maxParallelRequests = exportOptions.getMaxParallelRequests() != null
+                ? exportOptions.getMaxParallelRequests()
+                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
+
+        TupleExport export;
+        try {
+            export = TupleExport.open(
+                    file,
+                    exportOptions.getCompress(),
+                    apiClient.getObjectMapper(),
+                    partitions.size(),
+                    exportOptions.getProgressListener());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        var limiter = new ConcurrencyLimiter(maxParallelRequests);
+        var reads = partitions.stream()
+                .map(partition -> limiter.submit(() -> {
+                            // Partitions still waiting for a slot are not read once another one failed
+                            export.checkNotFailed();
+                            return call(() -> forEachPage(readAll(partition, readOptions), pageSize, export::write));
+                        })
+                        .thenRun(export::partitionCompleted)
+                        .whenComplete((ignored, throwable) -> {
+                            if (throwable != null) {
+                                export.fail(throwable);
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(reads).handle((ignored, throwable) -> export.finish());
+    }
+
     /* **********************
      * Relationship Queries *
      ***********************/
@@ -861,7 +1608,56 @@ public class OpenFgaClient {
 
         var overrides = new ConfigurationOverride().addHeaders(options);
 
-        return call(() -> api.check(storeId, body, overrides)).thenApply(ClientCheckResponse::new);
+        DecisionCache cache = decisionCache;
+        DecisionCache.Key cacheKey = cache != null
+                ? cache.key(
+                        storeId,
+                        body.getAuthorizationModelId(),
+                        body.getTupleKey(),
+                        body.getContextualTuples(),
+                        body.getContext())
+                : null;
+        if (cacheKey == null) {
+            return coalesceCheck(storeId, body, options, overrides).thenApply(ClientCheckResponse::new);
+        }
+
+        // Checks that ask for higher consistency skip the cache, but still refresh it
+        if (body.getConsistency() != ConsistencyPreference.HIGHER_CONSISTENCY) {
+            Boolean allowed = cache.get(cacheKey);
+            if (allowed != null) {
+                return CompletableFuture.completedFuture(new ClientCheckResponse(
+                        new ApiResponse<>(200, Map.of(), (String) null, new CheckResponse().allowed(allowed))));
+            }
+        }
+        long cacheVersion = cache.version();
+        return coalesceCheck(storeId, body, options, overrides)
+                .thenApply(ClientCheckResponse::new)
+                .thenApply(response -> {
+                    if (response.getAllowed() != null) {
+                        cache.put(cacheKey, response.getAllowed(), cacheVersion);
+                    }
+                    return response;
+                });
+    }
+
+    private CompletableFuture<ApiResponse<CheckResponse>> coalesceCheck(
+            String storeId, CheckRequest body, ClientCheckOptions options, ConfigurationOverride overrides) {
+        return coalesce(
+                "Check",
+                storeId,
+                body.getAuthorizationModelId(),
+                body,
+                options,
+                () -> sendCheck(storeId, body, options, overrides));
+    }
+
+    private CompletableFuture<ApiResponse<CheckResponse>> sendCheck(
+            String storeId, CheckRequest body, ClientCheckOptions options, ConfigurationOverride overrides) {
+        CheckBatcher batcher = checkBatcher;
+        if (batcher == null) {
+            return call(() -> api.check(storeId, body, overrides));
+        }
+        return batcher.submit(storeId, body, options != null ? options.getAdditionalHeaders() : null);
     }
 
     /**
@@ -901,28 +1697,23 @@ public class OpenFgaClient {
         int maxParallelRequests = options.getMaxParallelRequests() != null
                 ? options.getMaxParallelRequests()
                 : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
-        var executor = Executors.newScheduledThreadPool(maxParallelRequests);
-        var latch = new CountDownLatch(requests.size());
 
-        var responses = new ConcurrentLinkedQueue<ClientBatchCheckClientResponse>();
+        // Checks of this call are sent through a window of maxParallelRequests, and every request is additionally
+        // bounded by the limiter shared by all callers of this client. Nothing here blocks.
+        var window = new ConcurrencyLimiter(maxParallelRequests);
+        String storeId = configuration.getStoreId();
 
         final var clientCheckOptions = options.asClientCheckOptions();
 
-        Consumer<ClientCheckRequest> singleClientCheckRequest =
-                request -> call(() -> this.check(request, clientCheckOptions))
-                        .handleAsync(ClientBatchCheckClientResponse.asyncHandler(request))
-                        .thenAccept(responses::add)
-                        .thenRun(latch::countDown);
+        List<CompletableFuture<ClientBatchCheckClientResponse>> responses = requests.stream()
+                .map(request -> window.<ClientCheckResponse>submit(() -> requestLimiter.submit(
+                                storeId, () -> call(() -> this.check(request, clientCheckOptions))))
+                        .handle(ClientBatchCheckClientResponse.asyncHandler(request)))
+                .collect(Collectors.toList());
 
-        try {
-            requests.forEach(request -> executor.execute(() -> singleClientCheckRequest.accept(request)));
-            latch.await();
-            return CompletableFuture.completedFuture(new ArrayList<>(responses));
-        } catch (Exception e) {
-            return CompletableFuture.failedFuture(e);
-        } finally {
-            executor.shutdown();
-        }
+        return CompletableFuture.allOf(responses.toArray(new CompletableFuture[0]))
+                .thenApply(ignored ->
+                        responses.stream().map(CompletableFuture::join).collect(Collectors.toList()));
     }
 
     /**
@@ -962,6 +1753,26 @@ public class OpenFgaClient {
 
         Map<String, ClientBatchCheckItem> correlationIdToCheck = new HashMap<>();
 
+        DecisionCache cache = decisionCache;
+        String cacheAuthorizationModelId = !isNullOrWhitespace(options.getAuthorizationModelId())
+                ? options.getAuthorizationModelId()
+                : configuration.getAuthorizationModelId();
+        boolean readCache = options.getConsistency() != ConsistencyPreference.HIGHER_CONSISTENCY;
+        Map<String, DecisionCache.Key> correlationIdToCacheKey = new HashMap<>();
+        List<ClientBatchCheckSingleResponse> cachedResults = new ArrayList<>();
+        long cacheVersion = cache != null ? cache.version() : 0;
+        BiConsumer<String, Boolean> cacheDecision = (correlationId, allowed) -> {
+            DecisionCache.Key cacheKey = correlationIdToCacheKey.get(correlationId);
+            if (cacheKey != null) {
+                cache.put(cacheKey, allowed, cacheVersion);
+            }
+        };
+
+        // Checks that only differ by correlation ID are sent once, and their result is given to every duplicate
+        Map<BatchCheckItem, String> sentCorrelationIds = new HashMap<>();
+        Map<String, List<String>> duplicateCorrelationIds = new HashMap<>();
+        int duplicates = 0;
+
         List<BatchCheckItem> collect = new ArrayList<>();
         for (ClientBatchCheckItem check : requests.getChecks()) {
             String correlationId = check.getCorrelationId();
@@ -982,36 +1793,152 @@ public class OpenFgaClient {
                 batchCheckItem.contextualTuples(ClientTupleKey.asContextualTupleKeys(contextualTuples));
             }
 
-            collect.add(batchCheckItem);
-
             if (correlationIdToCheck.containsKey(correlationId)) {
                 throw new FgaValidationError(
                         "correlationId", "When calling batchCheck, correlation IDs must be unique");
             }
 
             correlationIdToCheck.put(correlationId, check);
+
+            DecisionCache.Key cacheKey = cache != null
+                    ? cache.key(
+                            configuration.getStoreId(),
+                            cacheAuthorizationModelId,
+                            batchCheckItem.getTupleKey(),
+                            batchCheckItem.getContextualTuples(),
+                            batchCheckItem.getContext())
+                    : null;
+            if (cacheKey != null) {
+                Boolean allowed = readCache ? cache.get(cacheKey) : null;
+                if (allowed != null) {
+                    cachedResults.add(new ClientBatchCheckSingleResponse(allowed, check, correlationId, null));
+                    continue;
+                }
+                correlationIdToCacheKey.put(correlationId, cacheKey);
+            }
+
+            BatchCheckItem uncorrelated = new BatchCheckItem()
+                    .tupleKey(batchCheckItem.getTupleKey())
+                    .contextualTuples(batchCheckItem.getContextualTuples())
+                    .context(batchCheckItem.getContext());
+            String sentCorrelationId = sentCorrelationIds.putIfAbsent(uncorrelated, correlationId);
+            if (sentCorrelationId != null) {
+                duplicateCorrelationIds
+                        .computeIfAbsent(sentCorrelationId, k -> new ArrayList<>())
+                        .add(correlationId);
+                duplicates++;
+                continue;
+            }
+
+            collect.add(batchCheckItem);
+        }
+
+        if (!collect.isEmpty()) {
+            Map<Attribute, String> attributes = new HashMap<>();
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_METHOD, "BatchCheck");
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_STORE_ID, configuration.getStoreId());
+            if (!isNullOrWhitespace(cacheAuthorizationModelId)) {
+                attributes.put(Attributes.FGA_CLIENT_REQUEST_MODEL_ID, cacheAuthorizationModelId);
+            }
+            telemetry
+                    .metrics()
+                    .batchCheckDedupRatio((double) duplicates / (collect.size() + duplicates), attributes);
         }
 
         int maxBatchSize =
                 options.getMaxBatchSize() != null ? options.getMaxBatchSize() : FgaConstants.CLIENT_MAX_BATCH_SIZE;
+        int maxParallelRequests = options.getMaxParallelRequests() != null
+                ? options.getMaxParallelRequests()
+                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
+
+        var override = new ConfigurationOverride().addHeaders(options);
+
+        if (Boolean.TRUE.equals(options.getAdaptive())) {
+            // Sub-batches are sized and sent as the controller of the store allows, and every request is
+            // additionally bounded by the limiter shared by all callers of this client. A request is reported as
+            // sent once the limiter lets it through, and rate limit responses that are retried are reported to the
+            // controller as they happen.
+            String storeId = configuration.getStoreId();
+            AdaptiveBatchController controller;
+            synchronized (batchControllers) {
+                controller = batchControllers.computeIfAbsent(storeId, ignored -> new AdaptiveBatchController());
+            }
+            return controller
+                    .dispatch(
+                            collect,
+                            maxBatchSize,
+                            maxParallelRequests,
+                            (batch, request) -> requestLimiter.submit(storeId, () -> {
+                                request.sent();
+                                return requestBatchCheck(
+                                        batch,
+                                        options,
+                                        new ConfigurationOverride()
+                                                .addHeaders(options)
+                                                .retryListener(request::onFailure));
+                            }),
+                            OpenFgaClient::queryDurationMs)
+                    .thenApply(responses -> new ClientBatchCheckResponse(Stream.concat(
+                                    cachedResults.stream(),
+                                    responses.stream()
+                                            .flatMap(response -> batchCheckResults(
+                                                    response,
+                                                    correlationIdToCheck,
+                                                    duplicateCorrelationIds,
+                                                    cacheDecision)
+                                                    .stream()))
+                            .collect(Collectors.toList())));
+        }
+
         List<List<BatchCheckItem>> batchedChecks = IntStream.range(
                         0, (collect.size() + maxBatchSize - 1) / maxBatchSize)
                 .mapToObj(i -> collect.subList(i * maxBatchSize, Math.min((i + 1) * maxBatchSize, collect.size())))
                 .collect(Collectors.toList());
 
-        int maxParallelRequests = options.getMaxParallelRequests() != null
-                ? options.getMaxParallelRequests()
-                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
-        var executor = Executors.newScheduledThreadPool(maxParallelRequests);
-        var latch = new CountDownLatch(batchedChecks.size());
-
-        var responses = new ConcurrentLinkedQueue<ClientBatchCheckSingleResponse>();
+        // Sub-batches of this call are sent through a window of maxParallelRequests, and every request is
+        // additionally bounded by the limiter shared by all callers of this client. Nothing here blocks.
+        var window = new ConcurrencyLimiter(maxParallelRequests);
         var failure = new AtomicReference<Throwable>();
 
-        var override = new ConfigurationOverride().addHeaders(options);
+        List<CompletableFuture<List<ClientBatchCheckSingleResponse>>> batchFutures = batchedChecks.stream()
+                .map(batch -> window.<List<ClientBatchCheckSingleResponse>>submit(() -> {
+                            // Stop sending further sub-batches once one has failed
+                            if (failure.get() != null) {
+                                return CompletableFuture.completedFuture(List.of());
+                            }
+                            return requestLimiter.submit(
+                                    configuration.getStoreId(),
+                                    () -> requestBatchCheck(batch, options, override)
+                                            .thenApply(response -> batchCheckResults(
+                                                    response,
+                                                    correlationIdToCheck,
+                                                    duplicateCorrelationIds,
+                                                    cacheDecision)));
+                        })
+                        .whenComplete((batchResults, throwable) -> {
+                            if (throwable != null) {
+                                failure.compareAndSet(null, unwrapCompletionException(throwable));
+                            }
+                        }))
+                .collect(Collectors.toList());
 
-        Consumer<List<BatchCheckItem>> singleBatchCheckRequest = request -> call(() -> {
-                    BatchCheckRequest body = new BatchCheckRequest().checks(request);
+        return CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0]))
+                .handle((ignored, throwable) -> failure.get())
+                .thenCompose(firstFailure -> {
+                    if (firstFailure != null) {
+                        return CompletableFuture.failedFuture(firstFailure);
+                    }
+                    return CompletableFuture.completedFuture(new ClientBatchCheckResponse(Stream.concat(
+                                    cachedResults.stream(),
+                                    batchFutures.stream().map(CompletableFuture::join).flatMap(List::stream))
+                            .collect(Collectors.toList())));
+                });
+    }
+
+    private CompletableFuture<ApiResponse<BatchCheckResponse>> requestBatchCheck(
+            List<BatchCheckItem> batch, ClientBatchCheckOptions options, ConfigurationOverride override) {
+        return call(() -> {
+                    BatchCheckRequest body = new BatchCheckRequest().checks(batch);
                     if (options.getConsistency() != null) {
                         body.consistency(options.getConsistency());
                     }
@@ -1026,43 +1953,60 @@ public class OpenFgaClient {
                     }
 
                     return api.batchCheck(configuration.getStoreId(), body, override);
-                })
-                .whenComplete((batchCheckResponseApiResponse, throwable) -> {
-                    try {
-                        if (throwable != null) {
-                            failure.compareAndSet(null, throwable);
-                            return;
-                        }
-
-                        Map<String, BatchCheckSingleResult> response =
-                                batchCheckResponseApiResponse.getData().getResult();
-
-                        List<ClientBatchCheckSingleResponse> batchResults = new ArrayList<>();
-                        response.forEach((key, result) -> {
-                            boolean allowed = Boolean.TRUE.equals(result.getAllowed());
-                            ClientBatchCheckItem checkItem = correlationIdToCheck.get(key);
-                            var singleResponse =
-                                    new ClientBatchCheckSingleResponse(allowed, checkItem, key, result.getError());
-                            batchResults.add(singleResponse);
-                        });
-                        responses.addAll(batchResults);
-                    } finally {
-                        latch.countDown();
-                    }
                 });
+    }
 
-        try {
-            batchedChecks.forEach(batch -> executor.execute(() -> singleBatchCheckRequest.accept(batch)));
-            latch.await();
-            if (failure.get() != null) {
-                return CompletableFuture.failedFuture(failure.get());
+    private static List<ClientBatchCheckSingleResponse> batchCheckResults(
+            ApiResponse<BatchCheckResponse> batchCheckResponseApiResponse,
+            Map<String, ClientBatchCheckItem> correlationIdToCheck,
+            Map<String, List<String>> duplicateCorrelationIds,
+            BiConsumer<String, Boolean> cacheDecision) {
+        Map<String, BatchCheckSingleResult> response =
+                batchCheckResponseApiResponse.getData().getResult();
+
+        List<ClientBatchCheckSingleResponse> batchResults = new ArrayList<>();
+        response.forEach((key, result) -> {
+            if (result.getError() == null && result.getAllowed() != null) {
+                cacheDecision.accept(key, result.getAllowed());
+            }
+            boolean allowed = Boolean.TRUE.equals(result.getAllowed());
+            ClientBatchCheckItem checkItem = correlationIdToCheck.get(key);
+            batchResults.add(new ClientBatchCheckSingleResponse(allowed, checkItem, key, result.getError()));
+            for (String duplicate : duplicateCorrelationIds.getOrDefault(key, List.of())) {
+                batchResults.add(new ClientBatchCheckSingleResponse(
+                        allowed, correlationIdToCheck.get(duplicate), duplicate, result.getError()));
+            }
+        });
+        return batchResults;
+    }
+
+    /**
+     * Returns the processing time reported by the server in the {@code fga-query-duration-ms} header, or null.
+     */
+    private static Double queryDurationMs(ApiResponse<?> response) {
+        if (response == null || response.getHeaders() == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            if (FgaConstants.QUERY_DURATION_HEADER_NAME.equalsIgnoreCase(header.getKey())
+                    && header.getValue() != null
+                    && !header.getValue().isEmpty()) {
+                try {
+                    return Double.parseDouble(header.getValue().get(0));
+                } catch (NumberFormatException e) {
+                    // Malformed values are ignored, the round-trip time is used instead
+                    return null;
+                }
             }
-            return CompletableFuture.completedFuture(new ClientBatchCheckResponse(new ArrayList<>(responses)));
-        } catch (Exception e) {
-            return CompletableFuture.failedFuture(e);
-        } finally {
-            executor.shutdown();
         }
+        return null;
+    }
+
+    /**
+     * Returns a future completing once all the given futures completed.
+     */
+    private static CompletableFuture<Void> allOf(List<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
     }
 
     /**
@@ -1161,14 +2105,21 @@ public class OpenFgaClient {
 
         var overrides = new ConfigurationOverride().addHeaders(options);
 
-        return call(() -> api.listObjects(storeId, body, overrides)).thenApply(ClientListObjectsResponse::new);
+        return coalesce(
+                        "ListObjects",
+                        storeId,
+                        body.getAuthorizationModelId(),
+                        body,
+                        options,
+                        () -> call(() -> api.listObjects(storeId, body, overrides)))
+                .thenApply(ClientListObjectsResponse::new);
     }
 
     /**
      * StreamedListObjects - Stream all objects of a particular type that the user has a relation to.
      * This method provides true asynchronous streaming with consumer callbacks.
      * Objects are delivered to the consumer as they are received from the server asynchronously.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished; cancelling it stops the stream.
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -1188,10 +2139,10 @@ public class OpenFgaClient {
      *
      * @param request The list objects request containing type, relation, and user
      * @param consumer Callback to handle each StreamedListObjectsResponse as it arrives
-     * @return CompletableFuture<Void> that completes when streaming finishes
+     * @return StreamHandle that completes when streaming finishes
      * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace, or consumer is null
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             ClientListObjectsRequest request, Consumer<StreamedListObjectsResponse> consumer)
             throws FgaInvalidParameterException {
         if (consumer == null) {
@@ -1204,7 +2155,7 @@ public class OpenFgaClient {
      * StreamedListObjects - Stream all objects of a particular type that the user has a relation to.
      * This method provides true asynchronous streaming with consumer callbacks.
      * Objects are delivered to the consumer as they are received from the server asynchronously.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished; cancelling it stops the stream.
      *
      * <p>Example usage with options:</p>
      * <pre>{@code
@@ -1214,8 +2165,10 @@ public class OpenFgaClient {
      *     .type("document");
      *
      * ClientStreamedListObjectsOptions options = new ClientStreamedListObjectsOptions()
-     *     .authorizationModelId("01HVMMBCMGZNT3SED4Z17ECXCA");
+     *     .authorizationModelId("01HVMMBCMGZNT3SED4Z17ECXCA")
+     *     .limit(100);
      *
+     * // The stream stops after the first 100 objects
      * client.streamedListObjects(request, options,
      *     response -> System.out.println("Found object: " + response.getObject())
      * ).thenRun(() -> System.out.println("Streaming complete"))
@@ -1228,10 +2181,10 @@ public class OpenFgaClient {
      * @param request The list objects request containing type, relation, and user
      * @param options Options for the streaming request
      * @param consumer Callback to handle each StreamedListObjectsResponse as it arrives
-     * @return CompletableFuture<Void> that completes when streaming finishes
+     * @return StreamHandle that completes when streaming finishes
      * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace, or consumer is null
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             ClientListObjectsRequest request,
             ClientStreamedListObjectsOptions options,
             Consumer<StreamedListObjectsResponse> consumer)
@@ -1246,7 +2199,7 @@ public class OpenFgaClient {
      * StreamedListObjects - Stream all objects of a particular type that the user has a relation to.
      * This method provides true asynchronous streaming with consumer callbacks.
      * Objects are delivered to the consumer as they are received from the server asynchronously.
-     * Returns a CompletableFuture that completes when streaming is finished.
+     * Returns a StreamHandle that completes when streaming is finished; cancelling it stops the stream.
      *
      * <p>Example usage with error handling:</p>
      * <pre>{@code
@@ -1264,14 +2217,24 @@ public class OpenFgaClient {
      * ).thenRun(() -> System.out.println("Streaming complete"));
      * }</pre>
      *
+     * <p>Example usage stopping the stream early:</p>
+     * <pre>{@code
+     * StreamHandle handle = client.streamedListObjects(request, options,
+     *     response -> System.out.println("Found object: " + response.getObject()),
+     *     error -> System.err.println("Streaming error: " + error.getMessage()));
+     *
+     * // Aborts the request and closes its connection
+     * handle.cancel();
+     * }</pre>
+     *
      * @param request The list objects request containing type, relation, and user
      * @param options Options for the streaming request
      * @param consumer Callback to handle each StreamedListObjectsResponse as it arrives
      * @param errorConsumer Optional callback to handle errors during streaming
-     * @return CompletableFuture<Void> that completes when streaming finishes or exceptionally on error
+     * @return StreamHandle that completes when streaming finishes or exceptionally on error
      * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace, or consumer is null
      */
-    public CompletableFuture<Void> streamedListObjects(
+    public StreamHandle streamedListObjects(
             ClientListObjectsRequest request,
             ClientStreamedListObjectsOptions options,
             Consumer<StreamedListObjectsResponse> consumer,
@@ -1283,6 +2246,77 @@ public class OpenFgaClient {
         configuration.assertValid();
         String storeId = configuration.getStoreIdChecked();
 
+        ListObjectsRequest body = streamedListObjectsBody(request, options);
+
+        var overrides = new ConfigurationOverride().addHeaders(options);
+
+        // Create streaming API instance and execute streaming request asynchronously
+        StreamedListObjectsApi streamingApi = new StreamedListObjectsApi(configuration, apiClient);
+        try {
+            return streamingApi.streamedListObjects(
+                    storeId, body, consumer, errorConsumer, overrides, options != null ? options.getLimit() : null);
+        } catch (ApiException e) {
+            if (errorConsumer != null) {
+                errorConsumer.accept(e);
+            }
+            return StreamHandle.failed(e);
+        }
+    }
+
+    /**
+     * StreamedListObjects - Publish all objects of a particular type that the user has a relation to.
+     * The request is sent for every subscription, and objects are read from the response as the subscriber
+     * requests them, so a slow subscriber only slows down reading the response and never blocks the HttpClient
+     * threads. Cancelling the subscription aborts the request. The options apply as to
+     * {@link #streamedListObjects(ClientListObjectsRequest, ClientStreamedListObjectsOptions, Consumer, Consumer)}:
+     * with a limit, the subscription completes and the request is aborted once that many objects have been published.
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * client.streamedListObjectsPublisher(request, null).subscribe(new Flow.Subscriber<>() {
+     *     private Flow.Subscription subscription;
+     *
+     *     public void onSubscribe(Flow.Subscription subscription) {
+     *         this.subscription = subscription;
+     *         subscription.request(1);
+     *     }
+     *
+     *     public void onNext(StreamedListObjectsResponse response) {
+     *         System.out.println("Found object: " + response.getObject());
+     *         subscription.request(1);
+     *     }
+     *
+     *     public void onError(Throwable error) {
+     *         System.err.println("Error: " + error.getMessage());
+     *     }
+     *
+     *     public void onComplete() {
+     *         System.out.println("Streaming complete");
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param request The list objects request containing type, relation, and user
+     * @param options Options for the streaming request
+     * @return A publisher of the StreamedListObjectsResponse objects. Subscriptions fail if the request cannot be
+     *         built, for HTTP errors and for errors in the stream.
+     * @throws FgaInvalidParameterException When the Store ID is null, empty, or whitespace
+     */
+    public Flow.Publisher<StreamedListObjectsResponse> streamedListObjectsPublisher(
+            ClientListObjectsRequest request, ClientStreamedListObjectsOptions options)
+            throws FgaInvalidParameterException {
+        configuration.assertValid();
+        String storeId = configuration.getStoreIdChecked();
+
+        ListObjectsRequest body = streamedListObjectsBody(request, options);
+        var overrides = new ConfigurationOverride().addHeaders(options);
+
+        return new StreamedListObjectsApi(configuration, apiClient)
+                .streamedListObjectsPublisher(storeId, body, overrides, options != null ? options.getLimit() : null);
+    }
+
+    private ListObjectsRequest streamedListObjectsBody(
+            ClientListObjectsRequest request, ClientStreamedListObjectsOptions options) {
         ListObjectsRequest body = new ListObjectsRequest();
 
         if (request != null) {
@@ -1311,18 +2345,7 @@ public class OpenFgaClient {
             body.setAuthorizationModelId(configuration.getAuthorizationModelId());
         }
 
-        var overrides = new ConfigurationOverride().addHeaders(options);
-
-        // Create streaming API instance and execute streaming request asynchronously
-        StreamedListObjectsApi streamingApi = new StreamedListObjectsApi(configuration, apiClient);
-        try {
-            return streamingApi.streamedListObjects(storeId, body, consumer, errorConsumer, overrides);
-        } catch (ApiException e) {
-            if (errorConsumer != null) {
-                errorConsumer.accept(e);
-            }
-            return CompletableFuture.failedFuture(e);
-        }
+        return body;
     }
 
     /**
@@ -1357,6 +2380,10 @@ public class OpenFgaClient {
                 FgaConstants.CLIENT_BULK_REQUEST_ID_HEADER, randomUUID().toString());
         options.additionalHeaders(headers);
 
+        if (Boolean.TRUE.equals(options.getUseBatchCheck())) {
+            return listRelationsWithBatchCheck(List.of(request), options).thenApply(responses -> responses.get(0));
+        }
+
         var batchCheckRequests = request.getRelations().stream()
                 .map(relation -> new ClientCheckRequest()
                         .user(request.getUser())
@@ -1370,6 +2397,112 @@ public class OpenFgaClient {
                 .thenCompose(responses -> call(() -> ClientListRelationsResponse.fromBatchCheckResponses(responses)));
     }
 
+    /**
+     * ListRelations - List allowed relations a user has with each of several objects (evaluates)
+     *
+     * <p>The relations of every request are checked together, in as few {@code BatchCheck} requests as
+     * {@link ClientListRelationsOptions#maxBatchSize(Integer)} allows. Requires OpenFGA version 1.8.0 or greater.</p>
+     *
+     * @return The allowed relations of each request, in the order of the requests. Fails with the first error of a
+     * check, in the order of the requests and their relations.
+     */
+    public CompletableFuture<List<ClientListRelationsResponse>> listRelations(
+            List<ClientListRelationsRequest> requests, ClientListRelationsOptions listRelationsOptions)
+            throws FgaInvalidParameterException {
+        for (ClientListRelationsRequest request : requests) {
+            if (request.getRelations() == null || request.getRelations().isEmpty()) {
+                throw new FgaInvalidParameterException(
+                        "At least 1 relation to check has to be provided when calling ListRelations");
+            }
+        }
+
+        var options = listRelationsOptions != null
+                ? listRelationsOptions
+                : new ClientListRelationsOptions()
+                        .maxParallelRequests(FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS);
+
+        HashMap<String, String> headers = options.getAdditionalHeaders() != null
+                ? new HashMap<>(options.getAdditionalHeaders())
+                : new HashMap<>();
+        headers.putIfAbsent(FgaConstants.CLIENT_METHOD_HEADER, "ListRelations");
+        headers.putIfAbsent(
+                FgaConstants.CLIENT_BULK_REQUEST_ID_HEADER, randomUUID().toString());
+        options.additionalHeaders(headers);
+
+        return listRelationsWithBatchCheck(requests, options);
+    }
+
+    private CompletableFuture<List<ClientListRelationsResponse>> listRelationsWithBatchCheck(
+            List<ClientListRelationsRequest> requests, ClientListRelationsOptions options)
+            throws FgaInvalidParameterException {
+        // The checks of request i are identified by the correlation IDs "i.0", "i.1"... in the order of its relations
+        List<ClientBatchCheckItem> checks = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ClientListRelationsRequest request = requests.get(i);
+            for (int j = 0; j < request.getRelations().size(); j++) {
+                checks.add(new ClientBatchCheckItem()
+                        .user(request.getUser())
+                        .relation(request.getRelations().get(j))
+                        ._object(request.getObject())
+                        .contextualTuples(request.getContextualTupleKeys())
+                        .context(request.getContext())
+                        .correlationId(i + "." + j));
+            }
+        }
+
+        CompletableFuture<ClientBatchCheckResponse> batchCheckResponse;
+        try {
+            batchCheckResponse =
+                    batchCheck(new ClientBatchCheckRequest().checks(checks), options.asClientBatchCheckOptions());
+        } catch (FgaValidationError e) {
+            // Not expected, the correlation IDs are unique
+            return CompletableFuture.failedFuture(e);
+        }
+
+        ClientCheckOptions checkOptions = options.asClientCheckOptions();
+        return batchCheckResponse.thenCompose(response -> {
+            Map<String, ClientBatchCheckSingleResponse> results = new HashMap<>();
+            response.getResult().forEach(result -> results.put(result.getCorrelationId(), result));
+
+            List<CompletableFuture<Boolean>> allowed = new ArrayList<>(checks.size());
+            for (ClientBatchCheckItem check : checks) {
+                ClientBatchCheckSingleResponse result = results.get(check.getCorrelationId());
+                if (result != null && result.getError() == null) {
+                    allowed.add(CompletableFuture.completedFuture(result.isAllowed()));
+                } else {
+                    // Checks that failed within the batch are sent again as regular checks, so that errors
+                    // are reported as when checking each relation on its own
+                    ClientCheckRequest request = new ClientCheckRequest()
+                            .user(check.getUser())
+                            .relation(check.getRelation())
+                            ._object(check.getObject())
+                            .contextualTuples(check.getContextualTuples())
+                            .context(check.getContext());
+                    allowed.add(call(() -> check(request, checkOptions))
+                            .thenApply(checkResponse -> Boolean.TRUE.equals(checkResponse.getAllowed())));
+                }
+            }
+
+            return allOf(allowed)
+                    .handle((ignored, throwable) -> null)
+                    .thenCompose(ignored -> call(() -> {
+                        List<ClientListRelationsResponse> responses = new ArrayList<>(requests.size());
+                        int index = 0;
+                        for (ClientListRelationsRequest request : requests) {
+                            List<String> relations = new ArrayList<>();
+                            for (String relation : request.getRelations()) {
+                                // Throws the error of the first failed check, in the order of the requests
+                                if (allowed.get(index++).join()) {
+                                    relations.add(relation);
+                                }
+                            }
+                            responses.add(new ClientListRelationsResponse(relations));
+                        }
+                        return responses;
+                    }));
+        });
+    }
+
     /**
      * ListUsers - List all users of the given type that the object has a relation with (evaluates)
      */
@@ -1502,6 +2635,32 @@ public class OpenFgaClient {
         CompletableFuture<R> call() throws Throwable;
     }
 
+    /**
+     * Send a request, or share an identical request in flight when request coalescing is enabled.
+     */
+    private <T> CompletableFuture<T> coalesce(
+            String method,
+            String storeId,
+            String authorizationModelId,
+            Object body,
+            AdditionalHeadersSupplier options,
+            Supplier<CompletableFuture<T>> request) {
+        RequestCoalescer coalescer = requestCoalescer;
+        if (coalescer == null) {
+            return request.get();
+        }
+        Map<String, String> headers = options != null ? options.getAdditionalHeaders() : null;
+        return coalescer.coalesce(method, storeId, body, headers, request, () -> {
+            Map<Attribute, String> attributes = new HashMap<>();
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_METHOD, method);
+            attributes.put(Attributes.FGA_CLIENT_REQUEST_STORE_ID, storeId);
+            if (!isNullOrWhitespace(authorizationModelId)) {
+                attributes.put(Attributes.FGA_CLIENT_REQUEST_MODEL_ID, authorizationModelId);
+            }
+            telemetry.metrics().requestCollapsed(1L, attributes);
+        });
+    }
+
     private <T> CompletableFuture<T> call(CheckedAsyncInvocation<T> action) {
         try {
             return action.call();
@@ -1523,6 +2682,12 @@ public class OpenFgaClient {
         R call() throws Throwable;
     }
 
+    private static Throwable unwrapCompletionException(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
     private <T> CompletableFuture<T> call(CheckedInvocation<T> action) {
         try {
             return CompletableFuture.completedFuture(action.call());
@@ -0,0 +1,184 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import dev.openfga.sdk.api.model.*;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pre-built {@link ObjectReader}s and {@link ObjectWriter}s of an {@link ObjectMapper}, per type.
+ *
+ * <p>{@link ObjectMapper#readValue(byte[], Class)} and {@link ObjectMapper#writeValueAsBytes(Object)} look up the
+ * (de)serializer of the type on every call. A reader or writer bound to a type resolves it once, when it is
+ * created, and is then reused for every request. Readers and writers are immutable and thread-safe.</p>
+ *
+ * <p>Readers and writers capture the configuration of the mapper when they are created. The registry checks on every
+ * lookup that the configuration of the mapper is unchanged, and otherwise drops them, so that changes made to the
+ * mapper afterwards (features, modules) apply to the next request as they would with the mapper itself.</p>
+ */
+public class ReaderWriterRegistry {
+
+    /**
+     * The request and response models of the OpenFGA API, warmed when an {@link ApiClient} is created.
+     */
+    public static final List<Class<?>> MODEL_CLASSES = List.of(
+            AbortedMessageResponse.class,
+            BatchCheckRequest.class,
+            BatchCheckResponse.class,
+            CheckRequest.class,
+            CheckResponse.class,
+            CreateStoreRequest.class,
+            CreateStoreResponse.class,
+            ExpandRequest.class,
+            ExpandResponse.class,
+            ForbiddenResponse.class,
+            GetStoreResponse.class,
+            InternalErrorMessageResponse.class,
+            ListObjectsRequest.class,
+            ListObjectsResponse.class,
+            ListStoresResponse.class,
+            ListUsersRequest.class,
+            ListUsersResponse.class,
+            PathUnknownErrorMessageResponse.class,
+            ReadAssertionsResponse.class,
+            ReadAuthorizationModelResponse.class,
+            ReadAuthorizationModelsResponse.class,
+            ReadChangesResponse.class,
+            ReadRequest.class,
+            ReadResponse.class,
+            StreamResultOfStreamedListObjectsResponse.class,
+            StreamedListObjectsResponse.class,
+            UnauthenticatedResponse.class,
+            UnprocessableContentMessageResponse.class,
+            ValidationErrorMessageResponse.class,
+            WriteAssertionsRequest.class,
+            WriteAuthorizationModelRequest.class,
+            WriteAuthorizationModelResponse.class,
+            WriteRequest.class);
+
+    private final ObjectMapper mapper;
+    private volatile Snapshot snapshot;
+
+    public ReaderWriterRegistry(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.snapshot = new Snapshot(mapper);
+    }
+
+    /**
+     * Get the registry of an {@link ApiClient}. An ApiClient that does not provide one gets a new registry of its
+     * {@link ObjectMapper}, which is not cached.
+     */
+    public static ReaderWriterRegistry of(ApiClient apiClient) {
+        ReaderWriterRegistry registry = apiClient.getReaderWriterRegistry();
+        return registry != null ? registry : new ReaderWriterRegistry(apiClient.getObjectMapper());
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return mapper;
+    }
+
+    /**
+     * Create the reader and writer of each type ahead of their first use.
+     *
+     * @param types The types to warm.
+     * @return This object.
+     */
+    public ReaderWriterRegistry warm(Collection<Class<?>> types) {
+        for (Class<?> type : types) {
+            reader(type);
+            writer(type);
+        }
+        return this;
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        Snapshot current = current();
+        ObjectReader reader = current.readers.get(type);
+        return reader != null ? reader : current.readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    public ObjectReader reader(JavaType type) {
+        Snapshot current = current();
+        ObjectReader reader = current.typeReaders.get(type);
+        return reader != null ? reader : current.typeReaders.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        Snapshot current = current();
+        ObjectWriter writer = current.writers.get(type);
+        return writer != null ? writer : current.writers.computeIfAbsent(type, mapper::writerFor);
+    }
+
+    /**
+     * Deserialize a value of the given type with its registered reader.
+     */
+    public <T> T readValue(byte[] content, Class<T> type) throws IOException {
+        return reader(type).readValue(content);
+    }
+
+    /**
+     * Serialize a value with the writer registered for its runtime type.
+     */
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return mapper.writeValueAsBytes(null);
+        }
+        return writer(value.getClass()).writeValueAsBytes(value);
+    }
+
+    /**
+     * Get the readers and writers of the current configuration of the mapper, dropping those of a previous one.
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current.isOf(mapper)) {
+            return current;
+        }
+        current = new Snapshot(mapper);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * The readers and writers created with one configuration of the mapper. The mapper replaces its configuration
+     * objects, rather than modifying them, when it is configured or a module is registered.
+     */
+    private static final class Snapshot {
+        private final DeserializationConfig deserializationConfig;
+        private final DeserializationContext deserializationContext;
+        private final SerializationConfig serializationConfig;
+        private final SerializerFactory serializerFactory;
+        private final SerializerProvider serializerProvider;
+        private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final ConcurrentMap<JavaType, ObjectReader> typeReaders = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        private Snapshot(ObjectMapper mapper) {
+            this.deserializationConfig = mapper.getDeserializationConfig();
+            this.deserializationContext = mapper.getDeserializationContext();
+            this.serializationConfig = mapper.getSerializationConfig();
+            this.serializerFactory = mapper.getSerializerFactory();
+            this.serializerProvider = mapper.getSerializerProvider();
+        }
+
+        private boolean isOf(ObjectMapper mapper) {
+            return deserializationConfig == mapper.getDeserializationConfig()
+                    && deserializationContext == mapper.getDeserializationContext()
+                    && serializationConfig == mapper.getSerializationConfig()
+                    && serializerFactory == mapper.getSerializerFactory()
+                    && serializerProvider == mapper.getSerializerProvider();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one request between identical calls that are in flight at the same time (single-flight).
+ *
+ * <p>Calls are identical when they have the same method, store, additional headers and body. The body is compared as
+ * canonical JSON (with map entries ordered by key), so it includes the authorization model, the consistency, the
+ * contextual tuples and the context of the request. The first call sends the request, and the calls made before it
+ * completes receive its outcome. Every caller gets its own future, so cancelling it does not affect the others.</p>
+ *
+ * <p>{@link #clear()} makes later calls send a new request even if an identical one is still in flight, which the
+ * client does after each write so that a process reads its own writes. This class is thread-safe.</p>
+ */
+class RequestCoalescer {
+    private final ConcurrentHashMap<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final ObjectWriter canonicalWriter;
+
+    RequestCoalescer(ObjectMapper mapper) {
+        this.canonicalWriter = (mapper != null ? mapper : new ObjectMapper())
+                .writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Send a request, or join an identical request in flight.
+     *
+     * @param method The name of the API method, e.g. {@code Check}.
+     * @param storeId The store of the request.
+     * @param body The body of the request, or another value that identifies it.
+     * @param headers The additional headers of the request, or null.
+     * @param request Sends the request.
+     * @param onCollapsed Called when the call joins a request in flight instead of sending one.
+     * @return The outcome of the request.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> coalesce(
+            String method,
+            String storeId,
+            Object body,
+            Map<String, String> headers,
+            Supplier<CompletableFuture<T>> request,
+            Runnable onCollapsed) {
+        String key;
+        try {
+            key = method + '\n' + storeId + '\n' + canonicalWriter.writeValueAsString(headers) + '\n'
+                    + canonicalWriter.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            // Requests that cannot be compared are sent on their own
+            return request.get();
+        }
+
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            onCollapsed.run();
+            return ((CompletableFuture<T>) existing).copy();
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((value, throwable) -> {
+            // Removed first, so that calls made after the outcome is delivered send a new request
+            inFlight.remove(key, shared);
+            if (throwable != null) {
+                shared.completeExceptionally(throwable);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared.copy();
+    }
+
+    /**
+     * Make later calls send a new request instead of joining the requests in flight. The calls already waiting for
+     * these requests still receive their outcome.
+     */
+    void clear() {
+        inFlight.clear();
+    }
+
+    /**
+     * Get the number of distinct requests in flight.
+     */
+    int size() {
+        return inFlight.size();
+    }
+}
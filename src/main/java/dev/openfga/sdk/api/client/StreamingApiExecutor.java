@@ -1,12 +1,16 @@
 package dev.openfga.sdk.api.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.openfga.sdk.api.BaseStreamingApi;
+import dev.openfga.sdk.api.StreamHandle;
 import dev.openfga.sdk.api.configuration.Configuration;
 import dev.openfga.sdk.api.model.StreamResult;
-import java.util.concurrent.CompletableFuture;
+import dev.openfga.sdk.errors.ApiException;
+import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
 
@@ -87,11 +91,11 @@ public class StreamingApiExecutor<T> extends BaseStreamingApi<T> {
      *                       from the async HTTP thread, not the calling thread. Use thread-safe
      *                       structures or call {@link java.util.concurrent.CompletableFuture#get()
      *                       get()} before accessing results from the calling thread.
-     * @return CompletableFuture&lt;Void&gt; that completes when the stream is exhausted,
+     * @return StreamHandle that completes when the stream is exhausted or cancelled,
      *         or fails exceptionally for configuration or HTTP errors.
      * @throws IllegalArgumentException if {@code requestBuilder} or {@code consumer} is null
      */
-    public CompletableFuture<Void> stream(ApiExecutorRequestBuilder requestBuilder, Consumer<T> consumer) {
+    public StreamHandle stream(ApiExecutorRequestBuilder requestBuilder, Consumer<T> consumer) {
         return stream(requestBuilder, consumer, null);
     }
 
@@ -103,13 +107,13 @@ public class StreamingApiExecutor<T> extends BaseStreamingApi<T> {
      *                       get()} before accessing results from the calling thread.
      * @param errorConsumer  Optional callback invoked for stream or HTTP errors.
      *                       {@code errorConsumer} is a notification side-channel — the returned
-     *                       {@code CompletableFuture} always reflects the error regardless of
+     *                       {@code StreamHandle} always reflects the error regardless of
      *                       whether an {@code errorConsumer} is present.
-     * @return CompletableFuture&lt;Void&gt; that completes when the stream is exhausted,
+     * @return StreamHandle that completes when the stream is exhausted or cancelled,
      *         or fails exceptionally for configuration or HTTP errors.
      * @throws IllegalArgumentException if {@code requestBuilder} or {@code consumer} is null
      */
-    public CompletableFuture<Void> stream(
+    public StreamHandle stream(
             ApiExecutorRequestBuilder requestBuilder,
             Consumer<T> consumer,
             @Nullable Consumer<Throwable> errorConsumer) {
@@ -128,7 +132,40 @@ public class StreamingApiExecutor<T> extends BaseStreamingApi<T> {
             if (errorConsumer != null) {
                 errorConsumer.accept(e);
             }
-            return CompletableFuture.failedFuture(e);
+            return StreamHandle.failed(e);
+        }
+    }
+
+    /**
+     * Publish the response objects of a streaming request. The request is sent for every subscription, and the
+     * response body is read as the subscriber requests objects: a subscriber that stops requesting objects stops the
+     * body from being read, without blocking any thread. Cancelling the subscription aborts the HTTP exchange.
+     *
+     * <pre>{@code
+     * client.streamingApiExecutor(StreamedListObjectsResponse.class)
+     *     .streamPublisher(request)
+     *     .subscribe(subscriber);
+     * }</pre>
+     *
+     * @param requestBuilder Request configuration
+     * @return A publisher of the response objects. Subscriptions fail if the request cannot be built, for HTTP
+     *         errors and for errors in the stream.
+     * @throws IllegalArgumentException if {@code requestBuilder} is null
+     * @throws FgaInvalidParameterException if the configuration is invalid
+     */
+    public Flow.Publisher<T> streamPublisher(ApiExecutorRequestBuilder requestBuilder)
+            throws FgaInvalidParameterException {
+        if (requestBuilder == null) {
+            throw new IllegalArgumentException("Request builder cannot be null");
+        }
+
+        configuration.assertValid();
+        try {
+            return publishStreamingResponse(requestBuilder.buildHttpRequest(configuration, apiClient));
+        } catch (ApiException e) {
+            return failedPublisher(e);
+        } catch (JsonProcessingException e) {
+            return failedPublisher(new ApiException(e));
         }
     }
 }
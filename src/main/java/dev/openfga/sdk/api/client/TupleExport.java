@@ -0,0 +1,170 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.client.model.ClientExportTuplesResponse;
+import dev.openfga.sdk.api.model.RelationshipCondition;
+import dev.openfga.sdk.api.model.Tuple;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the pages of tuples read by an export to an NDJSON file, in the format read by
+ * {@link OpenFgaClient#importTuples(Path, dev.openfga.sdk.api.configuration.ClientImportTuplesOptions)}.
+ *
+ * <p>Pages of different partitions are written one at a time, each page as a whole. The first failure of a partition
+ * is kept, and the pages written after it are rejected so that the other partitions stop reading. The file is deleted
+ * when the export fails.</p>
+ */
+class TupleExport {
+    private final Path file;
+    private final JsonGenerator generator;
+    private final int partitions;
+    private final Consumer<ClientExportTuplesResponse> progressListener;
+    private final long start = System.nanoTime();
+    private long tuples;
+    private int completedPartitions;
+    private Throwable failure;
+
+    private TupleExport(
+            Path file,
+            JsonGenerator generator,
+            int partitions,
+            Consumer<ClientExportTuplesResponse> progressListener) {
+        this.file = file;
+        this.generator = generator;
+        this.partitions = partitions;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Create a file, replacing it if it exists.
+     *
+     * @param file             The file to write.
+     * @param compress         Whether the file is compressed with gzip, or null to compress files ending with .gz.
+     * @param mapper           Writes condition contexts.
+     * @param partitions       The number of partitions of the export.
+     * @param progressListener Receives the progress every time a page was written, or null.
+     */
+    static TupleExport open(
+            Path file,
+            Boolean compress,
+            ObjectMapper mapper,
+            int partitions,
+            Consumer<ClientExportTuplesResponse> progressListener)
+            throws IOException {
+        if (compress == null) {
+            compress = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+        }
+        OutputStream out = Files.newOutputStream(file);
+        try {
+            out = compress ? new GZIPOutputStream(out, 64 * 1024) : new BufferedOutputStream(out, 64 * 1024);
+            // One tuple per line, without the space Jackson writes between root values by default
+            JsonGenerator generator = mapper.getFactory().createGenerator(out).setRootValueSeparator(null);
+            return new TupleExport(file, generator, partitions, progressListener);
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Write a page of tuples.
+     *
+     * @throws CancellationException If another partition failed.
+     * @throws UncheckedIOException  If the file could not be written.
+     */
+    synchronized void write(List<Tuple> page) {
+        checkNotFailed();
+        try {
+            for (Tuple tuple : page) {
+                writeTuple(tuple.getKey());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        tuples += page.size();
+        if (progressListener != null) {
+            progressListener.accept(progress());
+        }
+    }
+
+    /**
+     * @throws CancellationException If a partition failed.
+     */
+    synchronized void checkNotFailed() {
+        if (failure != null) {
+            throw new CancellationException("Another partition of the export failed");
+        }
+    }
+
+    synchronized void partitionCompleted() {
+        completedPartitions++;
+    }
+
+    synchronized void fail(Throwable throwable) {
+        if (failure == null) {
+            failure = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+        }
+    }
+
+    /**
+     * Close the file once every partition completed, deleting it if the export failed.
+     *
+     * @return The outcome of the export.
+     * @throws CompletionException If a partition failed, or the file could not be written.
+     */
+    synchronized ClientExportTuplesResponse finish() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+        if (failure != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+            throw new CompletionException(failure);
+        }
+        return progress();
+    }
+
+    private ClientExportTuplesResponse progress() {
+        return new ClientExportTuplesResponse(
+                tuples, completedPartitions, partitions, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void writeTuple(TupleKey key) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("user", key.getUser());
+        generator.writeStringField("relation", key.getRelation());
+        generator.writeStringField("object", key.getObject());
+        RelationshipCondition condition = key.getCondition();
+        if (condition != null) {
+            generator.writeObjectFieldStart("condition");
+            generator.writeStringField("name", condition.getName());
+            if (condition.getContext() != null) {
+                generator.writeObjectField("context", condition.getContext());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,254 @@
+package dev.openfga.sdk.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.client.model.ClientRelationshipCondition;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.configuration.ClientImportTuplesOptions.FileFormat;
+import dev.openfga.sdk.util.IteratorPublisher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the tuples of NDJSON and CSV files, one line at a time as they are requested.
+ */
+class TupleFiles {
+    private TupleFiles() {}
+
+    /**
+     * Open a file of tuples. The file is closed once all its tuples are read, reading fails, or the subscription is
+     * cancelled. A line that is not a valid tuple fails the publisher with an {@link IllegalArgumentException}. Files
+     * ending with {@code .gz} are decompressed with gzip.
+     *
+     * @param file   The file to read.
+     * @param format The format of the file, or null to infer it from its extension (e.g. {@code .csv.gz} for CSV).
+     * @param mapper Parses NDJSON lines and condition contexts.
+     */
+    static IteratorPublisher<ClientTupleKey> open(Path file, FileFormat format, ObjectMapper mapper)
+            throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean compressed = name.endsWith(".gz");
+        if (compressed) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        if (format == null) {
+            format = name.endsWith(".csv") ? FileFormat.CSV : FileFormat.NDJSON;
+        }
+        BufferedReader reader;
+        if (compressed) {
+            InputStream in = Files.newInputStream(file);
+            try {
+                reader = new BufferedReader(
+                        new InputStreamReader(new GZIPInputStream(in, 64 * 1024), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        } else {
+            reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        }
+        LineParser parser = format == FileFormat.CSV ? new CsvParser(mapper) : new NdjsonParser(mapper);
+        return new IteratorPublisher<>(new TupleIterator(file, reader, parser), reader);
+    }
+
+    private interface LineParser {
+        /**
+         * Parse a non-blank line, returning null for lines that hold no tuple (e.g. a CSV header).
+         */
+        ClientTupleKey parse(String line) throws IOException;
+    }
+
+    private static class TupleIterator implements Iterator<ClientTupleKey> {
+        private final Path file;
+        private final BufferedReader reader;
+        private final LineParser parser;
+        private ClientTupleKey next;
+        private long lineNumber;
+
+        private TupleIterator(Path file, BufferedReader reader, LineParser parser) {
+            this.file = file;
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                String line;
+                try {
+                    line = reader.readLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    next = parser.parse(line);
+                } catch (IOException | RuntimeException e) {
+                    throw new IllegalArgumentException(
+                            "Invalid tuple on line " + lineNumber + " of " + file + ": " + e.getMessage(), e);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ClientTupleKey next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ClientTupleKey tuple = next;
+            next = null;
+            return tuple;
+        }
+    }
+
+    private static class NdjsonParser implements LineParser {
+        private final ObjectMapper mapper;
+
+        private NdjsonParser(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public ClientTupleKey parse(String line) throws IOException {
+            JsonNode node = mapper.readTree(line);
+            ClientTupleKey tuple = new ClientTupleKey()
+                    .user(required(node, "user"))
+                    .relation(required(node, "relation"))
+                    ._object(required(node, "object"));
+            JsonNode condition = node.get("condition");
+            if (condition != null && !condition.isNull()) {
+                tuple.condition(new ClientRelationshipCondition()
+                        .name(required(condition, "name"))
+                        .context(condition.hasNonNull("context")
+                                ? mapper.treeToValue(condition.get("context"), Object.class)
+                                : null));
+            }
+            return tuple;
+        }
+
+        private static String required(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || !value.isTextual() || value.asText().isEmpty()) {
+                throw new IllegalArgumentException(field + " is required");
+            }
+            return value.asText();
+        }
+    }
+
+    private static class CsvParser implements LineParser {
+        private final ObjectMapper mapper;
+        private Map<String, Integer> columns;
+
+        private CsvParser(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public ClientTupleKey parse(String line) throws JsonProcessingException {
+            List<String> fields = split(line);
+            if (columns == null) {
+                columns = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(fields.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.containsKey("relation")
+                        || !(columns.containsKey("user") || columns.containsKey("user_type"))
+                        || !(columns.containsKey("object") || columns.containsKey("object_type"))) {
+                    throw new IllegalArgumentException("the header must name the user, relation and object columns");
+                }
+                return null;
+            }
+
+            String user = columns.containsKey("user")
+                    ? required(fields, "user")
+                    : required(fields, "user_type") + ":" + required(fields, "user_id");
+            String userRelation = field(fields, "user_relation");
+            if (!userRelation.isEmpty()) {
+                user += "#" + userRelation;
+            }
+            String object = columns.containsKey("object")
+                    ? required(fields, "object")
+                    : required(fields, "object_type") + ":" + required(fields, "object_id");
+            ClientTupleKey tuple =
+                    new ClientTupleKey().user(user).relation(required(fields, "relation"))._object(object);
+
+            String conditionName = field(fields, "condition_name");
+            if (!conditionName.isEmpty()) {
+                String context = field(fields, "condition_context");
+                tuple.condition(new ClientRelationshipCondition()
+                        .name(conditionName)
+                        .context(context.isEmpty() ? null : mapper.readValue(context, Object.class)));
+            }
+            return tuple;
+        }
+
+        private String required(List<String> fields, String column) {
+            String value = field(fields, column);
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return value;
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? fields.get(index).trim() : "";
+        }
+
+        /**
+         * Split a line into fields. Fields may be quoted to contain commas, with quotes escaped as {@code ""}.
+         */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
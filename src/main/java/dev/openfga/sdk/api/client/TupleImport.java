@@ -0,0 +1,367 @@
+package dev.openfga.sdk.api.client;
+
+import dev.openfga.sdk.api.client.model.ClientImportTuplesResponse;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientWriteSingleResponse;
+import dev.openfga.sdk.api.client.model.ClientWriteStatus;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Writes the tuples of a publisher in chunks, with at most {@code maxInFlight} chunks being written at the same time.
+ *
+ * <p>Tuples are requested from the publisher as chunks complete, so a slow store applies backpressure to the source
+ * and no more than {@code maxInFlight} chunks are held in memory. As chunks complete out of order, the import tracks
+ * the offset up to which all tuples were processed, and saves it to the {@link ImportCheckpointStore} as it advances,
+ * on the given executor so that a store doing I/O does not hold the threads completing the writes. Chunks that fail do
+ * not stop the import: their tuples are passed to the failure listener, or kept in the response up to a maximum
+ * number. An error of the source, of the checkpoint store, of the failure listener, or a chunk error re-thrown by the
+ * writer (e.g. an authentication error) cancels the source and fails the import once the chunks in flight
+ * complete.</p>
+ */
+class TupleImport implements Flow.Subscriber<ClientTupleKey> {
+
+    @FunctionalInterface
+    interface ChunkWriter {
+        CompletableFuture<List<ClientWriteSingleResponse>> write(List<ClientTupleKey> chunk);
+    }
+
+    private final ChunkWriter writer;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final long skip;
+    private final String importId;
+    private final ImportCheckpointStore checkpointStore;
+    private final Executor checkpointExecutor;
+    private final Consumer<ClientWriteSingleResponse> failureListener;
+    private final int maxFailures;
+    private final CompletableFuture<ClientImportTuplesResponse> result = new CompletableFuture<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private Flow.Subscription subscription;
+    private long received;
+    private long chunkStart;
+    private List<ClientTupleKey> buffer = new ArrayList<>();
+    private final Deque<Chunk> ready = new ArrayDeque<>();
+    private int inFlight;
+    private boolean sourceDone;
+    private Throwable failure;
+    private boolean cancelled;
+    // The end offset of each completed chunk that starts after the watermark, by start offset
+    private final Map<Long, Long> completed = new HashMap<>();
+    private long watermark;
+    private long savedOffset;
+    private boolean saving;
+    private long imported;
+    private long failed;
+    private final List<ClientWriteSingleResponse> failures = new ArrayList<>();
+
+    /**
+     * @param writer          Writes a chunk, completing with the outcome of each of its tuples.
+     * @param chunkSize       The number of tuples per chunk.
+     * @param maxInFlight     The maximum number of chunks written at the same time.
+     * @param skip            The number of tuples at the start of the source that were processed by an earlier import.
+     * @param importId        The import in the checkpoint store.
+     * @param checkpointStore Where the checkpoint is saved, or null.
+     * @param checkpointExecutor Runs the saves of the checkpoint.
+     * @param failureListener Receives the tuples that could not be written, or null to keep them in the response.
+     * @param maxFailures     The maximum number of failed tuples kept in the response.
+     */
+    TupleImport(
+            ChunkWriter writer,
+            int chunkSize,
+            int maxInFlight,
+            long skip,
+            String importId,
+            ImportCheckpointStore checkpointStore,
+            Executor checkpointExecutor,
+            Consumer<ClientWriteSingleResponse> failureListener,
+            int maxFailures) {
+        this.writer = writer;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.skip = skip;
+        this.importId = importId;
+        this.checkpointStore = checkpointStore;
+        this.checkpointExecutor = checkpointExecutor;
+        this.failureListener = failureListener;
+        this.maxFailures = maxFailures;
+        this.chunkStart = skip;
+        this.watermark = skip;
+        this.savedOffset = skip;
+    }
+
+    /**
+     * Subscribe to a publisher and write its tuples.
+     */
+    static CompletableFuture<ClientImportTuplesResponse> run(
+            Flow.Publisher<? extends ClientTupleKey> publisher, TupleImport tupleImport) {
+        publisher.subscribe(tupleImport);
+        return tupleImport.result;
+    }
+
+    /**
+     * Fail an import before it starts, cancelling the publisher so that it releases its resources (e.g. a file).
+     */
+    static CompletableFuture<ClientImportTuplesResponse> cancel(
+            Flow.Publisher<? extends ClientTupleKey> publisher, Throwable failure) {
+        publisher.subscribe(new Flow.Subscriber<ClientTupleKey>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onNext(ClientTupleKey item) {}
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+        return CompletableFuture.failedFuture(failure);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        long initial = skip + (long) chunkSize * maxInFlight;
+        subscription.request(initial < 0 ? Long.MAX_VALUE : initial);
+    }
+
+    @Override
+    public void onNext(ClientTupleKey tuple) {
+        synchronized (this) {
+            if (failure != null || sourceDone) {
+                return;
+            }
+            received++;
+            if (received <= skip) {
+                return;
+            }
+            buffer.add(tuple);
+            if (buffer.size() < chunkSize) {
+                return;
+            }
+            ready.add(new Chunk(chunkStart, buffer));
+            buffer = new ArrayList<>(chunkSize);
+            chunkStart = received;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (this) {
+            if (failure == null) {
+                failure = throwable;
+            }
+            sourceDone = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            if (sourceDone) {
+                return;
+            }
+            if (!buffer.isEmpty()) {
+                ready.add(new Chunk(chunkStart, buffer));
+                buffer = new ArrayList<>();
+            }
+            sourceDone = true;
+        }
+        drain();
+    }
+
+    /**
+     * Starts chunks while slots are free. Re-entrant calls (e.g. from a chunk completing synchronously, or a source
+     * emitting tuples from within {@code request}) are folded into the outermost loop.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (true) {
+                Chunk chunk;
+                synchronized (this) {
+                    if (failure != null || inFlight >= maxInFlight || ready.isEmpty()) {
+                        break;
+                    }
+                    chunk = ready.poll();
+                    inFlight++;
+                }
+                start(chunk);
+            }
+            cancelOnFailure();
+            complete();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void start(Chunk chunk) {
+        CompletableFuture<List<ClientWriteSingleResponse>> future;
+        try {
+            future = writer.write(chunk.tuples);
+        } catch (Throwable throwable) {
+            future = CompletableFuture.failedFuture(throwable);
+        }
+        future.whenComplete((responses, throwable) -> {
+            boolean requestMore;
+            synchronized (this) {
+                inFlight--;
+                if (throwable != null) {
+                    if (failure == null) {
+                        failure = throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable;
+                    }
+                } else {
+                    try {
+                        for (ClientWriteSingleResponse response : responses) {
+                            if (response.getStatus() == ClientWriteStatus.SUCCESS) {
+                                imported++;
+                            } else {
+                                failed++;
+                                if (failureListener != null) {
+                                    failureListener.accept(response);
+                                } else if (failures.size() < maxFailures) {
+                                    failures.add(response);
+                                }
+                            }
+                        }
+                        completed.put(chunk.start, chunk.start + chunk.tuples.size());
+                        Long end;
+                        while ((end = completed.remove(watermark)) != null) {
+                            watermark = end;
+                        }
+                    } catch (RuntimeException e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+                requestMore = failure == null && !sourceDone;
+            }
+            saveCheckpoint();
+            if (requestMore) {
+                subscription.request(chunkSize);
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Saves the watermark on the checkpoint executor when it advanced. Saves are serialized, so the saved offset never
+     * goes backwards: a save started while another one runs is made once that one completes.
+     */
+    private void saveCheckpoint() {
+        if (checkpointStore == null) {
+            return;
+        }
+        long offset;
+        synchronized (this) {
+            if (saving || failure != null || watermark == savedOffset) {
+                return;
+            }
+            saving = true;
+            offset = watermark;
+        }
+        try {
+            checkpointExecutor.execute(() -> save(offset));
+        } catch (RuntimeException e) {
+            saved(offset, e);
+        }
+    }
+
+    private void save(long offset) {
+        Throwable saveFailure = null;
+        try {
+            checkpointStore.save(importId, offset);
+        } catch (Throwable throwable) {
+            saveFailure = throwable;
+        }
+        saved(offset, saveFailure);
+    }
+
+    private void saved(long offset, Throwable saveFailure) {
+        synchronized (this) {
+            saving = false;
+            if (saveFailure != null) {
+                if (failure == null) {
+                    failure = saveFailure;
+                }
+            } else {
+                savedOffset = offset;
+            }
+        }
+        // The watermark may have advanced during the save
+        saveCheckpoint();
+        drain();
+    }
+
+    private void cancelOnFailure() {
+        Flow.Subscription toCancel;
+        synchronized (this) {
+            if (failure == null || cancelled || subscription == null) {
+                return;
+            }
+            cancelled = true;
+            toCancel = subscription;
+        }
+        toCancel.cancel();
+    }
+
+    private void complete() {
+        ClientImportTuplesResponse response;
+        Throwable error;
+        synchronized (this) {
+            if (result.isDone() || inFlight > 0 || saving) {
+                return;
+            }
+            error = failure;
+            boolean checkpointed = checkpointStore == null || watermark == savedOffset;
+            if (error == null && (!sourceDone || !ready.isEmpty() || !checkpointed)) {
+                return;
+            }
+            response = new ClientImportTuplesResponse(imported, new ArrayList<>(failures), failed, watermark);
+        }
+        if (error != null) {
+            result.completeExceptionally(error);
+        } else {
+            result.complete(response);
+        }
+    }
+
+    private static class Chunk {
+        private final long start;
+        private final List<ClientTupleKey> tuples;
+
+        private Chunk(long start, List<ClientTupleKey> tuples) {
+            this.start = start;
+            this.tuples = tuples;
+        }
+    }
+}
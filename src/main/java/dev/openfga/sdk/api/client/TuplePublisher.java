@@ -0,0 +1,182 @@
+package dev.openfga.sdk.api.client;
+
+import static dev.openfga.sdk.util.StringUtil.isNullOrWhitespace;
+
+import dev.openfga.sdk.api.client.model.ClientReadResponse;
+import dev.openfga.sdk.api.model.Tuple;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the tuples of every page of a read, reading the next pages while the current one is consumed.
+ *
+ * <p>Every subscription reads the pages from the start, one request at a time. Pages are read ahead of the page being
+ * consumed until {@code prefetch} of them are buffered, independently of the demand of the subscriber, so that the
+ * next page is usually available as soon as the current one has been consumed. Tuples are emitted as they are
+ * requested. A failed read fails the subscription once the tuples read before it have been emitted.</p>
+ */
+class TuplePublisher implements Flow.Publisher<Tuple> {
+    private final PageReader reader;
+    private final String continuationToken;
+    private final int prefetch;
+
+    /**
+     * Reads the page of a continuation token, or the first page when it is null.
+     */
+    @FunctionalInterface
+    interface PageReader {
+        CompletableFuture<ClientReadResponse> read(String continuationToken);
+    }
+
+    /**
+     * @param reader            Reads a page.
+     * @param continuationToken The token of the first page to read, or null.
+     * @param prefetch          The number of pages read ahead of the page being consumed.
+     */
+    TuplePublisher(PageReader reader, String continuationToken, int prefetch) {
+        this.reader = reader;
+        this.continuationToken = continuationToken;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Tuple> subscriber) {
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class PageSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super Tuple> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Deque<List<Tuple>> pages = new ArrayDeque<>();
+        private int position;
+        private String nextToken = continuationToken;
+        private boolean lastPage;
+        private boolean reading;
+        private Throwable failure;
+        private long requested;
+        private boolean cancelled;
+        private boolean terminated;
+
+        private PageSubscription(Flow.Subscriber<? super Tuple> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (failure == null) {
+                        failure = new IllegalArgumentException("n must be greater than 0");
+                    }
+                    pages.clear();
+                } else {
+                    requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pages.clear();
+            }
+        }
+
+        /**
+         * Emits tuples while they are requested, and reads pages while fewer than {@code prefetch} pages are buffered
+         * ahead of the current one. Re-entrant calls (e.g. requests from {@code onNext}) are folded into the outermost
+         * loop.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                while (true) {
+                    Tuple tuple;
+                    synchronized (this) {
+                        if (cancelled || terminated || requested == 0 || pages.isEmpty()) {
+                            break;
+                        }
+                        List<Tuple> page = pages.peek();
+                        tuple = page.get(position++);
+                        if (position == page.size()) {
+                            pages.poll();
+                            position = 0;
+                        }
+                        if (requested != Long.MAX_VALUE) {
+                            requested--;
+                        }
+                    }
+                    subscriber.onNext(tuple);
+                }
+
+                boolean read = false;
+                String token;
+                Throwable error = null;
+                boolean complete = false;
+                synchronized (this) {
+                    token = nextToken;
+                    if (cancelled || terminated) {
+                        // Nothing left to do
+                    } else if (pages.isEmpty() && failure != null) {
+                        terminated = true;
+                        error = failure;
+                    } else if (pages.isEmpty() && lastPage && !reading) {
+                        terminated = true;
+                        complete = true;
+                    } else if (!reading && !lastPage && failure == null && pages.size() <= prefetch) {
+                        reading = true;
+                        read = true;
+                    }
+                }
+                if (error != null) {
+                    subscriber.onError(error);
+                } else if (complete) {
+                    subscriber.onComplete();
+                } else if (read) {
+                    read(token);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void read(String token) {
+            CompletableFuture<ClientReadResponse> page;
+            try {
+                page = reader.read(token);
+            } catch (RuntimeException e) {
+                page = CompletableFuture.failedFuture(e);
+            }
+            page.whenComplete((response, throwable) -> {
+                synchronized (this) {
+                    reading = false;
+                    if (throwable != null) {
+                        failure = throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable;
+                    } else {
+                        List<Tuple> tuples = response.getTuples();
+                        if (tuples != null && !tuples.isEmpty() && !cancelled) {
+                            pages.add(tuples);
+                        }
+                        nextToken = response.getContinuationToken();
+                        lastPage = isNullOrWhitespace(nextToken);
+                    }
+                }
+                drain();
+            });
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package dev.openfga.sdk.api.client;
+
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
+import dev.openfga.sdk.api.client.model.ClientWriteRequest;
+import dev.openfga.sdk.api.client.model.ClientWriteResponse;
+import dev.openfga.sdk.api.client.model.ClientWriteSingleResponse;
+import dev.openfga.sdk.api.client.model.ClientWriteStatus;
+import dev.openfga.sdk.api.configuration.ClientTupleWriteBufferOptions;
+import dev.openfga.sdk.api.model.TupleKey;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Buffers tuple writes and deletes, and writes them in batches in the background.
+ *
+ * <p>The first operation of a batch waits up to {@link ClientTupleWriteBufferOptions#getMaxDelay()} for others, and a
+ * batch is flushed as soon as it holds {@link ClientTupleWriteBufferOptions#getMaxBatchSize()} operations or
+ * {@link #flush()} is called. The writes and deletes of a batch are sent in one request, which commits or fails as a
+ * whole, and the future of every operation completes with the outcome of its request.</p>
+ *
+ * <p>Operations on the same tuple (user, relation and object) collapse while they are buffered: only the last one is
+ * sent, and the futures of the earlier ones complete with its outcome. With the default {@code IGNORE} conflict
+ * options, this leaves the store in the same state as sending every operation in order. An operation on a tuple that
+ * is being written waits for that request to complete, so operations on a tuple are never reordered.</p>
+ *
+ * <p>Create a buffer with {@link OpenFgaClient#tupleWriteBuffer(ClientTupleWriteBufferOptions)}, and close it to
+ * flush the operations left in it. This class is thread-safe.</p>
+ */
+public class TupleWriteBuffer implements AutoCloseable {
+    private final ClientTupleWriteBufferOptions options;
+    private final BatchWriter writer;
+    private final Executor delayedExecutor;
+    private final ConcurrencyLimiter limiter;
+    private final Map<Key, Operation> pending = new LinkedHashMap<>();
+    private final Set<Key> inFlight = new HashSet<>();
+    private long generation;
+    private boolean timerArmed;
+    private boolean closed;
+
+    /**
+     * Writes a batch of tuples in one request.
+     */
+    @FunctionalInterface
+    interface BatchWriter {
+        CompletableFuture<ClientWriteResponse> write(ClientWriteRequest request);
+    }
+
+    TupleWriteBuffer(ClientTupleWriteBufferOptions options, BatchWriter writer) {
+        this(
+                options,
+                writer,
+                CompletableFuture.delayedExecutor(options.getMaxDelay().toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    TupleWriteBuffer(ClientTupleWriteBufferOptions options, BatchWriter writer, Executor delayedExecutor) {
+        this.options = options;
+        this.writer = writer;
+        this.delayedExecutor = delayedExecutor;
+        this.limiter = new ConcurrencyLimiter(options.getMaxParallelRequests());
+    }
+
+    /**
+     * Buffer the write of a tuple.
+     *
+     * @return The outcome of the write, once the request it is sent in completes. The future never fails: a tuple
+     * that could not be written is returned with {@link ClientWriteStatus#FAILURE} and the error of its request.
+     * @throws IllegalStateException If the buffer was closed.
+     */
+    public CompletableFuture<ClientWriteSingleResponse> write(ClientTupleKey tuple) {
+        return add(new Operation(Key.of(tuple), tuple, false), tuple.asTupleKey());
+    }
+
+    /**
+     * Buffer the delete of a tuple.
+     *
+     * @return The outcome of the delete, once the request it is sent in completes. The future never fails: a tuple
+     * that could not be deleted is returned with {@link ClientWriteStatus#FAILURE} and the error of its request.
+     * @throws IllegalStateException If the buffer was closed.
+     */
+    public CompletableFuture<ClientWriteSingleResponse> delete(ClientTupleKeyWithoutCondition tuple) {
+        ClientTupleKey key = new ClientTupleKey()
+                .user(tuple.getUser())
+                .relation(tuple.getRelation())
+                ._object(tuple.getObject());
+        return add(new Operation(Key.of(tuple), key, true), key.asTupleKey());
+    }
+
+    /**
+     * Flush the buffered operations now.
+     *
+     * @return A future completing once every operation buffered before this call has completed.
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<ClientWriteSingleResponse>> futures = new ArrayList<>();
+        synchronized (this) {
+            pending.values().forEach(operation -> operation.waiters.forEach(waiter -> futures.add(waiter.future)));
+        }
+        send();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Stop accepting operations, and wait for the buffered ones to be written.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush().join();
+    }
+
+    /**
+     * @return The number of buffered operations that were not sent yet.
+     */
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    private CompletableFuture<ClientWriteSingleResponse> add(Operation operation, TupleKey tupleKey) {
+        Waiter waiter = new Waiter(tupleKey);
+        operation.waiters.add(waiter);
+        boolean full = false;
+        boolean arm = false;
+        long armedGeneration;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("TupleWriteBuffer is closed");
+            }
+            // The last operation on a tuple wins, and completes the futures of the operations it replaces
+            Operation replaced = pending.remove(operation.key);
+            if (replaced != null) {
+                operation.waiters.addAll(0, replaced.waiters);
+            }
+            pending.put(operation.key, operation);
+            if (pending.size() >= options.getMaxBatchSize()) {
+                full = true;
+            } else if (!timerArmed) {
+                timerArmed = true;
+                arm = true;
+            }
+            armedGeneration = generation;
+        }
+        if (full) {
+            send();
+        } else if (arm) {
+            delayedExecutor.execute(() -> sendAfterDelay(armedGeneration));
+        }
+        return waiter.future;
+    }
+
+    private void sendAfterDelay(long armedGeneration) {
+        synchronized (this) {
+            // The batch was already flushed if it filled up or was flushed explicitly
+            if (generation != armedGeneration) {
+                return;
+            }
+        }
+        send();
+    }
+
+    /**
+     * Send the buffered operations, in requests of at most {@code maxBatchSize} tuples. Operations on tuples that are
+     * being written stay buffered, and are sent once the request writing their tuple completes.
+     */
+    private void send() {
+        List<List<Operation>> batches = new ArrayList<>();
+        synchronized (this) {
+            generation++;
+            timerArmed = false;
+            List<Operation> batch = new ArrayList<>();
+            for (Iterator<Operation> operations = pending.values().iterator(); operations.hasNext(); ) {
+                Operation operation = operations.next();
+                if (!inFlight.add(operation.key)) {
+                    continue;
+                }
+                operations.remove();
+                batch.add(operation);
+                if (batch.size() == options.getMaxBatchSize()) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+        }
+        batches.forEach(batch ->
+                limiter.submit(() -> write(batch)).whenComplete((response, throwable) -> complete(batch, throwable)));
+    }
+
+    private CompletableFuture<ClientWriteResponse> write(List<Operation> batch) {
+        List<ClientTupleKey> writes = new ArrayList<>();
+        List<ClientTupleKeyWithoutCondition> deletes = new ArrayList<>();
+        for (Operation operation : batch) {
+            if (operation.delete) {
+                deletes.add(operation.tuple);
+            } else {
+                writes.add(operation.tuple);
+            }
+        }
+        return sendSafely(() -> writer.write(new ClientWriteRequest().writes(writes).deletes(deletes)));
+    }
+
+    private void complete(List<Operation> batch, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        boolean blocked = false;
+        synchronized (this) {
+            for (Operation operation : batch) {
+                inFlight.remove(operation.key);
+                blocked |= pending.containsKey(operation.key);
+            }
+        }
+        for (Operation operation : batch) {
+            for (Waiter waiter : operation.waiters) {
+                waiter.future.complete(
+                        cause == null
+                                ? new ClientWriteSingleResponse(waiter.tupleKey, ClientWriteStatus.SUCCESS)
+                                : new ClientWriteSingleResponse(
+                                        waiter.tupleKey,
+                                        ClientWriteStatus.FAILURE,
+                                        cause instanceof Exception ? (Exception) cause : new Exception(cause)));
+            }
+        }
+        if (blocked) {
+            send();
+        }
+    }
+
+    private static <T> CompletableFuture<T> sendSafely(Supplier<CompletableFuture<T>> sender) {
+        try {
+            return sender.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static class Operation {
+        private final Key key;
+        private final ClientTupleKey tuple;
+        private final boolean delete;
+        private final List<Waiter> waiters = new ArrayList<>(1);
+
+        private Operation(Key key, ClientTupleKey tuple, boolean delete) {
+            this.key = key;
+            this.tuple = tuple;
+            this.delete = delete;
+        }
+    }
+
+    private static class Waiter {
+        private final TupleKey tupleKey;
+        private final CompletableFuture<ClientWriteSingleResponse> future = new CompletableFuture<>();
+
+        private Waiter(TupleKey tupleKey) {
+            this.tupleKey = tupleKey;
+        }
+    }
+
+    private static class Key {
+        private final String user;
+        private final String relation;
+        private final String object;
+
+        private Key(String user, String relation, String object) {
+            this.user = user;
+            this.relation = relation;
+            this.object = object;
+        }
+
+        private static Key of(ClientTupleKeyWithoutCondition tuple) {
+            return new Key(tuple.getUser(), tuple.getRelation(), tuple.getObject());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(user, key.user)
+                    && Objects.equals(relation, key.relation)
+                    && Objects.equals(object, key.object);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(user, relation, object);
+        }
+    }
+}
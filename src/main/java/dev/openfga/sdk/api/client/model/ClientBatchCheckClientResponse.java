@@ -5,13 +5,14 @@ import dev.openfga.sdk.errors.FgaError;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 public class ClientBatchCheckClientResponse extends CheckResponse {
     private final ClientCheckRequest request;
     private final Throwable throwable;
     private final Integer statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientBatchCheckClientResponse(
             ClientCheckRequest request, ClientCheckResponse clientCheckResponse, Throwable throwable) {
@@ -21,19 +22,19 @@ public class ClientBatchCheckClientResponse extends CheckResponse {
         if (clientCheckResponse != null) {
             this.statusCode = clientCheckResponse.getStatusCode();
             this.headers = clientCheckResponse.getHeaders();
-            this.rawResponse = clientCheckResponse.getRawResponse();
+            this.rawResponse = clientCheckResponse::getRawResponse;
             this.setAllowed(clientCheckResponse.getAllowed());
             this.setResolution(clientCheckResponse.getResolution());
         } else if (throwable instanceof FgaError) {
             FgaError error = (FgaError) throwable;
             this.statusCode = error.getStatusCode();
             this.headers = error.getResponseHeaders().map();
-            this.rawResponse = error.getResponseData();
+            this.rawResponse = error::getResponseData;
         } else {
             // Should be unreachable, but required for type completion
             this.statusCode = null;
             this.headers = null;
-            this.rawResponse = null;
+            this.rawResponse = () -> null;
         }
     }
 
@@ -77,7 +78,7 @@ public class ClientBatchCheckClientResponse extends CheckResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 
     public String getRelation() {
@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.CheckResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientCheckResponse extends CheckResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientCheckResponse(ApiResponse<CheckResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         CheckResponse response = apiResponse.getData();
         this.setAllowed(response.getAllowed());
         this.setResolution(response.getResolution());
@@ -28,6 +29,6 @@ public class ClientCheckResponse extends CheckResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
@@ -3,16 +3,17 @@ package dev.openfga.sdk.api.client.model;
 import dev.openfga.sdk.api.client.ApiResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientDeleteStoreResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientDeleteStoreResponse(ApiResponse<Void> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
     }
 
     public int getStatusCode() {
@@ -24,6 +25,6 @@ public class ClientDeleteStoreResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
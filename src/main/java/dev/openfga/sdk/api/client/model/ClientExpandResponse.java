@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.ExpandResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientExpandResponse extends ExpandResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientExpandResponse(ApiResponse<ExpandResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         ExpandResponse response = apiResponse.getData();
         this.setTree(response.getTree());
     }
@@ -27,6 +28,6 @@ public class ClientExpandResponse extends ExpandResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
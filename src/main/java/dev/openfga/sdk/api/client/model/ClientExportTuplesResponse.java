@@ -0,0 +1,53 @@
+package dev.openfga.sdk.api.client.model;
+
+import java.time.Duration;
+
+public class ClientExportTuplesResponse {
+    private final long tuples;
+    private final int completedPartitions;
+    private final int partitions;
+    private final Duration elapsed;
+
+    public ClientExportTuplesResponse(long tuples, int completedPartitions, int partitions, Duration elapsed) {
+        this.tuples = tuples;
+        this.completedPartitions = completedPartitions;
+        this.partitions = partitions;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * The number of tuples written to the file.
+     */
+    public long getTuples() {
+        return tuples;
+    }
+
+    /**
+     * The number of partitions whose tuples were all written to the file.
+     */
+    public int getCompletedPartitions() {
+        return completedPartitions;
+    }
+
+    /**
+     * The number of partitions of the export.
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * The time elapsed since the export started.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * The number of tuples written per second since the export started.
+     */
+    public double getTuplesPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos > 0 ? tuples * 1_000_000_000d / nanos : 0;
+    }
+}
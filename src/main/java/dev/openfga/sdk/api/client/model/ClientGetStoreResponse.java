@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.GetStoreResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientGetStoreResponse extends GetStoreResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientGetStoreResponse(ApiResponse<GetStoreResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         GetStoreResponse response = apiResponse.getData();
         this.setName(response.getName());
         this.setId(response.getId());
@@ -30,6 +31,6 @@ public class ClientGetStoreResponse extends GetStoreResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
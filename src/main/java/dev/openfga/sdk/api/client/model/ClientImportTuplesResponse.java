@@ -0,0 +1,54 @@
+package dev.openfga.sdk.api.client.model;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ClientImportTuplesResponse {
+    private final long imported;
+    private final List<ClientWriteSingleResponse> failures;
+    private final long failed;
+    private final long offset;
+
+    public ClientImportTuplesResponse(long imported, List<ClientWriteSingleResponse> failures, long offset) {
+        this(imported, failures, failures != null ? failures.size() : 0, offset);
+    }
+
+    public ClientImportTuplesResponse(
+            long imported, List<ClientWriteSingleResponse> failures, long failed, long offset) {
+        this.imported = imported;
+        this.failures = failures != null ? failures : Collections.emptyList();
+        this.failed = failed;
+        this.offset = offset;
+    }
+
+    /**
+     * The number of tuples written by this import, not counting the tuples skipped when resuming from a checkpoint.
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * The tuples of the chunks that could not be written, each with the error of its chunk. Empty when the failures
+     * are passed to a failure listener, and limited to the first ones otherwise, see
+     * {@code ClientImportTuplesOptions#failureListener(Consumer)}.
+     */
+    public List<ClientWriteSingleResponse> getFailures() {
+        return failures;
+    }
+
+    /**
+     * The number of tuples that could not be written, including those not kept in {@link #getFailures()}.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * The number of tuples of the source that were processed, including the tuples skipped when resuming from a
+     * checkpoint. This is the last checkpoint of the import.
+     */
+    public long getOffset() {
+        return offset;
+    }
+}
@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.ListObjectsResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientListObjectsResponse extends ListObjectsResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientListObjectsResponse(ApiResponse<ListObjectsResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         ListObjectsResponse response = apiResponse.getData();
         this.setObjects(response.getObjects());
     }
@@ -27,6 +28,6 @@ public class ClientListObjectsResponse extends ListObjectsResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
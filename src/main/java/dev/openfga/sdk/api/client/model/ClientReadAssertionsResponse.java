@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.ReadAssertionsResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientReadAssertionsResponse extends ReadAssertionsResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientReadAssertionsResponse(ApiResponse<ReadAssertionsResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         ReadAssertionsResponse response = apiResponse.getData();
         this.setAssertions(response.getAssertions());
         this.setAuthorizationModelId(response.getAuthorizationModelId());
@@ -28,6 +29,6 @@ public class ClientReadAssertionsResponse extends ReadAssertionsResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
@@ -5,22 +5,23 @@ import dev.openfga.sdk.api.model.ReadAuthorizationModelResponse;
 import dev.openfga.sdk.api.model.ReadAuthorizationModelsResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientReadAuthorizationModelResponse extends ReadAuthorizationModelResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientReadAuthorizationModelResponse(ApiResponse<ReadAuthorizationModelResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         ReadAuthorizationModelResponse response = apiResponse.getData();
         this.setAuthorizationModel(response.getAuthorizationModel());
     }
 
     private ClientReadAuthorizationModelResponse(
-            int statusCode, Map<String, List<String>> headers, String rawResponse) {
+            int statusCode, Map<String, List<String>> headers, Supplier<String> rawResponse) {
         this.statusCode = statusCode;
         this.headers = headers;
         this.rawResponse = rawResponse;
@@ -32,7 +33,7 @@ public class ClientReadAuthorizationModelResponse extends ReadAuthorizationModel
     public static ClientReadAuthorizationModelResponse latestOf(
             ApiResponse<ReadAuthorizationModelsResponse> apiResponse) {
         ClientReadAuthorizationModelResponse clientResponse = new ClientReadAuthorizationModelResponse(
-                apiResponse.getStatusCode(), apiResponse.getHeaders(), apiResponse.getRawResponse());
+                apiResponse.getStatusCode(), apiResponse.getHeaders(), apiResponse::getRawResponse);
         ReadAuthorizationModelsResponse response = apiResponse.getData();
         List<dev.openfga.sdk.api.model.AuthorizationModel> models = response.getAuthorizationModels();
         if (!models.isEmpty()) {
@@ -50,6 +51,6 @@ public class ClientReadAuthorizationModelResponse extends ReadAuthorizationModel
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.ReadAuthorizationModelsResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientReadAuthorizationModelsResponse extends ReadAuthorizationModelsResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientReadAuthorizationModelsResponse(ApiResponse<ReadAuthorizationModelsResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         ReadAuthorizationModelsResponse response = apiResponse.getData();
         this.setAuthorizationModels(response.getAuthorizationModels());
         this.setContinuationToken(response.getContinuationToken());
@@ -28,6 +29,6 @@ public class ClientReadAuthorizationModelsResponse extends ReadAuthorizationMode
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
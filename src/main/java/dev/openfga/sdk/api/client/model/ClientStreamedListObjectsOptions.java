@@ -11,6 +11,7 @@ import java.util.Map;
  * <ul>
  *   <li>Authorization model ID - Override the default model ID for this request</li>
  *   <li>Consistency preference - Specify the desired consistency level</li>
+ *   <li>Limit - Stop the stream once this many objects have been received</li>
  *   <li>Additional headers - Include custom HTTP headers in the request</li>
  * </ul>
  *
@@ -24,6 +25,7 @@ import java.util.Map;
 public class ClientStreamedListObjectsOptions implements AdditionalHeadersSupplier {
     private String authorizationModelId;
     private ConsistencyPreference consistency;
+    private Integer limit;
     private Map<String, String> additionalHeaders;
 
     public ClientStreamedListObjectsOptions authorizationModelId(String authorizationModelId) {
@@ -44,6 +46,23 @@ public class ClientStreamedListObjectsOptions implements AdditionalHeadersSuppli
         return consistency;
     }
 
+    /**
+     * Stop the stream once this many objects have been delivered to the consumer: the request is aborted, so that
+     * the server stops listing objects, and the returned handle completes normally. By default, the stream is read
+     * until the server ends it.
+     */
+    public ClientStreamedListObjectsOptions limit(Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit must be greater than 0");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
     public ClientStreamedListObjectsOptions additionalHeaders(Map<String, String> additionalHeaders) {
         this.additionalHeaders = additionalHeaders;
         return this;
@@ -4,16 +4,17 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import dev.openfga.sdk.api.model.WriteAuthorizationModelResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientWriteAuthorizationModelResponse extends WriteAuthorizationModelResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
 
     public ClientWriteAuthorizationModelResponse(ApiResponse<WriteAuthorizationModelResponse> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         WriteAuthorizationModelResponse response = apiResponse.getData();
         this.setAuthorizationModelId(response.getAuthorizationModelId());
     }
@@ -27,6 +28,6 @@ public class ClientWriteAuthorizationModelResponse extends WriteAuthorizationMod
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 }
@@ -4,18 +4,19 @@ import dev.openfga.sdk.api.client.ApiResponse;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClientWriteResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String rawResponse;
+    private final Supplier<String> rawResponse;
     private final List<ClientWriteSingleResponse> writes;
     private final List<ClientWriteSingleResponse> deletes;
 
     public ClientWriteResponse(ApiResponse<Object> apiResponse) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         this.writes = Collections.emptyList();
         this.deletes = Collections.emptyList();
     }
@@ -23,7 +24,7 @@ public class ClientWriteResponse {
     public ClientWriteResponse(List<ClientWriteSingleResponse> writes, List<ClientWriteSingleResponse> deletes) {
         this.statusCode = 200;
         this.headers = Collections.emptyMap();
-        this.rawResponse = "";
+        this.rawResponse = () -> "";
         this.writes = writes != null ? writes : Collections.emptyList();
         this.deletes = deletes != null ? deletes : Collections.emptyList();
     }
@@ -34,7 +35,7 @@ public class ClientWriteResponse {
             List<ClientWriteSingleResponse> deletes) {
         this.statusCode = apiResponse.getStatusCode();
         this.headers = apiResponse.getHeaders();
-        this.rawResponse = apiResponse.getRawResponse();
+        this.rawResponse = apiResponse::getRawResponse;
         this.writes = writes != null ? writes : Collections.emptyList();
         this.deletes = deletes != null ? deletes : Collections.emptyList();
     }
@@ -48,7 +49,7 @@ public class ClientWriteResponse {
     }
 
     public String getRawResponse() {
-        return rawResponse;
+        return rawResponse.get();
     }
 
     public List<ClientWriteSingleResponse> getWrites() {
@@ -0,0 +1,66 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.constants.FgaConstants;
+import java.time.Duration;
+
+/**
+ * Configures the batching of concurrent {@code check} calls of an {@link dev.openfga.sdk.api.client.OpenFgaClient}
+ * into {@code BatchCheck} requests.
+ *
+ * <p>The first check of a batch waits up to {@link #window(Duration)} for other checks of the same store,
+ * authorization model, consistency and headers, so batching trades a little latency for fewer requests. A batch is
+ * sent as soon as it holds {@link #maxBatchSize(int)} checks.</p>
+ */
+public class CheckBatchingConfiguration {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+    public static final int DEFAULT_MAX_BATCH_SIZE = FgaConstants.CLIENT_MAX_BATCH_SIZE;
+
+    private Duration window = DEFAULT_WINDOW;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Set how long the first check of a batch waits for other checks before the batch is sent.
+     *
+     * @param window The batching window. Must be positive.
+     * @return This object.
+     */
+    public CheckBatchingConfiguration window(Duration window) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be greater than 0");
+        }
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Get the batching window.
+     *
+     * @return The batching window.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Set the maximum number of checks sent in one request.
+     *
+     * @param maxBatchSize The maximum number of checks per batch. Must be positive.
+     * @return This object.
+     */
+    public CheckBatchingConfiguration maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of checks sent in one request.
+     *
+     * @return The maximum number of checks per batch.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
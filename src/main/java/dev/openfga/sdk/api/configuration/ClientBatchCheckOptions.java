@@ -9,6 +9,7 @@ public class ClientBatchCheckOptions implements AdditionalHeadersSupplier {
     private Integer maxBatchSize;
     private String authorizationModelId;
     private ConsistencyPreference consistency;
+    private Boolean adaptive;
 
     public ClientBatchCheckOptions additionalHeaders(Map<String, String> additionalHeaders) {
         this.additionalHeaders = additionalHeaders;
@@ -55,4 +56,18 @@ public class ClientBatchCheckOptions implements AdditionalHeadersSupplier {
     public ConsistencyPreference getConsistency() {
         return consistency;
     }
+
+    /**
+     * Tune the size of sub-batches and the number of sub-batches in flight at runtime, from the latency of the
+     * requests and the rate limit responses of the server. {@link #maxBatchSize(Integer)} and
+     * {@link #maxParallelRequests(Integer)} become upper bounds. What is learnt is kept per store by the client.
+     */
+    public ClientBatchCheckOptions adaptive(Boolean adaptive) {
+        this.adaptive = adaptive;
+        return this;
+    }
+
+    public Boolean getAdaptive() {
+        return adaptive;
+    }
 }
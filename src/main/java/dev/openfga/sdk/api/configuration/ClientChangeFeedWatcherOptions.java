@@ -0,0 +1,123 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.client.ContinuationTokenStore;
+import dev.openfga.sdk.constants.FgaConstants;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class ClientChangeFeedWatcherOptions implements AdditionalHeadersSupplier {
+    private Map<String, String> additionalHeaders;
+    private List<String> types;
+    private Integer pageSize;
+    private OffsetDateTime startTime;
+    private Duration minPollInterval = FgaConstants.CLIENT_CHANGE_FEED_MIN_POLL_INTERVAL;
+    private Duration maxPollInterval = FgaConstants.CLIENT_CHANGE_FEED_MAX_POLL_INTERVAL;
+    private ContinuationTokenStore continuationTokenStore;
+    private ScheduledExecutorService scheduler;
+
+    public ClientChangeFeedWatcherOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    /**
+     * Only watch the changes of objects of the given types, with one continuation token per type. All changes of the
+     * store are watched by default.
+     */
+    public ClientChangeFeedWatcherOptions types(List<String> types) {
+        this.types = types;
+        return this;
+    }
+
+    public List<String> getTypes() {
+        return types;
+    }
+
+    public ClientChangeFeedWatcherOptions pageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Where to start watching when the {@link ContinuationTokenStore} has no token yet. Defaults to the time the
+     * watcher is started.
+     */
+    public ClientChangeFeedWatcherOptions startTime(OffsetDateTime startTime) {
+        this.startTime = startTime;
+        return this;
+    }
+
+    public OffsetDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * The interval between polls once the watcher has caught up with the changes of the store. While the store stays
+     * idle the interval doubles up to {@link #maxPollInterval(Duration)}, and it is reset as soon as a change is
+     * read. Pages with changes are followed by the next page right away.
+     */
+    public ClientChangeFeedWatcherOptions minPollInterval(Duration minPollInterval) {
+        if (minPollInterval == null || minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be greater than 0");
+        }
+        this.minPollInterval = minPollInterval;
+        return this;
+    }
+
+    public Duration getMinPollInterval() {
+        return minPollInterval;
+    }
+
+    /**
+     * The maximum interval between polls of an idle store, and between retries after failures.
+     */
+    public ClientChangeFeedWatcherOptions maxPollInterval(Duration maxPollInterval) {
+        if (maxPollInterval == null || maxPollInterval.isNegative() || maxPollInterval.isZero()) {
+            throw new IllegalArgumentException("maxPollInterval must be greater than 0");
+        }
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    /**
+     * Where the watcher loads and saves its continuation tokens. Defaults to
+     * {@link ContinuationTokenStore#inMemory()}, so a new watcher starts from {@link #startTime(OffsetDateTime)}.
+     */
+    public ClientChangeFeedWatcherOptions continuationTokenStore(ContinuationTokenStore continuationTokenStore) {
+        this.continuationTokenStore = continuationTokenStore;
+        return this;
+    }
+
+    public ContinuationTokenStore getContinuationTokenStore() {
+        return continuationTokenStore;
+    }
+
+    /**
+     * The executor that schedules polls and calls the listeners. Defaults to a single daemon thread owned by the
+     * watcher, which is shut down when the watcher is closed. A given executor is not shut down by the watcher.
+     */
+    public ClientChangeFeedWatcherOptions scheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+}
@@ -2,12 +2,21 @@ package dev.openfga.sdk.api.configuration;
 
 import static dev.openfga.sdk.util.Validation.assertParamExists;
 
+import dev.openfga.sdk.constants.FgaConstants;
+import dev.openfga.sdk.errors.FgaError;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.function.Consumer;
 
 public class ClientConfiguration extends Configuration {
     private String storeId;
     private String authorizationModelId;
+    private int maxInFlightRequests = FgaConstants.CLIENT_MAX_IN_FLIGHT_REQUESTS;
+    private boolean perStoreFairness = true;
+    private DecisionCacheConfiguration decisionCache;
+    private CheckBatchingConfiguration checkBatching;
+    private boolean requestCoalescing;
 
     public void assertValidStoreId() throws FgaInvalidParameterException {
         assertParamExists(storeId, "storeId", "ClientConfiguration");
@@ -79,6 +88,114 @@ public class ClientConfiguration extends Configuration {
         return authorizationModelId;
     }
 
+    /**
+     * Set the maximum number of requests the bulk methods of a client ({@code batchCheck}, {@code clientBatchCheck},
+     * {@code listRelations}) keep in flight at the same time, across all callers. Requests beyond this limit are
+     * queued without blocking the caller and sent as soon as a previous request completes.
+     *
+     * @param maxInFlightRequests The maximum number of in-flight requests. Must be positive.
+     * @return This object.
+     */
+    public ClientConfiguration maxInFlightRequests(int maxInFlightRequests) {
+        if (maxInFlightRequests < 1) {
+            throw new IllegalArgumentException("maxInFlightRequests must be greater than 0");
+        }
+        this.maxInFlightRequests = maxInFlightRequests;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of in-flight requests shared by the bulk methods of a client.
+     *
+     * @return The maximum number of in-flight requests.
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Set whether queued requests are dispatched round-robin per store, so that a large backlog for one store
+     * does not delay requests for the others. When disabled, queued requests are dispatched in FIFO order.
+     *
+     * @param perStoreFairness Whether to dispatch queued requests fairly across stores. Defaults to true.
+     * @return This object.
+     */
+    public ClientConfiguration perStoreFairness(boolean perStoreFairness) {
+        this.perStoreFairness = perStoreFairness;
+        return this;
+    }
+
+    /**
+     * Get whether queued requests are dispatched round-robin per store.
+     *
+     * @return True if queued requests are dispatched fairly across stores.
+     */
+    public boolean isPerStoreFairness() {
+        return perStoreFairness;
+    }
+
+    /**
+     * Enable the client-side cache of check decisions, used by {@code check} and {@code batchCheck}.
+     *
+     * @param decisionCache The configuration of the cache, or null to disable it. Disabled by default.
+     * @return This object.
+     */
+    public ClientConfiguration decisionCache(DecisionCacheConfiguration decisionCache) {
+        this.decisionCache = decisionCache;
+        return this;
+    }
+
+    /**
+     * Get the configuration of the client-side cache of check decisions.
+     *
+     * @return The configuration of the cache, or null if it is disabled.
+     */
+    public DecisionCacheConfiguration getDecisionCache() {
+        return decisionCache;
+    }
+
+    /**
+     * Enable the batching of concurrent {@code check} calls into {@code BatchCheck} requests.
+     *
+     * @param checkBatching The configuration of the batching, or null to disable it. Disabled by default.
+     * @return This object.
+     */
+    public ClientConfiguration checkBatching(CheckBatchingConfiguration checkBatching) {
+        this.checkBatching = checkBatching;
+        return this;
+    }
+
+    /**
+     * Get the configuration of the batching of concurrent {@code check} calls.
+     *
+     * @return The configuration of the batching, or null if it is disabled.
+     */
+    public CheckBatchingConfiguration getCheckBatching() {
+        return checkBatching;
+    }
+
+    /**
+     * Set whether identical {@code check}, {@code listObjects} and {@code readAuthorizationModel} calls that are in
+     * flight at the same time share one request. Calls made after a write through the same client do not join
+     * requests sent before it.
+     *
+     * @param requestCoalescing Whether to coalesce identical concurrent requests. Defaults to false.
+     * @return This object.
+     */
+    public ClientConfiguration requestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+        return this;
+    }
+
+    /**
+     * Get whether identical concurrent requests share one request.
+     *
+     * @return True if identical concurrent requests are coalesced.
+     */
+    public boolean isRequestCoalescing() {
+        return requestCoalescing;
+    }
+
     /* Overrides beyond this point required for typing. */
 
     @Override
@@ -129,9 +246,27 @@ public class ClientConfiguration extends Configuration {
         return this;
     }
 
+    @Override
+    public ClientConfiguration retryListener(Consumer<FgaError> retryListener) {
+        super.retryListener(retryListener);
+        return this;
+    }
+
     @Override
     public ClientConfiguration defaultHeaders(java.util.Map<String, String> defaultHeaders) {
         super.defaultHeaders(defaultHeaders);
         return this;
     }
+
+    @Override
+    public ClientConfiguration httpVersion(HttpClient.Version httpVersion) {
+        super.httpVersion(httpVersion);
+        return this;
+    }
+
+    @Override
+    public ClientConfiguration maxConcurrentStreams(Integer maxConcurrentStreams) {
+        super.maxConcurrentStreams(maxConcurrentStreams);
+        return this;
+    }
 }
@@ -0,0 +1,104 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.client.model.ClientExportTuplesResponse;
+import dev.openfga.sdk.api.client.model.ClientReadRequest;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class ClientExportTuplesOptions implements AdditionalHeadersSupplier {
+    private Map<String, String> additionalHeaders;
+    private List<ClientReadRequest> partitions;
+    private Integer pageSize;
+    private ConsistencyPreference consistency;
+    private Integer maxParallelRequests;
+    private Boolean compress;
+    private Consumer<ClientExportTuplesResponse> progressListener;
+
+    public ClientExportTuplesOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    /**
+     * Split the export into partitions read in parallel, each one being the filter of a read. Partitions should not
+     * overlap, as tuples matching several of them are exported once per partition. By default, the whole store is
+     * read as a single partition.
+     *
+     * <p>A read can only filter by object type together with a user, so the tuples of a store cannot be partitioned
+     * by object type alone. Partition by object, or by user and object type, when those are known.</p>
+     */
+    public ClientExportTuplesOptions partitions(List<ClientReadRequest> partitions) {
+        this.partitions = partitions;
+        return this;
+    }
+
+    public List<ClientReadRequest> getPartitions() {
+        return partitions;
+    }
+
+    public ClientExportTuplesOptions pageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public ClientExportTuplesOptions consistency(ConsistencyPreference consistency) {
+        this.consistency = consistency;
+        return this;
+    }
+
+    public ConsistencyPreference getConsistency() {
+        return consistency;
+    }
+
+    /**
+     * Set the maximum number of partitions read at the same time, defaults to 10. Every partition holds at most two
+     * pages in memory: the page being written and the next one being read.
+     */
+    public ClientExportTuplesOptions maxParallelRequests(Integer maxParallelRequests) {
+        if (maxParallelRequests != null && maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be greater than 0");
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        return this;
+    }
+
+    public Integer getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    /**
+     * Set whether the file is compressed with gzip. By default, files ending with {@code .gz} are compressed.
+     */
+    public ClientExportTuplesOptions compress(Boolean compress) {
+        this.compress = compress;
+        return this;
+    }
+
+    public Boolean getCompress() {
+        return compress;
+    }
+
+    /**
+     * Set a listener receiving the progress of the export every time a page was written. The listener is called by
+     * the threads completing the reads, one call at a time, and should return quickly.
+     */
+    public ClientExportTuplesOptions progressListener(Consumer<ClientExportTuplesResponse> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    public Consumer<ClientExportTuplesResponse> getProgressListener() {
+        return progressListener;
+    }
+}
@@ -0,0 +1,167 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.client.ImportCheckpointStore;
+import dev.openfga.sdk.api.client.model.ClientWriteSingleResponse;
+import dev.openfga.sdk.api.model.WriteRequestWrites;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class ClientImportTuplesOptions implements AdditionalHeadersSupplier {
+    private Map<String, String> additionalHeaders;
+    private String authorizationModelId;
+    private Integer chunkSize;
+    private Integer maxParallelRequests;
+    private Boolean bisectFailedChunks;
+    private WriteRequestWrites.OnDuplicateEnum onDuplicate = WriteRequestWrites.OnDuplicateEnum.IGNORE;
+    private String importId;
+    private ImportCheckpointStore checkpointStore;
+    private FileFormat fileFormat;
+    private Consumer<ClientWriteSingleResponse> failureListener;
+
+    /**
+     * The format of a file of tuples.
+     */
+    public enum FileFormat {
+        /**
+         * One JSON object per line, with the fields {@code user}, {@code relation}, {@code object} and optionally
+         * {@code condition} ({@code name} and {@code context}).
+         */
+        NDJSON,
+        /**
+         * Comma-separated values with a header line. The columns are either {@code user}, {@code relation} and
+         * {@code object}, or {@code user_type}, {@code user_id}, {@code user_relation}, {@code relation},
+         * {@code object_type} and {@code object_id}, optionally followed by {@code condition_name} and
+         * {@code condition_context} (a JSON object).
+         */
+        CSV
+    }
+
+    public ClientImportTuplesOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    public ClientImportTuplesOptions authorizationModelId(String authorizationModelId) {
+        this.authorizationModelId = authorizationModelId;
+        return this;
+    }
+
+    public String getAuthorizationModelId() {
+        return authorizationModelId;
+    }
+
+    /**
+     * Set the number of tuples written per request, defaults to 100.
+     */
+    public ClientImportTuplesOptions chunkSize(Integer chunkSize) {
+        if (chunkSize != null && chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Set the maximum number of chunks written at the same time, defaults to 10. Tuples are only read from the source
+     * as chunks complete, so no more than this many chunks are held in memory.
+     */
+    public ClientImportTuplesOptions maxParallelRequests(Integer maxParallelRequests) {
+        if (maxParallelRequests != null && maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be greater than 0");
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        return this;
+    }
+
+    public Integer getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    /**
+     * Split a chunk rejected with a validation error in halves, recursively, so that only the rejected tuples are
+     * reported as failed. See {@link ClientWriteOptions#bisectFailedChunks(Boolean)}.
+     */
+    public ClientImportTuplesOptions bisectFailedChunks(Boolean bisectFailedChunks) {
+        this.bisectFailedChunks = bisectFailedChunks;
+        return this;
+    }
+
+    public Boolean getBisectFailedChunks() {
+        return bisectFailedChunks;
+    }
+
+    /**
+     * Set how tuples that already exist are handled, defaults to {@code IGNORE}. Chunks written after the last
+     * checkpoint are written again when an import resumes, so rejecting duplicates would fail those chunks.
+     */
+    public ClientImportTuplesOptions onDuplicate(WriteRequestWrites.OnDuplicateEnum onDuplicate) {
+        this.onDuplicate = onDuplicate;
+        return this;
+    }
+
+    public WriteRequestWrites.OnDuplicateEnum getOnDuplicate() {
+        return onDuplicate;
+    }
+
+    /**
+     * Identify the import in the {@link #checkpointStore(ImportCheckpointStore)}. Defaults to the absolute path when
+     * importing a file, and is required to checkpoint other sources.
+     */
+    public ClientImportTuplesOptions importId(String importId) {
+        this.importId = importId;
+        return this;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    /**
+     * Where the import loads and saves its checkpoint. An import resumed with the same import ID skips the tuples
+     * processed before it was interrupted. No checkpoint is kept by default.
+     */
+    public ClientImportTuplesOptions checkpointStore(ImportCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    public ImportCheckpointStore getCheckpointStore() {
+        return checkpointStore;
+    }
+
+    /**
+     * Set the format of an imported file. By default, files ending with {@code .csv} are read as CSV and all other
+     * files as NDJSON. Files ending with {@code .gz} are decompressed first, whatever their format.
+     */
+    public ClientImportTuplesOptions fileFormat(FileFormat fileFormat) {
+        this.fileFormat = fileFormat;
+        return this;
+    }
+
+    public FileFormat getFileFormat() {
+        return fileFormat;
+    }
+
+    /**
+     * Receive each tuple that could not be written, with the error of its chunk, as its chunk completes. The tuples
+     * are then not kept in the response, which otherwise holds the first 10,000 of them. The listener is called one
+     * tuple at a time; an exception thrown by it fails the import.
+     */
+    public ClientImportTuplesOptions failureListener(Consumer<ClientWriteSingleResponse> failureListener) {
+        this.failureListener = failureListener;
+        return this;
+    }
+
+    public Consumer<ClientWriteSingleResponse> getFailureListener() {
+        return failureListener;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.openfga.sdk.api.configuration;
 
 import dev.openfga.sdk.api.model.ConsistencyPreference;
+import dev.openfga.sdk.constants.FgaConstants;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,6 +10,9 @@ public class ClientListRelationsOptions implements AdditionalHeadersSupplier {
     private Integer maxParallelRequests;
     private String authorizationModelId;
     private ConsistencyPreference consistency;
+    private Boolean useBatchCheck;
+    private Integer maxBatchSize;
+    private Boolean adaptive;
 
     public ClientListRelationsOptions additionalHeaders(Map<String, String> additionalHeaders) {
         this.additionalHeaders = additionalHeaders;
@@ -47,6 +51,45 @@ public class ClientListRelationsOptions implements AdditionalHeadersSupplier {
         return consistency;
     }
 
+    /**
+     * Check the relations with {@code BatchCheck} requests instead of one check per relation, which requires OpenFGA
+     * version 1.8.0 or greater. Listing the relations of several objects always uses {@code BatchCheck}.
+     */
+    public ClientListRelationsOptions useBatchCheck(Boolean useBatchCheck) {
+        this.useBatchCheck = useBatchCheck;
+        return this;
+    }
+
+    public Boolean getUseBatchCheck() {
+        return useBatchCheck;
+    }
+
+    /**
+     * Set the maximum number of checks per {@code BatchCheck} request, defaults to 50.
+     */
+    public ClientListRelationsOptions maxBatchSize(Integer maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public Integer getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Tune the size of {@code BatchCheck} requests and the number in flight at runtime, as with
+     * {@link ClientBatchCheckOptions#adaptive(Boolean)}. Only used when the relations are checked with
+     * {@code BatchCheck}.
+     */
+    public ClientListRelationsOptions adaptive(Boolean adaptive) {
+        this.adaptive = adaptive;
+        return this;
+    }
+
+    public Boolean getAdaptive() {
+        return adaptive;
+    }
+
     public ClientBatchCheckClientOptions asClientBatchCheckClientOptions() {
         return new ClientBatchCheckClientOptions()
                 .authorizationModelId(authorizationModelId)
@@ -54,4 +97,24 @@ public class ClientListRelationsOptions implements AdditionalHeadersSupplier {
                 .maxParallelRequests(maxParallelRequests)
                 .consistency(consistency);
     }
+
+    public ClientBatchCheckOptions asClientBatchCheckOptions() {
+        return new ClientBatchCheckOptions()
+                .authorizationModelId(authorizationModelId)
+                .additionalHeaders(additionalHeaders != null ? new HashMap<>(additionalHeaders) : null)
+                .maxParallelRequests(
+                        maxParallelRequests != null
+                                ? maxParallelRequests
+                                : FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS)
+                .maxBatchSize(maxBatchSize != null ? maxBatchSize : FgaConstants.CLIENT_MAX_BATCH_SIZE)
+                .consistency(consistency)
+                .adaptive(adaptive);
+    }
+
+    public ClientCheckOptions asClientCheckOptions() {
+        return new ClientCheckOptions()
+                .authorizationModelId(authorizationModelId)
+                .additionalHeaders(additionalHeaders != null ? new HashMap<>(additionalHeaders) : null)
+                .consistency(consistency);
+    }
 }
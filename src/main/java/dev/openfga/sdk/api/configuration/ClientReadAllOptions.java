@@ -0,0 +1,71 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.Map;
+
+public class ClientReadAllOptions implements AdditionalHeadersSupplier {
+    public static final int DEFAULT_PREFETCH = 1;
+
+    private Map<String, String> additionalHeaders;
+    private Integer pageSize;
+    private String continuationToken;
+    private ConsistencyPreference consistency;
+    private int prefetch = DEFAULT_PREFETCH;
+
+    public ClientReadAllOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    public ClientReadAllOptions pageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Start reading from the page of a continuation token, instead of the first page.
+     */
+    public ClientReadAllOptions continuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public ClientReadAllOptions consistency(ConsistencyPreference consistency) {
+        this.consistency = consistency;
+        return this;
+    }
+
+    public ConsistencyPreference getConsistency() {
+        return consistency;
+    }
+
+    /**
+     * Set how many pages are read ahead of the page being consumed, defaults to 1. Pages are read one after the other,
+     * so this bounds the number of pages held in memory rather than the number of requests in flight. 0 reads a page
+     * only once the previous one has been consumed.
+     */
+    public ClientReadAllOptions prefetch(int prefetch) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("prefetch must be greater than or equal to 0");
+        }
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.Map;
+
+public class ClientSyncTuplesOptions implements AdditionalHeadersSupplier {
+    private Map<String, String> additionalHeaders;
+    private String authorizationModelId;
+    private Integer pageSize;
+    private ConsistencyPreference consistency;
+    private Boolean disableTransactions = false;
+    private int transactionChunkSize;
+    private Integer maxParallelRequests;
+
+    public ClientSyncTuplesOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    public ClientSyncTuplesOptions authorizationModelId(String authorizationModelId) {
+        this.authorizationModelId = authorizationModelId;
+        return this;
+    }
+
+    public String getAuthorizationModelId() {
+        return authorizationModelId;
+    }
+
+    /**
+     * Set the page size used to read the current tuples.
+     */
+    public ClientSyncTuplesOptions pageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Set the consistency used to read the current tuples. {@code HIGHER_CONSISTENCY} avoids computing the changes
+     * from a stale copy of the store.
+     */
+    public ClientSyncTuplesOptions consistency(ConsistencyPreference consistency) {
+        this.consistency = consistency;
+        return this;
+    }
+
+    public ConsistencyPreference getConsistency() {
+        return consistency;
+    }
+
+    /**
+     * Apply the changes in chunks of {@link #transactionChunkSize(int)} tuples instead of a single transaction, see
+     * {@link ClientWriteOptions#disableTransactions(boolean)}.
+     */
+    public ClientSyncTuplesOptions disableTransactions(boolean disableTransactions) {
+        this.disableTransactions = disableTransactions;
+        return this;
+    }
+
+    public boolean disableTransactions() {
+        return disableTransactions != null && disableTransactions;
+    }
+
+    public ClientSyncTuplesOptions transactionChunkSize(int transactionChunkSize) {
+        this.transactionChunkSize = transactionChunkSize;
+        return this;
+    }
+
+    public int getTransactionChunkSize() {
+        return transactionChunkSize;
+    }
+
+    public ClientSyncTuplesOptions maxParallelRequests(Integer maxParallelRequests) {
+        this.maxParallelRequests = maxParallelRequests;
+        return this;
+    }
+
+    public Integer getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.openfga.sdk.api.configuration;
+
+import dev.openfga.sdk.api.model.WriteRequestDeletes;
+import dev.openfga.sdk.api.model.WriteRequestWrites;
+import dev.openfga.sdk.constants.FgaConstants;
+import java.time.Duration;
+import java.util.Map;
+
+public class ClientTupleWriteBufferOptions implements AdditionalHeadersSupplier {
+    private Map<String, String> additionalHeaders;
+    private String authorizationModelId;
+    private int maxBatchSize = FgaConstants.CLIENT_WRITE_BUFFER_MAX_BATCH_SIZE;
+    private Duration maxDelay = FgaConstants.CLIENT_WRITE_BUFFER_MAX_DELAY;
+    private int maxParallelRequests = FgaConstants.CLIENT_MAX_METHOD_PARALLEL_REQUESTS;
+    private WriteRequestWrites.OnDuplicateEnum onDuplicate = WriteRequestWrites.OnDuplicateEnum.IGNORE;
+    private WriteRequestDeletes.OnMissingEnum onMissing = WriteRequestDeletes.OnMissingEnum.IGNORE;
+
+    public ClientTupleWriteBufferOptions additionalHeaders(Map<String, String> additionalHeaders) {
+        this.additionalHeaders = additionalHeaders;
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        return this.additionalHeaders;
+    }
+
+    public ClientTupleWriteBufferOptions authorizationModelId(String authorizationModelId) {
+        this.authorizationModelId = authorizationModelId;
+        return this;
+    }
+
+    public String getAuthorizationModelId() {
+        return authorizationModelId;
+    }
+
+    /**
+     * Set the number of buffered writes and deletes that triggers a flush, which is also the maximum number of tuples
+     * per request. Defaults to 100.
+     */
+    public ClientTupleWriteBufferOptions maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Set how long the first write or delete of a batch waits for others before the batch is flushed. Defaults to
+     * 50ms.
+     */
+    public ClientTupleWriteBufferOptions maxDelay(Duration maxDelay) {
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be greater than 0");
+        }
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Set the maximum number of requests of the buffer in flight at the same time, defaults to 10. Batches flushed
+     * while all requests are in flight wait for one of them to complete.
+     */
+    public ClientTupleWriteBufferOptions maxParallelRequests(int maxParallelRequests) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be greater than 0");
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        return this;
+    }
+
+    public int getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    /**
+     * Set how writes of tuples that already exist are handled, defaults to {@code IGNORE}, so that a write collapsed
+     * with a delete of the same tuple succeeds whether or not the tuple existed.
+     */
+    public ClientTupleWriteBufferOptions onDuplicate(WriteRequestWrites.OnDuplicateEnum onDuplicate) {
+        this.onDuplicate = onDuplicate;
+        return this;
+    }
+
+    public WriteRequestWrites.OnDuplicateEnum getOnDuplicate() {
+        return onDuplicate;
+    }
+
+    /**
+     * Set how deletes of tuples that do not exist are handled, defaults to {@code IGNORE}, so that a delete collapsed
+     * with a write of the same tuple succeeds whether or not the tuple existed.
+     */
+    public ClientTupleWriteBufferOptions onMissing(WriteRequestDeletes.OnMissingEnum onMissing) {
+        this.onMissing = onMissing;
+        return this;
+    }
+
+    public WriteRequestDeletes.OnMissingEnum getOnMissing() {
+        return onMissing;
+    }
+}
@@ -9,6 +9,8 @@ public class ClientWriteOptions implements AdditionalHeadersSupplier {
     private String authorizationModelId;
     private Boolean disableTransactions = false;
     private int transactionChunkSize;
+    private Integer maxParallelRequests;
+    private Boolean bisectFailedChunks;
     private WriteRequestWrites.OnDuplicateEnum onDuplicate;
     private WriteRequestDeletes.OnMissingEnum onMissing;
 
@@ -49,6 +51,33 @@ public class ClientWriteOptions implements AdditionalHeadersSupplier {
         return transactionChunkSize > 0 ? transactionChunkSize : 1;
     }
 
+    /**
+     * Set the maximum number of chunks written at the same time when transactions are disabled, defaults to 10.
+     * Further chunks are only prepared and sent as earlier ones complete.
+     */
+    public ClientWriteOptions maxParallelRequests(Integer maxParallelRequests) {
+        this.maxParallelRequests = maxParallelRequests;
+        return this;
+    }
+
+    public Integer getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    /**
+     * When transactions are disabled, split a chunk rejected with a validation error (e.g. a duplicate tuple or an
+     * unknown type) in halves, recursively, so that only the rejected tuples are reported as failed, each with its
+     * own error, and all other tuples of the chunk are written. Disabled by default.
+     */
+    public ClientWriteOptions bisectFailedChunks(Boolean bisectFailedChunks) {
+        this.bisectFailedChunks = bisectFailedChunks;
+        return this;
+    }
+
+    public Boolean getBisectFailedChunks() {
+        return bisectFailedChunks;
+    }
+
     public ClientWriteOptions onDuplicate(WriteRequestWrites.OnDuplicateEnum onDuplicate) {
         this.onDuplicate = onDuplicate;
         return this;
@@ -4,6 +4,7 @@ import static dev.openfga.sdk.util.StringUtil.isNullOrWhitespace;
 import static dev.openfga.sdk.util.Validation.assertParamExists;
 
 import dev.openfga.sdk.constants.FgaConstants;
+import dev.openfga.sdk.errors.FgaError;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -14,6 +15,7 @@ import java.net.http.HttpRequest;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Configurations for an api client.
@@ -38,6 +40,9 @@ public class Configuration implements BaseConfiguration {
     private Duration minimumRetryDelay;
     private Map<String, String> defaultHeaders;
     private TelemetryConfiguration telemetryConfiguration;
+    private HttpClient.Version httpVersion;
+    private Integer maxConcurrentStreams;
+    private Consumer<FgaError> retryListener;
 
     public Configuration() {
         this.apiUrl = FgaConstants.DEFAULT_API_URL;
@@ -123,6 +128,13 @@ public class Configuration implements BaseConfiguration {
         result.telemetryConfiguration =
                 overrideTelemetryConfiguration != null ? overrideTelemetryConfiguration : telemetryConfiguration;
 
+        Consumer<FgaError> overrideRetryListener = configurationOverride.getRetryListener();
+        result.retryListener = overrideRetryListener != null ? overrideRetryListener : retryListener;
+
+        // Transport settings cannot be overridden per request.
+        result.httpVersion = httpVersion;
+        result.maxConcurrentStreams = maxConcurrentStreams;
+
         return result;
     }
 
@@ -323,4 +335,77 @@ public class Configuration implements BaseConfiguration {
         this.telemetryConfiguration = telemetryConfiguration;
         return this;
     }
+
+    /**
+     * Sets a listener called with the error of each attempt that is retried, e.g. a rate limit response.
+     * It is called on the thread that received the response, so it must not block.
+     *
+     * @param retryListener The listener, or null.
+     * @return This Configuration instance for method chaining.
+     */
+    public Configuration retryListener(Consumer<FgaError> retryListener) {
+        this.retryListener = retryListener;
+        return this;
+    }
+
+    public Consumer<FgaError> getRetryListener() {
+        return retryListener;
+    }
+
+    /**
+     * Set the HTTP protocol version used by the http client.
+     *
+     * <p>By default, requests are sent over HTTP/1.1. With {@link HttpClient.Version#HTTP_2}, concurrent requests
+     * are multiplexed as streams over a shared connection:</p>
+     * <ul>
+     *   <li>for {@code https} API URLs, HTTP/2 is negotiated with ALPN during the TLS handshake (h2);</li>
+     *   <li>for {@code http} API URLs (e.g. a local sidecar), the connection is upgraded to cleartext HTTP/2 (h2c)
+     *       on the first request. The JDK http client does not support h2c with prior knowledge.</li>
+     * </ul>
+     * <p>If the server does not support HTTP/2, requests fall back to HTTP/1.1.</p>
+     *
+     * @param httpVersion The HTTP version. Setting this value to null restores the http client default (HTTP/1.1) if
+     *                    an earlier configuration set a version, and otherwise keeps the version of the http client.
+     * @return This object.
+     */
+    public Configuration httpVersion(HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+        return this;
+    }
+
+    /**
+     * Get the HTTP protocol version used by the http client.
+     *
+     * @return The HTTP version, or null if the http client default (HTTP/1.1) is used.
+     */
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Set the maximum number of requests the http client sends concurrently. With HTTP/2 this is the maximum number
+     * of concurrent streams, which should not exceed the {@code SETTINGS_MAX_CONCURRENT_STREAMS} advertised by the
+     * server. Requests over the limit are queued without blocking and sent as soon as a previous one completes.
+     *
+     * @param maxConcurrentStreams The maximum number of concurrent requests. Must be positive. Setting this value to
+     *                             null removes a limit applied by an earlier configuration, and keeps one set
+     *                             directly on the {@link dev.openfga.sdk.api.client.ApiClient}.
+     * @return This object.
+     */
+    public Configuration maxConcurrentStreams(Integer maxConcurrentStreams) {
+        if (maxConcurrentStreams != null && maxConcurrentStreams < 1) {
+            throw new IllegalArgumentException("maxConcurrentStreams must be greater than 0");
+        }
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of requests the http client sends concurrently.
+     *
+     * @return The maximum number of concurrent requests, or null if there is no limit.
+     */
+    public Integer getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
 }
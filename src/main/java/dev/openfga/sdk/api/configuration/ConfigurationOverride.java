@@ -1,10 +1,12 @@
 package dev.openfga.sdk.api.configuration;
 
+import dev.openfga.sdk.errors.FgaError;
 import java.net.http.HttpClient;
 import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Configuration overrides for an api client. Values are initialized to null, and any values unset are intended to fall
@@ -22,6 +24,7 @@ public class ConfigurationOverride implements BaseConfiguration {
     private Duration minimumRetryDelay;
     private Map<String, String> additionalHeaders;
     private TelemetryConfiguration telemetryConfiguration;
+    private Consumer<FgaError> retryListener;
 
     public ConfigurationOverride() {
         this.apiUrl = null;
@@ -205,4 +208,19 @@ public class ConfigurationOverride implements BaseConfiguration {
     public TelemetryConfiguration getTelemetryConfiguration() {
         return telemetryConfiguration;
     }
+
+    /**
+     * Sets a listener called with the error of each attempt of the request that is retried.
+     *
+     * @param retryListener The listener, or null to keep the one of the configuration.
+     * @return This object.
+     */
+    public ConfigurationOverride retryListener(Consumer<FgaError> retryListener) {
+        this.retryListener = retryListener;
+        return this;
+    }
+
+    public Consumer<FgaError> getRetryListener() {
+        return retryListener;
+    }
 }
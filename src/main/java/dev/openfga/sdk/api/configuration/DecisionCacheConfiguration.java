@@ -0,0 +1,64 @@
+package dev.openfga.sdk.api.configuration;
+
+import java.time.Duration;
+
+/**
+ * Configures the client-side cache of check decisions of an {@link dev.openfga.sdk.api.client.OpenFgaClient}.
+ *
+ * <p>Cached decisions are served for up to {@link #ttl(Duration)} after they were received, so a check may return a
+ * decision that changed on the server during that time. Checks with
+ * {@link dev.openfga.sdk.api.model.ConsistencyPreference#HIGHER_CONSISTENCY} are always sent to the server.</p>
+ */
+public class DecisionCacheConfiguration {
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private Duration ttl = DEFAULT_TTL;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Set how long a decision is served from the cache after it was received.
+     *
+     * @param ttl The time to live of cached decisions. Must be positive.
+     * @return This object.
+     */
+    public DecisionCacheConfiguration ttl(Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be greater than 0");
+        }
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Get the time to live of cached decisions.
+     *
+     * @return The time to live.
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Set the maximum number of cached decisions. Once full, the least recently used decision is evicted.
+     *
+     * @param maxEntries The maximum number of entries. Must be positive.
+     * @return This object.
+     */
+    public DecisionCacheConfiguration maxEntries(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0");
+        }
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of cached decisions.
+     *
+     * @return The maximum number of entries.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
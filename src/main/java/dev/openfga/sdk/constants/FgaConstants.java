@@ -67,15 +67,36 @@ public final class FgaConstants {
     /** Maximum number of parallel requests for a single method. */
     public static final int CLIENT_MAX_METHOD_PARALLEL_REQUESTS = 10;
 
+    /** Default maximum number of in-flight requests shared by all bulk methods of a single client. */
+    public static final int CLIENT_MAX_IN_FLIGHT_REQUESTS = 100;
+
     /** Maximum batch size for batch requests. */
     public static final int CLIENT_MAX_BATCH_SIZE = 50;
 
+    /** Default number of tuples written per request by a tuple import. */
+    public static final int CLIENT_IMPORT_CHUNK_SIZE = 100;
+
+    /** Maximum number of failed tuples kept in the response of a tuple import without a failure listener. */
+    public static final int CLIENT_IMPORT_MAX_FAILURES = 10_000;
+
+    /** Default number of buffered tuple writes and deletes that triggers a flush of a tuple write buffer. */
+    public static final int CLIENT_WRITE_BUFFER_MAX_BATCH_SIZE = 100;
+
+    /** Default maximum time a tuple write or delete waits in a tuple write buffer. */
+    public static final Duration CLIENT_WRITE_BUFFER_MAX_DELAY = Duration.ofMillis(50);
+
     /** Header used to identify the client method. */
     public static final String CLIENT_METHOD_HEADER = "X-OpenFGA-Client-Method";
 
     /** Header used to identify bulk requests. */
     public static final String CLIENT_BULK_REQUEST_ID_HEADER = "X-OpenFGA-Client-Bulk-Request-Id";
 
+    /** Default interval between polls of a change feed watcher once it has caught up. */
+    public static final Duration CLIENT_CHANGE_FEED_MIN_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /** Default maximum interval between polls of an idle change feed watcher. */
+    public static final Duration CLIENT_CHANGE_FEED_MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+
     // Connection options
 
     /** Default timeout for HTTP requests in milliseconds. */
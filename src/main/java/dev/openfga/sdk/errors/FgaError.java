@@ -15,6 +15,7 @@ import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 
 public class FgaError extends ApiException {
@@ -97,15 +98,27 @@ public class FgaError extends ApiException {
             Configuration configuration,
             HttpResponse<String> response,
             Throwable previousError) {
-        int status = response.statusCode();
+        return getError(
+                name, request, configuration, response.statusCode(), response.headers(), response::body, previousError);
+    }
 
+    /**
+     * @param responseBody Supplies the response body. It is only called when the status is not successful.
+     */
+    public static Optional<FgaError> getError(
+            String name,
+            HttpRequest request,
+            Configuration configuration,
+            int status,
+            HttpHeaders headers,
+            Supplier<String> responseBody,
+            Throwable previousError) {
         // FGA and OAuth2 servers are only expected to return HTTP 2xx responses.
         if (isSuccessful(status)) {
             return Optional.empty();
         }
 
-        final String body = response.body();
-        final var headers = response.headers();
+        final String body = responseBody.get();
         final FgaError error;
 
         if (status == BAD_REQUEST || status == UNPROCESSABLE_ENTITY) {
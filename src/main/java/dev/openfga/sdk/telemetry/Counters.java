@@ -19,5 +19,38 @@ public class Counters {
     public static final Counter REQUEST_COUNT =
             new Counter("fga-client.request.count", "The total number of HTTP requests made to the FGA server.");
 
+    /**
+     * The DECISION_CACHE_HIT counter represents the number of checks answered by the client-side decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     */
+    public static final Counter DECISION_CACHE_HIT = new Counter(
+            "fga-client.decision_cache.hit", "The total number of checks answered by the client-side decision cache.");
+
+    /**
+     * The DECISION_CACHE_MISS counter represents the number of checks not found in the client-side decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     */
+    public static final Counter DECISION_CACHE_MISS = new Counter(
+            "fga-client.decision_cache.miss",
+            "The total number of checks that were not found in the client-side decision cache, or had expired.");
+
+    /**
+     * The DECISION_CACHE_EVICTION counter represents the number of decisions evicted from the full client-side
+     * decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     */
+    public static final Counter DECISION_CACHE_EVICTION = new Counter(
+            "fga-client.decision_cache.eviction",
+            "The total number of decisions evicted from the client-side decision cache because it was full.");
+
+    /**
+     * The REQUEST_COLLAPSED counter represents the number of calls that joined an identical request in flight instead
+     * of sending their own.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     */
+    public static final Counter REQUEST_COLLAPSED = new Counter(
+            "fga-client.request.collapsed",
+            "The total number of calls that shared an identical request in flight instead of sending their own.");
+
     private Counters() {} // Instantiation prevented.
 }
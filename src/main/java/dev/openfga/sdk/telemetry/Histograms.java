@@ -18,5 +18,14 @@ public class Histograms {
             "fga-client.query.duration",
             "The total time it took (in milliseconds) for the FGA server to process and evaluate the request.");
 
+    /**
+     * A histogram for measuring the share of the checks of a batch check that were duplicates of another check of the
+     * same call, and were not sent. Disabled by default.
+     */
+    public static final Histogram BATCH_CHECK_DEDUP_RATIO = new Histogram(
+            "fga-client.batch_check.dedup_ratio",
+            "1",
+            "The share of the checks of a batch check that duplicated another check of the same call, from 0 to 1.");
+
     private Histograms() {} // Instantiation prevented.
 }
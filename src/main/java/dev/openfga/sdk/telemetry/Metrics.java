@@ -139,4 +139,67 @@ public class Metrics {
     public DoubleHistogram queryDuration(Double value, Map<Attribute, String> attributes) {
         return getHistogram(Histograms.QUERY_DURATION, value, attributes);
     }
+
+    /**
+     * Returns a DoubleHistogram for measuring the share of the checks of a batch check that were deduplicated.
+     * Note: This histogram is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     *
+     * @param value      The value to be recorded in the histogram, from 0 to 1.
+     * @param attributes A map of attributes associated with the metric.
+     */
+    public DoubleHistogram batchCheckDedupRatio(Double value, Map<Attribute, String> attributes) {
+        return getHistogram(Histograms.BATCH_CHECK_DEDUP_RATIO, value, attributes);
+    }
+
+    /**
+     * Returns a LongCounter counter for tracking the number of checks answered by the client-side decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     *
+     * @param value      The value to be added to the counter.
+     * @param attributes A map of attributes associated with the metric.
+     *
+     * @return The LongCounter metric instance for decision cache hits, or null if not configured.
+     */
+    public LongCounter decisionCacheHit(Long value, Map<Attribute, String> attributes) {
+        return getCounter(Counters.DECISION_CACHE_HIT, value, attributes);
+    }
+
+    /**
+     * Returns a LongCounter counter for tracking the number of checks not found in the client-side decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     *
+     * @param value      The value to be added to the counter.
+     * @param attributes A map of attributes associated with the metric.
+     *
+     * @return The LongCounter metric instance for decision cache misses, or null if not configured.
+     */
+    public LongCounter decisionCacheMiss(Long value, Map<Attribute, String> attributes) {
+        return getCounter(Counters.DECISION_CACHE_MISS, value, attributes);
+    }
+
+    /**
+     * Returns a LongCounter counter for tracking the number of decisions evicted from the client-side decision cache.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     *
+     * @param value      The value to be added to the counter.
+     * @param attributes A map of attributes associated with the metric.
+     *
+     * @return The LongCounter metric instance for decision cache evictions, or null if not configured.
+     */
+    public LongCounter decisionCacheEviction(Long value, Map<Attribute, String> attributes) {
+        return getCounter(Counters.DECISION_CACHE_EVICTION, value, attributes);
+    }
+
+    /**
+     * Returns a LongCounter counter for tracking the number of calls that shared an identical request in flight.
+     * Note: This counter is disabled by default and must be explicitly enabled in TelemetryConfiguration.
+     *
+     * @param value      The value to be added to the counter.
+     * @param attributes A map of attributes associated with the metric.
+     *
+     * @return The LongCounter metric instance for collapsed requests, or null if not configured.
+     */
+    public LongCounter requestCollapsed(Long value, Map<Attribute, String> attributes) {
+        return getCounter(Counters.REQUEST_COLLAPSED, value, attributes);
+    }
 }
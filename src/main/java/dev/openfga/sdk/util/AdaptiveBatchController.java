@@ -0,0 +1,335 @@
+package dev.openfga.sdk.util;
+
+import dev.openfga.sdk.errors.FgaApiInternalError;
+import dev.openfga.sdk.errors.FgaApiRateLimitExceededError;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Tunes the size of sub-batches and the number of sub-batches in flight from the responses of the server.
+ *
+ * <p>The concurrency follows a gradient: the latency of each request is compared with the lowest latency observed
+ * recently, which is what a request costs when nothing is queued. While requests are as fast as that baseline the
+ * concurrency grows by about the square root of the current limit per request; as requests slow down, and so are
+ * queued somewhere, it shrinks in proportion. The latency is the processing time reported by the server in the
+ * {@code fga-query-duration-ms} header when present, and the round-trip time otherwise.</p>
+ *
+ * <p>The batch size is increased additively, by one check per request, while latency stays within twice the
+ * baseline. Both are decreased multiplicatively, by half, when the server is overloaded: a rate limit response, a
+ * server error or a timeout. Other failures are not a signal and are ignored.</p>
+ *
+ * <p>Limits are kept as real numbers and rounded when read, and every read is bounded by the maximums of the caller.
+ * {@link #dispatch(List, int, int, BiFunction, Function)} sends a list of items with the current limits, feeding the
+ * outcome of each request back. Each request is one signal: failed attempts that are retried and the final failure
+ * halve the limits once per request, and the latency is measured from when the request is actually sent, so that time
+ * spent queued on the client is not read as the server slowing down. Instances are thread-safe and intended to be
+ * shared by the calls for a store, so that they keep what they learnt.</p>
+ */
+public class AdaptiveBatchController {
+    public static final double DEFAULT_INITIAL_CONCURRENCY = 2;
+    public static final double DEFAULT_INITIAL_BATCH_SIZE = 10;
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BATCH_GROWTH_TOLERANCE = 2.0;
+    private static final double BASELINE_DRIFT = 0.01;
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private double concurrency;
+    private double batchSize;
+    private double baselineNanos = Double.NaN;
+
+    public AdaptiveBatchController() {
+        this(DEFAULT_INITIAL_CONCURRENCY, DEFAULT_INITIAL_BATCH_SIZE);
+    }
+
+    /**
+     * @param initialConcurrency The number of sub-batches in flight before anything was observed. Must be positive.
+     * @param initialBatchSize   The size of sub-batches before anything was observed. Must be positive.
+     */
+    public AdaptiveBatchController(double initialConcurrency, double initialBatchSize) {
+        if (initialConcurrency < 1) {
+            throw new IllegalArgumentException("initialConcurrency must be greater than 0");
+        }
+        if (initialBatchSize < 1) {
+            throw new IllegalArgumentException("initialBatchSize must be greater than 0");
+        }
+        this.concurrency = initialConcurrency;
+        this.batchSize = initialBatchSize;
+    }
+
+    /**
+     * Returns the number of sub-batches to keep in flight.
+     *
+     * @param max The maximum allowed by the caller.
+     */
+    public synchronized int concurrency(int max) {
+        return (int) Math.max(1, Math.min(max, Math.round(concurrency)));
+    }
+
+    /**
+     * Returns the number of checks to put in the next sub-batch.
+     *
+     * @param max The maximum allowed by the caller.
+     */
+    public synchronized int batchSize(int max) {
+        return (int) Math.max(1, Math.min(max, Math.round(batchSize)));
+    }
+
+    /**
+     * Record a successful request.
+     *
+     * @param maxConcurrency  The maximum concurrency of the caller, which the limit does not grow beyond.
+     * @param maxBatchSize    The maximum batch size of the caller, which the limit does not grow beyond.
+     * @param latencyNanos    The round-trip time of the request.
+     * @param queryDurationMs The processing time reported by the server, or null.
+     */
+    public synchronized void onSuccess(int maxConcurrency, int maxBatchSize, long latencyNanos, Double queryDurationMs) {
+        double sample = queryDurationMs != null && queryDurationMs > 0 ? queryDurationMs * 1_000_000 : latencyNanos;
+        if (sample <= 0) {
+            return;
+        }
+        if (Double.isNaN(baselineNanos) || sample < baselineNanos) {
+            baselineNanos = sample;
+        } else {
+            // Drift up slowly, so that the baseline follows a lasting change of the latency of the server
+            baselineNanos += (sample - baselineNanos) * BASELINE_DRIFT;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, baselineNanos / sample));
+        double target = concurrency * gradient + Math.sqrt(concurrency);
+        concurrency = Math.max(1, Math.min(maxConcurrency, concurrency * (1 - SMOOTHING) + target * SMOOTHING));
+
+        if (sample <= baselineNanos * BATCH_GROWTH_TOLERANCE) {
+            batchSize = Math.min(maxBatchSize, batchSize + 1);
+        }
+    }
+
+    /**
+     * Record a failed request. Rate limits, server errors and timeouts halve both limits, other failures are ignored.
+     *
+     * @param throwable The failure of the request.
+     */
+    public void onFailure(Throwable throwable) {
+        if (isOverload(throwable)) {
+            onOverload();
+        }
+    }
+
+    /**
+     * Halve both limits.
+     */
+    public synchronized void onOverload() {
+        concurrency = Math.max(1, concurrency * DECREASE_FACTOR);
+        batchSize = Math.max(1, batchSize * DECREASE_FACTOR);
+    }
+
+    private static boolean isOverload(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof FgaApiRateLimitExceededError
+                || cause instanceof FgaApiInternalError
+                || cause instanceof HttpTimeoutException;
+    }
+
+    /**
+     * Send items in sub-batches, sized and sent concurrently according to the current limits. The latency of each
+     * request is measured from when {@code send} is called.
+     *
+     * @see #dispatch(List, int, int, BiFunction, Function)
+     */
+    public <T, R> CompletableFuture<List<R>> dispatch(
+            List<T> items,
+            int maxBatchSize,
+            int maxConcurrency,
+            Function<List<T>, CompletableFuture<R>> send,
+            Function<R, Double> queryDurationMs) {
+        return dispatch(items, maxBatchSize, maxConcurrency, (batch, request) -> send.apply(batch), queryDurationMs);
+    }
+
+    /**
+     * Send items in sub-batches, sized and sent concurrently according to the current limits. The limits are read
+     * again before each sub-batch, so they follow the feedback of the requests of this call as well. Nothing here
+     * blocks: a sub-batch is started when the call is made or when a request completes.
+     *
+     * <p>{@code send} is given the {@link Request} of the sub-batch, to report when the request is actually sent and
+     * the failures of its attempts that are retried.</p>
+     *
+     * <p>Once a request fails, no further sub-batches are sent and the result fails with its error after the
+     * requests in flight complete.</p>
+     *
+     * @param items           The items to send.
+     * @param maxBatchSize    The maximum number of items in a sub-batch.
+     * @param maxConcurrency  The maximum number of sub-batches in flight.
+     * @param send            Sends a sub-batch.
+     * @param queryDurationMs Returns the processing time reported by the server for a response, or null.
+     * @return The responses of the sub-batches, in the order of the items.
+     */
+    public <T, R> CompletableFuture<List<R>> dispatch(
+            List<T> items,
+            int maxBatchSize,
+            int maxConcurrency,
+            BiFunction<List<T>, Request, CompletableFuture<R>> send,
+            Function<R, Double> queryDurationMs) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        Dispatch<T, R> dispatch = new Dispatch<>(items, maxBatchSize, maxConcurrency, send, queryDurationMs);
+        dispatch.drain();
+        return dispatch.result;
+    }
+
+    /**
+     * The feedback of one request sent by {@link #dispatch(List, int, int, BiFunction, Function)}.
+     */
+    public final class Request {
+        private final AtomicBoolean overloaded = new AtomicBoolean();
+        private volatile long sentAt = System.nanoTime();
+
+        private Request() {}
+
+        /**
+         * Mark the request as sent, once it has left any queue of the client, so that its latency is measured from
+         * now.
+         */
+        public void sent() {
+            sentAt = System.nanoTime();
+        }
+
+        /**
+         * Report a failure of the request, e.g. a rate limit response that is retried. The limits are halved on the
+         * first failure that signals an overload, and not again for the same request.
+         *
+         * @param throwable The failure.
+         */
+        public void onFailure(Throwable throwable) {
+            if (isOverload(throwable) && overloaded.compareAndSet(false, true)) {
+                onOverload();
+            }
+        }
+
+        private void onSuccess(int maxConcurrency, int maxBatchSize, Double queryDurationMs) {
+            // The latency of a request that was retried includes the delays between its attempts
+            if (!overloaded.get()) {
+                AdaptiveBatchController.this.onSuccess(
+                        maxConcurrency, maxBatchSize, System.nanoTime() - sentAt, queryDurationMs);
+            }
+        }
+    }
+
+    private final class Dispatch<T, R> {
+        private final List<T> items;
+        private final int maxBatchSize;
+        private final int maxConcurrency;
+        private final BiFunction<List<T>, Request, CompletableFuture<R>> send;
+        private final Function<R, Double> queryDurationMs;
+        private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+        private final List<R> responses = new ArrayList<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private int next;
+        private int inFlight;
+        private Throwable failure;
+
+        private Dispatch(
+                List<T> items,
+                int maxBatchSize,
+                int maxConcurrency,
+                BiFunction<List<T>, Request, CompletableFuture<R>> send,
+                Function<R, Double> queryDurationMs) {
+            this.items = items;
+            this.maxBatchSize = maxBatchSize;
+            this.maxConcurrency = maxConcurrency;
+            this.send = send;
+            this.queryDurationMs = queryDurationMs;
+        }
+
+        /**
+         * Starts sub-batches while the concurrency allows it. Re-entrant calls (e.g. from a request completing
+         * synchronously) are folded into the outermost loop, so the call stack never grows with the number of items.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                while (true) {
+                    List<T> batch;
+                    int slot;
+                    synchronized (this) {
+                        if (failure != null || next >= items.size() || inFlight >= concurrency(maxConcurrency)) {
+                            break;
+                        }
+                        int size = batchSize(maxBatchSize);
+                        batch = items.subList(next, Math.min(next + size, items.size()));
+                        next += batch.size();
+                        slot = responses.size();
+                        responses.add(null);
+                        inFlight++;
+                    }
+                    start(batch, slot);
+                }
+                complete();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void start(List<T> batch, int slot) {
+            Request request = new Request();
+            CompletableFuture<R> future;
+            try {
+                future = send.apply(batch, request);
+            } catch (Throwable throwable) {
+                future = CompletableFuture.failedFuture(throwable);
+            }
+            future.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    request.onFailure(throwable);
+                } else {
+                    request.onSuccess(maxConcurrency, maxBatchSize, queryDurationMs.apply(response));
+                }
+                synchronized (this) {
+                    if (throwable != null && failure == null) {
+                        failure = unwrap(throwable);
+                    } else if (throwable == null) {
+                        responses.set(slot, response);
+                    }
+                    inFlight--;
+                }
+                drain();
+            });
+        }
+
+        private void complete() {
+            synchronized (this) {
+                if (inFlight > 0 || (failure == null && next < items.size()) || result.isDone()) {
+                    return;
+                }
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(responses);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -0,0 +1,175 @@
+package dev.openfga.sdk.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking limiter for asynchronous tasks.
+ *
+ * <p>At most {@code maxInFlight} tasks submitted to a limiter are running at any time. Tasks submitted while the
+ * limit is reached are queued and started as soon as a running task completes. No threads are created and
+ * the submitting thread is never blocked: {@link #submit(Supplier)} returns immediately with a future that
+ * completes with the outcome of the task.</p>
+ *
+ * <p>Queued tasks are started in FIFO order. When the limiter is created as {@code fair}, tasks are queued per key
+ * (see {@link #submit(String, Supplier)}) and the keys are served round-robin, so a key with a large backlog
+ * cannot starve the others.</p>
+ *
+ * <p>Instances are thread-safe and intended to be shared, so that the limit applies across every caller.</p>
+ */
+public class ConcurrencyLimiter {
+    private static final String DEFAULT_KEY = "";
+
+    private final int maxInFlight;
+    private final boolean fair;
+    private final Map<String, Queue<Runnable>> pending = new LinkedHashMap<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int inFlight;
+    private int pendingCount;
+
+    /**
+     * @param maxInFlight The maximum number of tasks running at the same time. Must be positive.
+     */
+    public ConcurrencyLimiter(int maxInFlight) {
+        this(maxInFlight, false);
+    }
+
+    /**
+     * @param maxInFlight The maximum number of tasks running at the same time. Must be positive.
+     * @param fair        Whether queued tasks are served round-robin across their keys instead of in FIFO order.
+     */
+    public ConcurrencyLimiter(int maxInFlight, boolean fair) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        this.maxInFlight = maxInFlight;
+        this.fair = fair;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean isFair() {
+        return fair;
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a free slot.
+     */
+    public synchronized int getPending() {
+        return pendingCount;
+    }
+
+    /**
+     * Submit an asynchronous task. The task is started immediately if a slot is free, otherwise once one frees up.
+     *
+     * @param task Supplies the future of the task once it is allowed to start.
+     * @return A future completing with the outcome of the task.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        return submit(DEFAULT_KEY, task);
+    }
+
+    /**
+     * Submit an asynchronous task on behalf of {@code key} (e.g. a store ID). Keys only matter for a fair limiter,
+     * where tasks waiting for a slot are served round-robin across keys.
+     *
+     * @param key  The key the task is queued under. A null key is treated like any other key.
+     * @param task Supplies the future of the task once it is allowed to start.
+     * @return A future completing with the outcome of the task.
+     */
+    public <T> CompletableFuture<T> submit(String key, Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> future;
+            try {
+                future = task.get();
+            } catch (Throwable throwable) {
+                future = CompletableFuture.failedFuture(throwable);
+            }
+            if (future == null) {
+                future = CompletableFuture.completedFuture(null);
+            }
+            future.whenComplete((value, throwable) -> {
+                release();
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        String queueKey = fair && key != null ? key : DEFAULT_KEY;
+        synchronized (this) {
+            pending.computeIfAbsent(queueKey, ignored -> new ArrayDeque<>()).add(start);
+            pendingCount++;
+        }
+        drain();
+        return result;
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Takes the next task to start. The key it came from is moved to the back of the rotation.
+     * Must be called while holding the lock, with at least one task pending.
+     */
+    private Runnable pollNext() {
+        Iterator<Map.Entry<String, Queue<Runnable>>> keys = pending.entrySet().iterator();
+        Map.Entry<String, Queue<Runnable>> head = keys.next();
+        Queue<Runnable> queue = head.getValue();
+        Runnable next = queue.poll();
+        keys.remove();
+        if (!queue.isEmpty()) {
+            pending.put(head.getKey(), queue);
+        }
+        pendingCount--;
+        return next;
+    }
+
+    /**
+     * Starts as many pending tasks as there are free slots. Re-entrant calls (e.g. from a task completing
+     * synchronously) are folded into the outermost loop, so the call stack never grows with the queue length.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (true) {
+                Runnable next;
+                synchronized (this) {
+                    if (inFlight >= maxInFlight || pendingCount == 0) {
+                        break;
+                    }
+                    next = pollNext();
+                    inFlight++;
+                }
+                next.run();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
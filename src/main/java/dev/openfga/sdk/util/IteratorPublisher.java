@@ -0,0 +1,136 @@
+package dev.openfga.sdk.util;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} that emits the elements of an iterator as they are requested.
+ *
+ * <p>Elements are taken from the iterator on the thread that requests them, and only as many as requested, so a
+ * lazily produced sequence (e.g. the lines of a file) is read as the subscriber consumes it. Requests made while
+ * elements are being emitted (e.g. from {@code onNext}) are folded into the running loop, so the call stack never
+ * grows with the number of elements.</p>
+ *
+ * <p>The iterator can only be consumed once, so a publisher accepts a single subscriber. An optional resource is
+ * closed once the iterator is exhausted, fails, or the subscription is cancelled.</p>
+ */
+public class IteratorPublisher<T> implements Flow.Publisher<T> {
+    private final Iterator<? extends T> iterator;
+    private final AutoCloseable resource;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param iterator The elements to emit.
+     * @param resource Closed when the publisher terminates or is cancelled, or null.
+     */
+    public IteratorPublisher(Iterator<? extends T> iterator, AutoCloseable resource) {
+        this.iterator = iterator;
+        this.resource = resource;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("IteratorPublisher only supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    private final class IteratorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (terminate()) {
+                    subscriber.onError(new IllegalArgumentException("n must be greater than 0"));
+                }
+                return;
+            }
+            if (addRequested(n) != 0) {
+                // Another call is emitting, and will emit these elements too
+                return;
+            }
+
+            long emitted = 0;
+            while (true) {
+                long limit = requested.get();
+                while (emitted < limit) {
+                    if (terminated.get()) {
+                        return;
+                    }
+                    T next;
+                    try {
+                        if (!iterator.hasNext()) {
+                            if (terminate()) {
+                                subscriber.onComplete();
+                            }
+                            return;
+                        }
+                        next = iterator.next();
+                    } catch (RuntimeException e) {
+                        if (terminate()) {
+                            subscriber.onError(e);
+                        }
+                        return;
+                    }
+                    subscriber.onNext(next);
+                    emitted++;
+                }
+                if (terminated.get()) {
+                    return;
+                }
+                long remaining = requested.addAndGet(-emitted);
+                emitted = 0;
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            terminate();
+        }
+
+        private long addRequested(long n) {
+            while (true) {
+                long current = requested.get();
+                long next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                if (requested.compareAndSet(current, next)) {
+                    return current;
+                }
+            }
+        }
+
+        private boolean terminate() {
+            if (!terminated.compareAndSet(false, true)) {
+                return false;
+            }
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    // The outcome of the subscription does not depend on releasing the resource
+                }
+            }
+            return true;
+        }
+    }
+}
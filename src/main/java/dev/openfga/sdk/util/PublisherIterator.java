@@ -0,0 +1,145 @@
+package dev.openfga.sdk.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A blocking {@link Iterator} over the elements of a {@link Flow.Publisher}.
+ *
+ * <p>Elements are requested in batches of {@code batchSize}, and the next batch is only requested once the previous
+ * one has been consumed, so no more than {@code batchSize} elements are buffered. {@link #hasNext()} blocks until an
+ * element is available or the publisher terminates. An error of the publisher is thrown by {@link #hasNext()} once the
+ * elements before it have been consumed, wrapped in a {@link CompletionException} when it is a checked exception.</p>
+ *
+ * <p>Close the iterator to cancel the subscription when it is not consumed to the end.</p>
+ */
+public final class PublisherIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final Object COMPLETE = new Object();
+
+    private final int batchSize;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Flow.Subscriber<T> subscriber = new Subscriber();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean closed;
+    private Object next;
+    private boolean done;
+    private int consumed;
+
+    private PublisherIterator(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribe to a publisher.
+     *
+     * @param publisher The publisher to iterate.
+     * @param batchSize The number of elements requested at a time. Must be positive.
+     */
+    public static <T> PublisherIterator<T> of(Flow.Publisher<? extends T> publisher, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        PublisherIterator<T> iterator = new PublisherIterator<>(batchSize);
+        publisher.subscribe(iterator.subscriber);
+        return iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        Object signal;
+        try {
+            signal = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CompletionException(e);
+        }
+        if (signal == COMPLETE) {
+            done = true;
+            return false;
+        }
+        if (signal instanceof Failure) {
+            done = true;
+            Throwable error = ((Failure) signal).error;
+            throw error instanceof RuntimeException ? (RuntimeException) error : new CompletionException(error);
+        }
+        next = signal;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = (T) next;
+        next = null;
+        if (++consumed == batchSize) {
+            consumed = 0;
+            subscription.request(batchSize);
+        }
+        return element;
+    }
+
+    /**
+     * Cancel the subscription. Elements already received can still be consumed, after which the iterator ends.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+        queue.add(COMPLETE);
+    }
+
+    private static final class Failure {
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final class Subscriber implements Flow.Subscriber<T> {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            PublisherIterator.this.subscription = subscription;
+            if (closed) {
+                subscription.cancel();
+            } else {
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            queue.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            queue.add(new Failure(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            queue.add(COMPLETE);
+        }
+    }
+}
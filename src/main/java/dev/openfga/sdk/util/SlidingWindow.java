@@ -0,0 +1,132 @@
+package dev.openfga.sdk.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs asynchronous tasks pulled from an iterator, with at most {@code maxInFlight} of them running at any time.
+ *
+ * <p>Unlike {@link ConcurrencyLimiter}, tasks are not submitted up front: the next task is only taken from the
+ * iterator when a running task completes, so a lazily produced sequence of tasks (e.g. the chunks of a large import)
+ * is never materialized. No threads are created and nothing blocks: tasks are started by the caller and by the
+ * completion of earlier tasks.</p>
+ *
+ * <p>When a task fails, no further tasks are taken and the result fails with its error once the running tasks
+ * complete.</p>
+ */
+public final class SlidingWindow<T> {
+    private final Iterator<? extends Supplier<CompletableFuture<T>>> tasks;
+    private final int maxInFlight;
+    private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    private final List<T> results = new ArrayList<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int inFlight;
+    private boolean exhausted;
+    private Throwable failure;
+
+    private SlidingWindow(Iterator<? extends Supplier<CompletableFuture<T>>> tasks, int maxInFlight) {
+        this.tasks = tasks;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Run the tasks of an iterator. The iterator is only used by one thread at a time.
+     *
+     * @param tasks       Supplies the future of each task once it is allowed to start.
+     * @param maxInFlight The maximum number of tasks running at the same time. Must be positive.
+     * @return A future completing with the outcomes of the tasks, in the order of the iterator.
+     */
+    public static <T> CompletableFuture<List<T>> run(
+            Iterator<? extends Supplier<CompletableFuture<T>>> tasks, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        SlidingWindow<T> window = new SlidingWindow<>(tasks, maxInFlight);
+        window.drain();
+        return window.result;
+    }
+
+    /**
+     * Starts tasks while slots are free. Re-entrant calls (e.g. from a task completing synchronously) are folded into
+     * the outermost loop, so the call stack never grows with the number of tasks.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (true) {
+                Supplier<CompletableFuture<T>> task;
+                int slot;
+                synchronized (this) {
+                    if (failure != null || exhausted || inFlight >= maxInFlight) {
+                        break;
+                    }
+                    try {
+                        if (!tasks.hasNext()) {
+                            exhausted = true;
+                            break;
+                        }
+                        task = tasks.next();
+                    } catch (RuntimeException e) {
+                        failure = e;
+                        break;
+                    }
+                    slot = results.size();
+                    results.add(null);
+                    inFlight++;
+                }
+                start(task, slot);
+            }
+            complete();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void start(Supplier<CompletableFuture<T>> task, int slot) {
+        CompletableFuture<T> future;
+        try {
+            future = task.get();
+        } catch (Throwable throwable) {
+            future = CompletableFuture.failedFuture(throwable);
+        }
+        if (future == null) {
+            future = CompletableFuture.completedFuture(null);
+        }
+        future.whenComplete((value, throwable) -> {
+            synchronized (this) {
+                if (throwable != null) {
+                    if (failure == null) {
+                        failure = throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable;
+                    }
+                } else {
+                    results.set(slot, value);
+                }
+                inFlight--;
+            }
+            drain();
+        });
+    }
+
+    private void complete() {
+        synchronized (this) {
+            if (inFlight > 0 || (failure == null && !exhausted) || result.isDone()) {
+                return;
+            }
+        }
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(results);
+        }
+    }
+}
@@ -70,6 +70,7 @@ public class OpenFgaApiTest {
         mockApiClient = mock(ApiClient.class);
         when(mockApiClient.getObjectMapper()).thenReturn(mapper);
         when(mockApiClient.getHttpClient()).thenReturn(mockHttpClient);
+        when(mockApiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
         when(mockApiClient.getHttpClientBuilder()).thenReturn(mockHttpClientBuilder);
 
         fga = new OpenFgaApi(mockConfiguration, mockApiClient);
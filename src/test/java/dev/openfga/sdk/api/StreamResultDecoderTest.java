@@ -0,0 +1,116 @@
+package dev.openfga.sdk.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.model.StreamResult;
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamResultDecoderTest {
+    private final StreamResultDecoder<StreamedListObjectsResponse> decoder = new StreamResultDecoder<>(
+            new ObjectMapper().readerFor(new TypeReference<StreamResult<StreamedListObjectsResponse>>() {}));
+
+    @Test
+    void shouldDecodeFramesSplitAcrossBuffers() throws Exception {
+        // given
+        String body = "{\"result\":{\"object\":\"document:1\"}}\n{\"result\":{\"object\":\"document:2\"}}\n";
+
+        // when
+        List<String> objects = new ArrayList<>();
+        for (int start = 0; start < body.length(); start += 7) {
+            decoder.feed(buffer(body.substring(start, Math.min(start + 7, body.length())), false));
+            objects.addAll(decodeAll());
+        }
+
+        // then
+        assertThat(objects).containsExactly("document:1", "document:2");
+    }
+
+    @Test
+    void shouldDecodeReadOnlyBuffersAndLetThemBeReused() throws Exception {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        List<String> chunks = List.of(
+                "{\"result\":{\"object\":\"docu", "ment:1\"}}\n{\"result\":", "{\"object\":\"document:2\"}}\n");
+
+        // when
+        List<String> objects = new ArrayList<>();
+        for (String chunk : chunks) {
+            buffer.clear();
+            buffer.put(chunk.getBytes(StandardCharsets.UTF_8)).flip();
+            ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+            decoder.feed(readOnly);
+            assertThat(readOnly.hasRemaining()).isFalse();
+            objects.addAll(decodeAll());
+        }
+
+        // then
+        assertThat(objects).containsExactly("document:1", "document:2");
+    }
+
+    @Test
+    void shouldOnlyDecodeTheLastFrameWithoutNewlineAtTheEndOfInput() throws Exception {
+        // given
+        String body = "{\"result\":{\"object\":\"document:1\"}}\n\r\n\n{\"result\":{\"object\":\"document:2\"}}";
+        decoder.feed(buffer(body, true));
+
+        // when
+        List<String> beforeEnd = decodeAll();
+        decoder.endOfInput();
+        List<String> afterEnd = decodeAll();
+
+        // then
+        assertThat(beforeEnd).containsExactly("document:1");
+        assertThat(afterEnd).containsExactly("document:2");
+    }
+
+    @Test
+    void shouldDecodeErrorResults() throws Exception {
+        // given
+        decoder.feed(buffer("{\"error\":{\"code\":2,\"message\":\"Internal error\"}}\n", false));
+
+        // when
+        StreamResult<StreamedListObjectsResponse> result = decoder.next();
+
+        // then
+        assertThat(result.getResult()).isNull();
+        assertThat(result.getError().getMessage()).isEqualTo("Internal error");
+    }
+
+    @Test
+    void shouldContinueWithTheNextFrameAfterAFrameThatCannotBeParsed() throws Exception {
+        // given
+        decoder.feed(buffer(
+                "{\"result\":{\"object\":\"doc\n{\"result\":{\"object\":\"document:1\"}} {}\n"
+                        + "{\"result\":{\"object\":\"document:2\"}}\n",
+                false));
+
+        // when / then
+        assertThatThrownBy(decoder::next).isInstanceOf(IOException.class);
+        assertThatThrownBy(decoder::next).isInstanceOf(IOException.class);
+        assertThat(decodeAll()).containsExactly("document:2");
+    }
+
+    private List<String> decodeAll() throws IOException {
+        List<String> objects = new ArrayList<>();
+        StreamResult<StreamedListObjectsResponse> result;
+        while ((result = decoder.next()) != null) {
+            objects.add(result.getResult().getObject());
+        }
+        return objects;
+    }
+
+    private static ByteBuffer buffer(String content, boolean direct) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        return buffer.put(bytes).flip();
+    }
+}
@@ -1,11 +1,13 @@
 package dev.openfga.sdk.api;
 
+import static dev.openfga.sdk.api.client.StreamingResponses.streamed;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.HttpClientTransport;
 import dev.openfga.sdk.api.configuration.Configuration;
 import dev.openfga.sdk.api.model.ListObjectsRequest;
 import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
@@ -55,6 +57,7 @@ class StreamingApiTest {
         objectMapper = new ObjectMapper();
         when(mockApiClient.getObjectMapper()).thenReturn(objectMapper);
         when(mockApiClient.getHttpClient()).thenReturn(mockHttpClient);
+        when(mockApiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
 
         when(mockConfiguration.getApiUrl()).thenReturn("https://api.fga.example");
         when(mockConfiguration.getReadTimeout()).thenReturn(Duration.ofSeconds(10));
@@ -76,7 +79,7 @@ class StreamingApiTest {
         when(mockHttpResponse.statusCode()).thenReturn(200);
 
         when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
+                .thenAnswer(streamed(mockHttpResponse));
 
         // Act: Collect streamed objects
         List<String> receivedObjects = Collections.synchronizedList(new ArrayList<>());
@@ -111,7 +114,7 @@ class StreamingApiTest {
         when(mockHttpResponse.statusCode()).thenReturn(200);
 
         when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
+                .thenAnswer(streamed(mockHttpResponse));
 
         // Act: Collect objects and errors
         List<String> receivedObjects = Collections.synchronizedList(new ArrayList<>());
@@ -145,7 +148,7 @@ class StreamingApiTest {
                 .thenReturn(java.net.http.HttpHeaders.of(Collections.emptyMap(), (k, v) -> true));
 
         when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
+                .thenAnswer(streamed(mockHttpResponse));
 
         // Act: Try to stream
         List<String> receivedObjects = Collections.synchronizedList(new ArrayList<>());
@@ -166,6 +169,21 @@ class StreamingApiTest {
         assertEquals(0, receivedObjects.size());
     }
 
+    @Test
+    void testStreamedListObjects_limitMustBePositive() {
+        ListObjectsRequest request =
+                new ListObjectsRequest().type("document").relation("viewer").user("user:anne");
+
+        // Act & Assert: Both the callback and the publisher variants reject a limit below 1
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> streamingApi.streamedListObjects("store123", request, response -> {}, null, null, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> streamingApi.streamedListObjectsPublisher("store123", request, null, 0));
+        verifyNoInteractions(mockHttpClient);
+    }
+
     @Test
     void testStreamedListObjects_emptyStream() throws Exception {
         String streamResponse = "";
@@ -175,7 +193,7 @@ class StreamingApiTest {
         when(mockHttpResponse.statusCode()).thenReturn(200);
 
         when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
+                .thenAnswer(streamed(mockHttpResponse));
 
         // Act: Stream with no results
         List<String> receivedObjects = Collections.synchronizedList(new ArrayList<>());
@@ -208,7 +226,7 @@ class StreamingApiTest {
         when(mockHttpResponse.statusCode()).thenReturn(200);
 
         when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
+                .thenAnswer(streamed(mockHttpResponse));
 
         List<String> receivedObjects = Collections.synchronizedList(new ArrayList<>());
         CountDownLatch latch = new CountDownLatch(objectCount);
@@ -12,6 +12,7 @@ import com.github.tomakehurst.wiremock.junit5.*;
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import com.pgssoft.httpclient.HttpClientMock;
 import dev.openfga.sdk.api.client.ApiClient;
+import dev.openfga.sdk.api.client.HttpClientTransport;
 import dev.openfga.sdk.api.configuration.*;
 import dev.openfga.sdk.constants.FgaConstants;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
@@ -422,6 +423,7 @@ class OAuth2ClientTest {
 
             apiClient = mock(ApiClient.class);
             when(apiClient.getHttpClient()).thenReturn(mockHttpClient);
+            when(apiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
             when(apiClient.getObjectMapper()).thenReturn(mapper);
         } else {
             apiClient = new ApiClient();
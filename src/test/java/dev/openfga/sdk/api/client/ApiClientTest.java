@@ -5,18 +5,27 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pgssoft.httpclient.HttpClientMock;
+import dev.openfga.sdk.api.OpenFgaApi;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
 import dev.openfga.sdk.api.configuration.ApiToken;
+import dev.openfga.sdk.api.configuration.ClientConfiguration;
 import dev.openfga.sdk.api.configuration.ClientCredentials;
 import dev.openfga.sdk.api.configuration.Configuration;
 import dev.openfga.sdk.api.configuration.Credentials;
 import dev.openfga.sdk.constants.FgaConstants;
 import dev.openfga.sdk.errors.ApiException;
+import dev.openfga.sdk.util.ConcurrencyLimiter;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -55,6 +64,139 @@ class ApiClientTest {
         assertEquals(apiClient.getHttpClient().version(), HttpClient.Version.HTTP_2);
     }
 
+    @Test
+    public void http2FromConfiguration() throws Exception {
+        ApiClient apiClient = new ApiClient();
+        Configuration configuration = new Configuration()
+                .apiUrl(FgaConstants.TEST_API_URL)
+                .httpVersion(HttpClient.Version.HTTP_2)
+                .maxConcurrentStreams(16);
+
+        new OpenFgaApi(configuration, apiClient);
+
+        assertEquals(HttpClient.Version.HTTP_2, apiClient.getHttpClient().version());
+        assertEquals(16, apiClient.getConcurrentStreamsLimiter().getMaxInFlight());
+    }
+
+    @Test
+    public void defaultsRestoredByLaterConfiguration() throws Exception {
+        ApiClient apiClient = new ApiClient();
+        new OpenFgaApi(
+                new Configuration()
+                        .apiUrl(FgaConstants.TEST_API_URL)
+                        .httpVersion(HttpClient.Version.HTTP_2)
+                        .maxConcurrentStreams(16),
+                apiClient);
+
+        new OpenFgaApi(new Configuration().apiUrl(FgaConstants.TEST_API_URL), apiClient);
+
+        assertEquals(HttpClient.Version.HTTP_1_1, apiClient.getHttpClient().version());
+        assertNull(apiClient.getHttpVersion());
+        assertNull(apiClient.getConcurrentStreamsLimiter());
+    }
+
+    @Test
+    public void settingsOfApiClientKeptWithoutConfiguration() throws Exception {
+        ApiClient apiClient = new ApiClient();
+        new OpenFgaApi(
+                new Configuration()
+                        .apiUrl(FgaConstants.TEST_API_URL)
+                        .httpVersion(HttpClient.Version.HTTP_2)
+                        .maxConcurrentStreams(16),
+                apiClient);
+        apiClient.setHttpVersion(HttpClient.Version.HTTP_2);
+        apiClient.setMaxConcurrentStreams(8);
+        ConcurrencyLimiter limiter = apiClient.getConcurrentStreamsLimiter();
+
+        new OpenFgaApi(new Configuration().apiUrl(FgaConstants.TEST_API_URL), apiClient);
+
+        assertEquals(HttpClient.Version.HTTP_2, apiClient.getHttpClient().version());
+        assertSame(limiter, apiClient.getConcurrentStreamsLimiter());
+        assertEquals(8, limiter.getMaxInFlight());
+    }
+
+    @Test
+    public void httpVersionOfCustomBuilderKeptWithoutConfiguration() throws Exception {
+        ApiClient apiClient = new ApiClient(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2));
+
+        new OpenFgaApi(new Configuration().apiUrl(FgaConstants.TEST_API_URL), apiClient);
+
+        assertEquals(HttpClient.Version.HTTP_2, apiClient.getHttpClient().version());
+    }
+
+    @Test
+    public void concurrentStreamsAreNotLimitedByDefault() {
+        ApiClient apiClient = new ApiClient();
+        assertNull(apiClient.getConcurrentStreamsLimiter());
+
+        apiClient.setMaxConcurrentStreams(8);
+        ConcurrencyLimiter limiter = apiClient.getConcurrentStreamsLimiter();
+        assertEquals(8, limiter.getMaxInFlight());
+
+        apiClient.setMaxConcurrentStreams(8);
+        assertSame(limiter, apiClient.getConcurrentStreamsLimiter());
+
+        apiClient.setMaxConcurrentStreams(null);
+        assertNull(apiClient.getConcurrentStreamsLimiter());
+    }
+
+    @Nested
+    class Transport {
+
+        @Test
+        void defaultTransport_usesCurrentHttpClient() throws Exception {
+            HttpClientMock mockHttpClient = new HttpClientMock();
+            mockHttpClient.onGet(FgaConstants.TEST_API_URL + "/stores").doReturn(200, "{\"stores\":[]}");
+            ApiClient apiClient = new ApiClient();
+            apiClient.setHttpClientBuilder(mockHttpClientBuilder(mockHttpClient));
+
+            HttpResponse<String> response = apiClient
+                    .getTransport()
+                    .send(
+                            HttpRequest.newBuilder(URI.create(FgaConstants.TEST_API_URL + "/stores"))
+                                    .build(),
+                            HttpResponse.BodyHandlers.ofString())
+                    .get();
+
+            assertEquals(200, response.statusCode());
+            mockHttpClient.verify().get(FgaConstants.TEST_API_URL + "/stores").called(1);
+        }
+
+        @Test
+        void customTransport_sendsApiRequests() throws Exception {
+            String storeId = "01YCP46JKYM8FJCQ37NMBYHE5X";
+            HttpClientMock mockHttpClient = new HttpClientMock();
+            mockHttpClient
+                    .onPost(String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, storeId))
+                    .doReturn(200, "{\"allowed\":true}");
+            FgaTransport transport = Mockito.spy(new HttpClientTransport(mockHttpClient));
+            ApiClient apiClient = new ApiClient().setTransport(transport);
+            OpenFgaClient fga = new OpenFgaClient(
+                    new ClientConfiguration().apiUrl(FgaConstants.TEST_API_URL).storeId(storeId), apiClient);
+
+            ClientCheckResponse response = fga.check(new ClientCheckRequest()
+                            .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                            .relation("reader")
+                            ._object("document:budget"))
+                    .get();
+
+            assertTrue(response.getAllowed());
+            Mockito.verify(transport).send(ArgumentMatchers.any(), ArgumentMatchers.any());
+        }
+
+        @Test
+        void setTransport_null_restoresDefaultTransport() {
+            ApiClient apiClient = new ApiClient();
+            FgaTransport defaultTransport = apiClient.getTransport();
+
+            apiClient.setTransport(new HttpClientTransport(HttpClient.newHttpClient()));
+            assertNotEquals(defaultTransport, apiClient.getTransport());
+
+            apiClient.setTransport(null);
+            assertSame(defaultTransport, apiClient.getTransport());
+        }
+    }
+
     @Nested
     class ApplyAuthHeader {
 
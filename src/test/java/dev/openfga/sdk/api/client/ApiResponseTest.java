@@ -0,0 +1,43 @@
+package dev.openfga.sdk.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ApiResponseTest {
+
+    @Test
+    void rawResponse_isDecodedFromBytesOnce() {
+        // Given
+        byte[] body = "{\"name\":\"übung\"}".getBytes(StandardCharsets.UTF_8);
+        ApiResponse<Object> response = new ApiResponse<>(200, Map.of(), body, null);
+
+        // When
+        String raw = response.getRawResponse();
+
+        // Then
+        assertEquals("{\"name\":\"übung\"}", raw);
+        assertSame(raw, response.getRawResponse());
+    }
+
+    @Test
+    void rawResponse_fromString() {
+        ApiResponse<Object> response =
+                new ApiResponse<>(200, Map.of("Content-Type", List.of("application/json")), "{}", null);
+
+        assertEquals("{}", response.getRawResponse());
+        assertEquals(List.of("application/json"), response.getHeaders().get("content-type"));
+    }
+
+    @Test
+    void rawResponse_withoutBody() {
+        ApiResponse<Object> response = new ApiResponse<>(204, Map.of(), (byte[]) null, null);
+
+        assertNull(response.getRawResponse());
+    }
+}
@@ -0,0 +1,169 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import dev.openfga.sdk.api.OpenFgaApi;
+import dev.openfga.sdk.api.configuration.ClientChangeFeedWatcherOptions;
+import dev.openfga.sdk.api.configuration.ConfigurationOverride;
+import dev.openfga.sdk.api.model.ReadChangesResponse;
+import dev.openfga.sdk.api.model.TupleChange;
+import dev.openfga.sdk.api.model.TupleKey;
+import dev.openfga.sdk.api.model.TupleOperation;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ChangeFeedWatcherTest {
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+    private static final OffsetDateTime START_TIME = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+
+    private final OpenFgaApi api = mock(OpenFgaApi.class);
+    private final ContinuationTokenStore tokenStore = ContinuationTokenStore.inMemory();
+    private final ClientChangeFeedWatcherOptions options = new ClientChangeFeedWatcherOptions()
+            .minPollInterval(Duration.ofMillis(10))
+            .maxPollInterval(Duration.ofMillis(20))
+            .startTime(START_TIME)
+            .continuationTokenStore(tokenStore);
+
+    @Test
+    void shouldRejectInvalidPollIntervals() {
+        assertThatThrownBy(() -> new ClientChangeFeedWatcherOptions().minPollInterval(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ClientChangeFeedWatcherOptions().maxPollInterval(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDeliverChangesAndSaveTheContinuationToken() throws Exception {
+        // given
+        givenPage(null, START_TIME, page("t1", change("document:roadmap")));
+        givenPage("t1", null, page("t2", change("document:budget")));
+        givenPage("t2", null, page("t2"));
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<String> objects = new CopyOnWriteArrayList<>();
+
+        // when
+        try (ChangeFeedWatcher watcher = new ChangeFeedWatcher(api, STORE_ID, options)) {
+            watcher.addListener((storeId, changes) -> {
+                        changes.forEach(change -> objects.add(change.getTupleKey().getObject()));
+                        delivered.countDown();
+                    })
+                    .start();
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            verify(api, timeout(5000).atLeastOnce())
+                    .readChanges(eq(STORE_ID), isNull(), isNull(), eq("t2"), isNull(), any());
+        }
+
+        // then
+        assertThat(objects).containsExactly("document:roadmap", "document:budget");
+        assertThat(tokenStore.load(STORE_ID, null)).isEqualTo("t2");
+    }
+
+    @Test
+    void shouldResumeFromTheStoredContinuationTokenOfEachType() throws Exception {
+        // given
+        tokenStore.save(STORE_ID, "document", "t5");
+        when(api.readChanges(any(), any(), any(), any(), any(), any(ConfigurationOverride.class)))
+                .thenReturn(CompletableFuture.completedFuture(response(page("t5"))));
+
+        // when
+        try (ChangeFeedWatcher watcher =
+                new ChangeFeedWatcher(api, STORE_ID, options.types(List.of("document", "folder")))) {
+            watcher.start();
+
+            // then
+            verify(api, timeout(5000).atLeastOnce())
+                    .readChanges(eq(STORE_ID), eq("document"), isNull(), eq("t5"), isNull(), any());
+            verify(api, timeout(5000).atLeastOnce())
+                    .readChanges(eq(STORE_ID), eq("folder"), isNull(), isNull(), eq(START_TIME), any());
+        }
+    }
+
+    @Test
+    void shouldRedeliverChangesWhenAListenerFails() throws Exception {
+        // given
+        givenPage(null, START_TIME, page("t1", change("document:roadmap")));
+        givenPage("t1", null, page("t1"));
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        // when
+        try (ChangeFeedWatcher watcher = new ChangeFeedWatcher(api, STORE_ID, options)) {
+            watcher.addListener(new ChangeFeedListener() {
+                        @Override
+                        public void onChanges(String storeId, List<TupleChange> changes) {
+                            delivered.countDown();
+                            if (delivered.getCount() > 0) {
+                                throw new IllegalStateException("listener failed");
+                            }
+                        }
+
+                        @Override
+                        public void onError(String storeId, Throwable error) {
+                            errors.add(error);
+                        }
+                    })
+                    .start();
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // then
+        assertThat(errors).hasSize(1).first().isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldStopPollingWhenClosed() throws Exception {
+        // given
+        givenPage(null, START_TIME, page(""));
+        ChangeFeedWatcher watcher = new ChangeFeedWatcher(api, STORE_ID, options).start();
+        verify(api, timeout(5000).atLeastOnce()).readChanges(any(), any(), any(), any(), any(), any());
+
+        // when
+        watcher.close();
+        clearInvocations(api);
+        Thread.sleep(100);
+
+        // then
+        assertThat(watcher.isRunning()).isFalse();
+        verifyNoInteractions(api);
+        assertThatThrownBy(watcher::start).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void givenPage(String continuationToken, OffsetDateTime startTime, ReadChangesResponse page)
+            throws Exception {
+        when(api.readChanges(
+                        eq(STORE_ID),
+                        isNull(),
+                        isNull(),
+                        continuationToken != null ? eq(continuationToken) : isNull(),
+                        startTime != null ? eq(startTime) : isNull(),
+                        any(ConfigurationOverride.class)))
+                .thenReturn(CompletableFuture.completedFuture(response(page)));
+    }
+
+    private static ApiResponse<ReadChangesResponse> response(ReadChangesResponse page) {
+        return new ApiResponse<>(200, Map.of(), (String) null, page);
+    }
+
+    private static ReadChangesResponse page(String continuationToken, TupleChange... changes) {
+        return new ReadChangesResponse().changes(List.of(changes)).continuationToken(continuationToken);
+    }
+
+    private static TupleChange change(String object) {
+        return new TupleChange()
+                .tupleKey(new TupleKey().user("user:anne").relation("reader")._object(object))
+                .operation(TupleOperation.WRITE)
+                .timestamp(START_TIME);
+    }
+}
@@ -0,0 +1,207 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.openfga.sdk.api.configuration.CheckBatchingConfiguration;
+import dev.openfga.sdk.api.model.BatchCheckItem;
+import dev.openfga.sdk.api.model.BatchCheckRequest;
+import dev.openfga.sdk.api.model.BatchCheckResponse;
+import dev.openfga.sdk.api.model.BatchCheckSingleResult;
+import dev.openfga.sdk.api.model.CheckError;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import dev.openfga.sdk.api.model.ErrorCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class CheckBatcherTest {
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+
+    private final List<Runnable> windows = new ArrayList<>();
+    private final List<BatchCheckRequest> batches = new ArrayList<>();
+    private final List<CheckRequest> checks = new ArrayList<>();
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new CheckBatchingConfiguration().window(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CheckBatchingConfiguration().maxBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSendTheChecksOfAWindowAsOneBatch() throws Exception {
+        // given
+        CheckBatcher batcher = batcher(new CheckBatchingConfiguration(), this::allowEvenDocuments);
+
+        // when
+        var first = batcher.submit(STORE_ID, check("document:0", null), null);
+        var second = batcher.submit(STORE_ID, check("document:1", null), null);
+        var third = batcher.submit(STORE_ID, check("document:2", null), null);
+        closeWindows();
+
+        // then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).getChecks())
+                .extracting(BatchCheckItem::getCorrelationId)
+                .containsExactly("0", "1", "2");
+        assertThat(checks).isEmpty();
+        assertThat(first.get().getData().getAllowed()).isTrue();
+        assertThat(second.get().getData().getAllowed()).isFalse();
+        assertThat(third.get().getData().getAllowed()).isTrue();
+    }
+
+    @Test
+    void shouldSendAFullBatchWithoutWaitingForTheWindow() {
+        // given
+        CheckBatcher batcher = batcher(new CheckBatchingConfiguration().maxBatchSize(2), this::allowEvenDocuments);
+
+        // when
+        var first = batcher.submit(STORE_ID, check("document:0", null), null);
+        var second = batcher.submit(STORE_ID, check("document:1", null), null);
+        var third = batcher.submit(STORE_ID, check("document:2", null), null);
+
+        // then
+        assertThat(batches).hasSize(1);
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+
+        closeWindows();
+        assertThat(third).isCompleted();
+        assertThat(batches).hasSize(1);
+        assertThat(checks).hasSize(1);
+    }
+
+    @Test
+    void shouldBatchChecksByModelConsistencyAndHeaders() {
+        // given
+        CheckBatcher batcher = batcher(new CheckBatchingConfiguration(), this::allowEvenDocuments);
+
+        // when
+        batcher.submit(STORE_ID, check("document:0", null), null);
+        batcher.submit(STORE_ID, check("document:1", null), Map.of());
+        batcher.submit(STORE_ID, check("document:2", "01G5JAVJ41T49E9TT3SKVS7X1J"), null);
+        batcher.submit(STORE_ID, check("document:3", "01G5JAVJ41T49E9TT3SKVS7X1J"), null);
+        batcher.submit(STORE_ID, check("document:4", null).consistency(ConsistencyPreference.HIGHER_CONSISTENCY), null);
+        batcher.submit(STORE_ID, check("document:5", null), Map.of("X-Tenant", "a"));
+        closeWindows();
+
+        // then
+        assertThat(batches)
+                .extracting(BatchCheckRequest::getAuthorizationModelId)
+                .containsExactlyInAnyOrder(null, "01G5JAVJ41T49E9TT3SKVS7X1J");
+        assertThat(checks).hasSize(2);
+    }
+
+    @Test
+    void shouldSendTracedChecksAloneWithoutWaitingForTheWindow() throws Exception {
+        // given
+        CheckBatcher batcher = batcher(new CheckBatchingConfiguration(), this::allowEvenDocuments);
+
+        // when
+        var untraced = batcher.submit(STORE_ID, check("document:0", null), null);
+        var traced = batcher.submit(STORE_ID, check("document:1", null).trace(true), null);
+
+        // then
+        assertThat(traced).isCompleted();
+        assertThat(checks).extracting(CheckRequest::getTrace).containsExactly(true);
+        assertThat(traced.get().getData().getResolution()).isEqualTo("resolved");
+        assertThat(untraced).isNotDone();
+    }
+
+    @Test
+    void shouldSendChecksThatFailedInTheBatchAlone() throws Exception {
+        // given
+        CheckBatcher batcher = batcher(new CheckBatchingConfiguration(), body -> {
+            Map<String, BatchCheckSingleResult> results = new HashMap<>();
+            results.put("0", new BatchCheckSingleResult().allowed(true));
+            results.put("1", new BatchCheckSingleResult().error(new CheckError().inputError(ErrorCode.TYPE_NOT_FOUND)));
+            return CompletableFuture.completedFuture(response(new BatchCheckResponse().result(results)));
+        });
+
+        // when
+        var first = batcher.submit(STORE_ID, check("document:0", null), null);
+        var second = batcher.submit(STORE_ID, check("folder:1", null), null);
+        closeWindows();
+
+        // then
+        assertThat(first.get().getData().getAllowed()).isTrue();
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasMessageContaining("folder:1");
+        assertThat(checks).extracting(check -> check.getTupleKey().getObject()).containsExactly("folder:1");
+    }
+
+    @Test
+    void shouldFailEveryCheckOfAFailedBatch() {
+        // given
+        CheckBatcher batcher = batcher(
+                new CheckBatchingConfiguration(),
+                body -> CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+
+        // when
+        var first = batcher.submit(STORE_ID, check("document:0", null), null);
+        var second = batcher.submit(STORE_ID, check("document:1", null), null);
+        closeWindows();
+
+        // then
+        assertThatThrownBy(first::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(checks).isEmpty();
+    }
+
+    private CheckBatcher batcher(
+            CheckBatchingConfiguration configuration,
+            Function<BatchCheckRequest, CompletableFuture<ApiResponse<BatchCheckResponse>>> batchResponder) {
+        return new CheckBatcher(
+                configuration,
+                (storeId, body, headers) -> {
+                    batches.add(body);
+                    return batchResponder.apply(body);
+                },
+                (storeId, body, headers) -> {
+                    checks.add(body);
+                    if (!body.getTupleKey().getObject().startsWith("document:")) {
+                        return CompletableFuture.failedFuture(
+                                new IllegalArgumentException("type not found: " + body.getTupleKey().getObject()));
+                    }
+                    return CompletableFuture.completedFuture(
+                            response(new CheckResponse().allowed(true).resolution("resolved")));
+                },
+                windows::add);
+    }
+
+    private CompletableFuture<ApiResponse<BatchCheckResponse>> allowEvenDocuments(BatchCheckRequest body) {
+        Map<String, BatchCheckSingleResult> results = new HashMap<>();
+        body.getChecks().forEach(item -> {
+            int id = Integer.parseInt(item.getTupleKey().getObject().substring("document:".length()));
+            results.put(item.getCorrelationId(), new BatchCheckSingleResult().allowed(id % 2 == 0));
+        });
+        return CompletableFuture.completedFuture(response(new BatchCheckResponse().result(results)));
+    }
+
+    private void closeWindows() {
+        List<Runnable> closing = new ArrayList<>(windows);
+        windows.clear();
+        closing.forEach(Runnable::run);
+    }
+
+    private static CheckRequest check(String object, String authorizationModelId) {
+        return new CheckRequest()
+                .tupleKey(new CheckRequestTupleKey().user("user:anne").relation("reader")._object(object))
+                .authorizationModelId(authorizationModelId);
+    }
+
+    private static <T> ApiResponse<T> response(T data) {
+        return new ApiResponse<>(200, Map.of(), (String) null, data);
+    }
+}
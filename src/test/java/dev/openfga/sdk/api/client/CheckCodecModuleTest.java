@@ -0,0 +1,152 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.openfga.sdk.api.model.BatchCheckItem;
+import dev.openfga.sdk.api.model.BatchCheckRequest;
+import dev.openfga.sdk.api.model.BatchCheckResponse;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import dev.openfga.sdk.api.model.ContextualTupleKeys;
+import dev.openfga.sdk.api.model.ErrorCode;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+class CheckCodecModuleTest {
+    private final ObjectMapper codecMapper = new ApiClient().getObjectMapper();
+    private final ObjectMapper beanMapper = beanMapper();
+
+    @Test
+    void shouldWriteCheckRequestsLikeTheBeanSerializer() throws Exception {
+        // given
+        CheckRequestTupleKey tupleKey = tupleKey();
+        List<CheckRequest> requests = List.of(
+                new CheckRequest(),
+                new CheckRequest().tupleKey(tupleKey),
+                new CheckRequest().tupleKey(new CheckRequestTupleKey()).consistency(null),
+                new CheckRequest(true)
+                        .tupleKey(tupleKey)
+                        .contextualTuples(contextualTuples())
+                        .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J")
+                        .context(context())
+                        .consistency(ConsistencyPreference.HIGHER_CONSISTENCY));
+
+        // then
+        for (CheckRequest request : requests) {
+            assertThat(codecMapper.writeValueAsString(request)).isEqualTo(beanMapper.writeValueAsString(request));
+        }
+    }
+
+    @Test
+    void shouldWriteBatchCheckRequestsLikeTheBeanSerializer() throws Exception {
+        // given
+        List<BatchCheckRequest> requests = List.of(
+                new BatchCheckRequest(),
+                new BatchCheckRequest().checks(null),
+                new BatchCheckRequest()
+                        .checks(List.of(
+                                new BatchCheckItem().tupleKey(tupleKey()).correlationId("cor-1"),
+                                new BatchCheckItem()
+                                        .tupleKey(tupleKey())
+                                        .contextualTuples(contextualTuples())
+                                        .context(context())))
+                        .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J")
+                        .consistency(ConsistencyPreference.MINIMIZE_LATENCY));
+
+        // then
+        for (BatchCheckRequest request : requests) {
+            assertThat(codecMapper.writeValueAsString(request)).isEqualTo(beanMapper.writeValueAsString(request));
+        }
+    }
+
+    @Test
+    void shouldReadCheckResponsesLikeTheBeanDeserializer() throws Exception {
+        // given
+        List<String> responses = List.of(
+                "{\"allowed\":true,\"resolution\":\"\"}",
+                "{\"allowed\":null,\"unknown\":{\"nested\":[1,{}]},\"resolution\":\"reader\"}",
+                "{\"allowed\":\"false\"}",
+                "{}");
+
+        // then
+        for (String response : responses) {
+            assertThat(codecMapper.readValue(response, CheckResponse.class))
+                    .isEqualTo(beanMapper.readValue(response, CheckResponse.class));
+        }
+    }
+
+    @Test
+    void shouldReadBatchCheckResponsesLikeTheBeanDeserializer() throws Exception {
+        // given
+        List<String> responses = List.of(
+                "{\"result\":{\"cor-1\":{\"allowed\":true},"
+                        + "\"cor-2\":{\"allowed\":false,"
+                        + "\"error\":{\"input_error\":\"relation_not_found\",\"message\":\"m\"}},"
+                        + "\"cor-3\":null},\"unknown\":1}",
+                "{\"result\":null}",
+                "{\"result\":{}}",
+                "{}");
+
+        // then
+        for (String response : responses) {
+            assertThat(codecMapper.readValue(response, BatchCheckResponse.class))
+                    .isEqualTo(beanMapper.readValue(response, BatchCheckResponse.class));
+        }
+        assertThat(codecMapper
+                        .readValue(responses.get(0), BatchCheckResponse.class)
+                        .getResult()
+                        .get("cor-2")
+                        .getError()
+                        .getInputError())
+                .isEqualTo(ErrorCode.RELATION_NOT_FOUND);
+    }
+
+    private static CheckRequestTupleKey tupleKey() {
+        return new CheckRequestTupleKey()
+                .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                .relation("reader")
+                ._object("document:\"roadmap\" ü");
+    }
+
+    private static ContextualTupleKeys contextualTuples() {
+        return new ContextualTupleKeys()
+                .tupleKeys(List.of(
+                        new TupleKey().user("user:anne").relation("writer")._object("document:roadmap")));
+    }
+
+    private static Map<String, Object> context() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("ip", "127.0.0.1");
+        context.put("missing", null);
+        context.put("nested", Map.of("values", List.of(1, 2)));
+        return context;
+    }
+
+    /**
+     * The mapper of {@link ApiClient} without {@link CheckCodecModule}.
+     */
+    private static ObjectMapper beanMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+        mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+        mapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new JsonNullableModule());
+        return mapper;
+    }
+}
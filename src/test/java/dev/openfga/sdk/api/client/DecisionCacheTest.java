@@ -0,0 +1,227 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.configuration.DecisionCacheConfiguration;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class DecisionCacheTest {
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> events = new ArrayList<>();
+    private final DecisionCache.Listener listener = new DecisionCache.Listener() {
+        @Override
+        public void onHit(DecisionCache.Key key) {
+            events.add("hit " + key.getObject());
+        }
+
+        @Override
+        public void onMiss(DecisionCache.Key key) {
+            events.add("miss " + key.getObject());
+        }
+
+        @Override
+        public void onEviction(DecisionCache.Key key) {
+            events.add("eviction " + key.getObject());
+        }
+    };
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new DecisionCacheConfiguration().ttl(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DecisionCacheConfiguration().maxEntries(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldServeDecisionsUntilTheyExpire() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration().ttl(Duration.ofSeconds(10)));
+        DecisionCache.Key key = key(cache, "document:roadmap", null);
+        cache.put(key, true, cache.version());
+
+        // when
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        Boolean beforeExpiry = cache.get(key);
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        Boolean afterExpiry = cache.get(key);
+
+        // then
+        assertThat(beforeExpiry).isTrue();
+        assertThat(afterExpiry).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(events).containsExactly("hit document:roadmap", "miss document:roadmap");
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedDecision() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration().maxEntries(2));
+        DecisionCache.Key first = key(cache, "document:1", null);
+        DecisionCache.Key second = key(cache, "document:2", null);
+        cache.put(first, true, cache.version());
+        cache.put(second, false, cache.version());
+        cache.get(first);
+
+        // when
+        cache.put(key(cache, "document:3", null), true, cache.version());
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first)).isTrue();
+        assertThat(cache.get(second)).isNull();
+        assertThat(events).contains("eviction document:2");
+    }
+
+    @Test
+    void shouldKeyContextIndependentlyOfMapOrder() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("ip", "127.0.0.1");
+        context.put("time", "2024-01-01T00:00:00Z");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("time", "2024-01-01T00:00:00Z");
+        reordered.put("ip", "127.0.0.1");
+
+        // then
+        assertThat(key(cache, "document:roadmap", context)).isEqualTo(key(cache, "document:roadmap", reordered));
+        assertThat(key(cache, "document:roadmap", context)).isNotEqualTo(key(cache, "document:roadmap", null));
+    }
+
+    @Test
+    void shouldInvalidateDecisionsAboutTheObjectAndUserOfATuple() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        DecisionCache.Key roadmap = keyFor(cache, "user:anne", "document:roadmap");
+        DecisionCache.Key budget = keyFor(cache, "user:anne", "document:budget");
+        DecisionCache.Key bobBudget = keyFor(cache, "user:bob", "document:budget");
+        cache.put(roadmap, false, cache.version());
+        cache.put(budget, false, cache.version());
+        cache.put(bobBudget, false, cache.version());
+
+        // when
+        cache.invalidate(STORE_ID, "user:bob", "document:roadmap");
+
+        // then
+        assertThat(cache.get(roadmap)).isNull();
+        assertThat(cache.get(bobBudget)).isNull();
+        assertThat(cache.get(budget)).isFalse();
+    }
+
+    @Test
+    void shouldInvalidateDecisionsAboutTheTypeOfAUsersetTuple() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        DecisionCache.Key document = keyFor(cache, "user:anne", "document:roadmap");
+        DecisionCache.Key folder = keyFor(cache, "user:anne", "folder:product");
+        cache.put(document, false, cache.version());
+        cache.put(folder, false, cache.version());
+
+        // when
+        cache.invalidate(STORE_ID, "group:eng#member", "document:budget");
+
+        // then
+        assertThat(cache.get(document)).isNull();
+        assertThat(cache.get(folder)).isFalse();
+    }
+
+    @Test
+    void shouldDropDecisionsEvaluatedBeforeAnInvalidation() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        DecisionCache.Key key = key(cache, "document:roadmap", null);
+        long version = cache.version();
+
+        // when
+        cache.invalidate(STORE_ID, "user:anne", "document:roadmap");
+        cache.put(key, false, version);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldCacheDecisionsEvaluatedDuringUnrelatedWrites() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        List<DecisionCache.Key> keys = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            DecisionCache.Key key = keyFor(cache, "user:anne", "folder:" + i);
+            long version = cache.version();
+            // A write to another object and user completes while the check is in flight
+            cache.invalidate(STORE_ID, "user:bob", "document:" + i);
+            cache.put(key, true, version);
+            keys.add(key);
+        }
+        events.clear();
+        keys.forEach(cache::get);
+
+        // then
+        assertThat(events).hasSize(100).allMatch(event -> event.startsWith("hit"));
+    }
+
+    @Test
+    void shouldOnlyDropTheDecisionsOfAnInvalidatedTypeDuringAUsersetWrite() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        DecisionCache.Key document = keyFor(cache, "user:anne", "document:roadmap");
+        DecisionCache.Key folder = keyFor(cache, "user:anne", "folder:product");
+        long version = cache.version();
+
+        // when
+        cache.invalidate(STORE_ID, "group:eng#member", "document:budget");
+        cache.put(document, false, version);
+        cache.put(folder, false, version);
+
+        // then
+        assertThat(cache.get(document)).isNull();
+        assertThat(cache.get(folder)).isFalse();
+    }
+
+    @Test
+    void shouldDropDecisionsSentBeforeForgottenInvalidations() {
+        // given
+        DecisionCache cache = cache(new DecisionCacheConfiguration());
+        DecisionCache.Key key = keyFor(cache, "user:anne", "folder:product");
+        long version = cache.version();
+
+        // when
+        for (int i = 0; i <= 10_000; i++) {
+            cache.invalidate(STORE_ID, "user:bob", "document:" + i);
+        }
+        cache.put(key, true, version);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    private DecisionCache cache(DecisionCacheConfiguration configuration) {
+        return new DecisionCache(configuration, new ObjectMapper(), listener, now::get);
+    }
+
+    private static DecisionCache.Key key(DecisionCache cache, String object, Object context) {
+        CheckRequestTupleKey tupleKey =
+                new CheckRequestTupleKey().user("user:anne").relation("reader")._object(object);
+        return cache.key(STORE_ID, "01G5JAVJ41T49E9TT3SKVS7X1J", tupleKey, null, context);
+    }
+
+    private static DecisionCache.Key keyFor(DecisionCache cache, String user, String object) {
+        CheckRequestTupleKey tupleKey =
+                new CheckRequestTupleKey().user(user).relation("reader")._object(object);
+        return cache.key(STORE_ID, "01G5JAVJ41T49E9TT3SKVS7X1J", tupleKey, null, null);
+    }
+}
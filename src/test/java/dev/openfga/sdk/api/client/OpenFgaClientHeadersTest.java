@@ -55,6 +55,7 @@ public class OpenFgaClientHeadersTest {
 
         var mockApiClient = mock(ApiClient.class);
         when(mockApiClient.getHttpClient()).thenReturn(mockHttpClient);
+        when(mockApiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
         when(mockApiClient.getObjectMapper()).thenReturn(new ObjectMapper());
         when(mockApiClient.getHttpClientBuilder()).thenReturn(mockHttpClientBuilder);
 
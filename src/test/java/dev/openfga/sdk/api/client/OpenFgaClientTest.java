@@ -19,6 +19,8 @@ import dev.openfga.sdk.api.model.*;
 import dev.openfga.sdk.constants.FgaConstants;
 import dev.openfga.sdk.errors.*;
 import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -28,7 +30,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -1113,6 +1115,178 @@ public class OpenFgaClientTest {
         mockHttpClient.verify().post(postUrl).withBody(is(expectedBody)).called(1);
     }
 
+    @Test
+    public void syncTuplesTest() throws Exception {
+        // Given
+        String readUrl = String.format("%s/stores/%s/read", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String writeUrl = String.format("%s/stores/%s/write", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient
+                .onPost(readUrl)
+                .withBody(containsString("\"continuation_token\":null"))
+                .withHeader(FgaConstants.CLIENT_METHOD_HEADER, "SyncTuples")
+                .doReturn(
+                        200,
+                        String.format(
+                                "{\"tuples\":[{\"key\":{\"user\":\"user:anne\",\"relation\":\"%s\",\"object\":\"%s\"}}],\"continuation_token\":\"page2\"}",
+                                DEFAULT_RELATION, DEFAULT_OBJECT));
+        mockHttpClient
+                .onPost(readUrl)
+                .withBody(containsString("\"continuation_token\":\"page2\""))
+                .doReturn(
+                        200,
+                        String.format(
+                                "{\"tuples\":[{\"key\":{\"user\":\"user:bob\",\"relation\":\"%s\",\"object\":\"%s\"}}],\"continuation_token\":\"\"}",
+                                DEFAULT_RELATION, DEFAULT_OBJECT));
+        String expectedWriteBody = String.format(
+                "{\"writes\":{\"tuple_keys\":[{\"user\":\"user:carl\",\"relation\":\"%s\",\"object\":\"%s\",\"condition\":null}],\"on_duplicate\":\"error\"},"
+                        + "\"deletes\":{\"tuple_keys\":[{\"user\":\"user:bob\",\"relation\":\"%s\",\"object\":\"%s\"}],\"on_missing\":\"error\"},\"authorization_model_id\":\"%s\"}",
+                DEFAULT_RELATION, DEFAULT_OBJECT, DEFAULT_RELATION, DEFAULT_OBJECT, DEFAULT_AUTH_MODEL_ID);
+        mockHttpClient
+                .onPost(writeUrl)
+                .withBody(is(expectedWriteBody))
+                .withHeader(FgaConstants.CLIENT_METHOD_HEADER, "SyncTuples")
+                .doReturn(200, EMPTY_RESPONSE_BODY);
+        ClientReadRequest filter = new ClientReadRequest().relation(DEFAULT_RELATION)._object(DEFAULT_OBJECT);
+        List<ClientTupleKey> desired = Stream.of("user:anne", "user:carl")
+                .map(user -> new ClientTupleKey()
+                        .user(user)
+                        .relation(DEFAULT_RELATION)
+                        ._object(DEFAULT_OBJECT))
+                .collect(Collectors.toList());
+
+        // When
+        ClientWriteResponse response = fga.syncTuples(filter, desired, new ClientSyncTuplesOptions()).get();
+
+        // Then
+        mockHttpClient.verify().post(readUrl).called(2);
+        mockHttpClient.verify().post(writeUrl).withBody(is(expectedWriteBody)).called(1);
+        assertEquals(1, response.getWrites().size());
+        assertEquals("user:carl", response.getWrites().get(0).getTupleKey().getUser());
+        assertEquals(1, response.getDeletes().size());
+        assertEquals("user:bob", response.getDeletes().get(0).getTupleKey().getUser());
+    }
+
+    @Test
+    public void syncTuples_failedRewriteKeepsDeletes() throws Exception {
+        // Given
+        String readUrl = String.format("%s/stores/%s/read", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String writeUrl = String.format("%s/stores/%s/write", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient
+                .onPost(readUrl)
+                .doReturn(
+                        200,
+                        String.format(
+                                "{\"tuples\":[{\"key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"%s\"}}],\"continuation_token\":\"\"}",
+                                DEFAULT_USER, DEFAULT_RELATION, DEFAULT_OBJECT));
+        String condition = "\"name\":\"condition\"";
+        mockHttpClient
+                .onPost(writeUrl)
+                .withBody(not(containsString(condition)))
+                .doReturn(200, EMPTY_RESPONSE_BODY);
+        mockHttpClient
+                .onPost(writeUrl)
+                .withBody(containsString(condition))
+                .doReturn(400, "{\"code\":\"validation_error\",\"message\":\"Generic validation error\"}");
+        ClientReadRequest filter = new ClientReadRequest().relation(DEFAULT_RELATION)._object(DEFAULT_OBJECT);
+        List<ClientTupleKey> desired = List.of(new ClientTupleKey()
+                .user(DEFAULT_USER)
+                .relation(DEFAULT_RELATION)
+                ._object(DEFAULT_OBJECT)
+                .condition(DEFAULT_CONDITION));
+
+        // When
+        ClientWriteResponse response = fga.syncTuples(filter, desired, new ClientSyncTuplesOptions()).get();
+
+        // Then
+        mockHttpClient.verify().post(writeUrl).withBody(not(containsString(condition))).called(1);
+        mockHttpClient.verify().post(writeUrl).withBody(containsString(condition)).called(1);
+        assertEquals(1, response.getDeletes().size());
+        assertEquals(ClientWriteStatus.SUCCESS, response.getDeletes().get(0).getStatus());
+        assertEquals(1, response.getWrites().size());
+        ClientWriteSingleResponse rewrite = response.getWrites().get(0);
+        assertEquals(ClientWriteStatus.FAILURE, rewrite.getStatus());
+        assertEquals(DEFAULT_USER, rewrite.getTupleKey().getUser());
+        assertInstanceOf(FgaApiValidationError.class, rewrite.getError());
+    }
+
+    @Test
+    public void syncTuples_desiredTupleOutsideFilter() {
+        // Given
+        String readUrl = String.format("%s/stores/%s/read", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        ClientReadRequest filter = new ClientReadRequest().relation(DEFAULT_RELATION)._object(DEFAULT_OBJECT);
+        List<ClientTupleKey> desired = List.of(new ClientTupleKey()
+                .user(DEFAULT_USER)
+                .relation(DEFAULT_RELATION)
+                ._object("document:other"));
+
+        // When
+        var exception = assertThrows(FgaInvalidParameterException.class, () -> fga.syncTuples(filter, desired, null));
+
+        // Then
+        assertEquals(
+                "The desired tuple document:other#reader@" + DEFAULT_USER + " does not match the filter of syncTuples",
+                exception.getMessage());
+        mockHttpClient.verify().post(readUrl).called(0);
+    }
+
+    @Test
+    public void importTuples_storeIdRequiredClosesTheStream() {
+        // Given
+        clientConfiguration.storeId(null);
+        AtomicBoolean closed = new AtomicBoolean();
+        var tuples = Stream.of(new ClientTupleKey()
+                        .user(DEFAULT_USER)
+                        .relation(DEFAULT_RELATION)
+                        ._object(DEFAULT_OBJECT))
+                .onClose(() -> closed.set(true));
+
+        // When
+        var exception = assertThrows(FgaInvalidParameterException.class, () -> fga.importTuples(tuples, null));
+
+        // Then
+        assertEquals(
+                "Required parameter storeId was invalid when calling ClientConfiguration.", exception.getMessage());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void exportTuplesTest() throws Exception {
+        // Given
+        String readUrl = String.format("%s/stores/%s/read", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        for (String object : List.of("document:1", "document:2")) {
+            mockHttpClient
+                    .onPost(readUrl)
+                    .withBody(containsString(String.format("\"object\":\"%s\"", object)))
+                    .withHeader(FgaConstants.CLIENT_METHOD_HEADER, "ExportTuples")
+                    .doReturn(
+                            200,
+                            String.format(
+                                    "{\"tuples\":[{\"key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"%s\"}}],\"continuation_token\":\"\"}",
+                                    DEFAULT_USER, DEFAULT_RELATION, object));
+        }
+        List<ClientReadRequest> partitions = List.of(
+                new ClientReadRequest()._object("document:1"), new ClientReadRequest()._object("document:2"));
+        var options = new ClientExportTuplesOptions().partitions(partitions);
+        Path file = Files.createTempFile("export", ".ndjson");
+
+        try {
+            // When
+            ClientExportTuplesResponse response = fga.exportTuples(file, options).get();
+
+            // Then
+            mockHttpClient.verify().post(readUrl).called(2);
+            assertEquals(2, response.getTuples());
+            assertEquals(2, response.getCompletedPartitions());
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(2, lines.size());
+            assertTrue(lines.contains(String.format(
+                    "{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"document:2\"}",
+                    DEFAULT_USER, DEFAULT_RELATION)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     public void read_storeIdRequired() {
         // Given
@@ -1400,6 +1574,66 @@ public class OpenFgaClientTest {
         assertNull(writes.get(2).getError());
     }
 
+    @Test
+    public void writeTest_nonTransactionsWithBisection() throws Exception {
+        // Given
+        String postPath = FgaConstants.TEST_API_URL + "/stores/01YCP46JKYM8FJCQ37NMBYHE5X/write";
+        String firstUser = "user:first";
+        String failedUser = "user:SECOND";
+        String thirdUser = "user:third";
+        Function<List<String>, String> writeBody = users -> String.format(
+                "{\"writes\":{\"tuple_keys\":[%s],\"on_duplicate\":\"error\"},\"deletes\":null,\"authorization_model_id\":\"%s\"}",
+                users.stream()
+                        .map(user -> String.format(
+                                "{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"%s\",\"condition\":null}",
+                                user, DEFAULT_RELATION, DEFAULT_OBJECT))
+                        .collect(Collectors.joining(",")),
+                DEFAULT_AUTH_MODEL_ID);
+        mockHttpClient
+                .onPost(postPath)
+                .withBody(isOneOf(writeBody.apply(List.of(firstUser)), writeBody.apply(List.of(thirdUser))))
+                .doReturn(200, EMPTY_RESPONSE_BODY);
+        mockHttpClient
+                .onPost(postPath)
+                .withBody(isOneOf(
+                        writeBody.apply(List.of(firstUser, failedUser, thirdUser)),
+                        writeBody.apply(List.of(failedUser, thirdUser)),
+                        writeBody.apply(List.of(failedUser))))
+                .doReturn(400, "{\"code\":\"validation_error\",\"message\":\"Generic validation error\"}");
+        ClientWriteRequest request = new ClientWriteRequest()
+                .writes(Stream.of(firstUser, failedUser, thirdUser)
+                        .map(user -> new ClientTupleKey()
+                                ._object(DEFAULT_OBJECT)
+                                .relation(DEFAULT_RELATION)
+                                .user(user))
+                        .collect(Collectors.toList()));
+        ClientWriteOptions options = new ClientWriteOptions()
+                .disableTransactions(true)
+                .transactionChunkSize(3)
+                .bisectFailedChunks(true);
+
+        // When
+        ClientWriteResponse response = fga.write(request, options).get();
+
+        // Then
+        mockHttpClient.verify().post(postPath).called(5);
+        mockHttpClient
+                .verify()
+                .post(postPath)
+                .withBody(is(writeBody.apply(List.of(failedUser, thirdUser))))
+                .called(1);
+
+        var writes = response.getWrites();
+        assertEquals(3, writes.size());
+        assertEquals(ClientWriteStatus.SUCCESS, writes.get(0).getStatus());
+        assertEquals(firstUser, writes.get(0).getTupleKey().getUser());
+        assertEquals(ClientWriteStatus.FAILURE, writes.get(1).getStatus());
+        assertEquals(failedUser, writes.get(1).getTupleKey().getUser());
+        assertInstanceOf(FgaApiValidationError.class, writes.get(1).getError());
+        assertEquals(ClientWriteStatus.SUCCESS, writes.get(2).getStatus());
+        assertEquals(thirdUser, writes.get(2).getTupleKey().getUser());
+    }
+
     @Test
     public void writeTest_transaction() throws Exception {
         // Given
@@ -1926,6 +2160,221 @@ public class OpenFgaClientTest {
                 "{\"code\":\"internal_error\",\"message\":\"Internal Server Error\"}", exception.getResponseData());
     }
 
+    @Test
+    public void check_decisionCache() throws Exception {
+        // Given
+        fga.setConfiguration(clientConfiguration.decisionCache(new DecisionCacheConfiguration()));
+        String postUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient.onPost(postUrl).doReturn(200, "{\"allowed\":true}");
+        ClientCheckRequest request = new ClientCheckRequest()
+                ._object(DEFAULT_OBJECT)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER)
+                .context(Map.of("ip", "127.0.0.1"));
+
+        // When
+        ClientCheckResponse first = fga.check(request).get();
+        ClientCheckResponse second = fga.check(request).get();
+
+        // Then
+        mockHttpClient.verify().post(postUrl).called(1);
+        assertEquals(Boolean.TRUE, first.getAllowed());
+        assertEquals(Boolean.TRUE, second.getAllowed());
+
+        // When
+        fga.check(request, new ClientCheckOptions().consistency(ConsistencyPreference.HIGHER_CONSISTENCY))
+                .get();
+        fga.check(request.context(Map.of("ip", "10.0.0.1"))).get();
+
+        // Then
+        mockHttpClient.verify().post(postUrl).called(3);
+    }
+
+    @Test
+    public void check_decisionCache_invalidatedByWrites() throws Exception {
+        // Given
+        fga.setConfiguration(clientConfiguration.decisionCache(new DecisionCacheConfiguration()));
+        String checkUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String writeUrl = String.format("%s/stores/%s/write", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient.onPost(checkUrl).doReturn(200, "{\"allowed\":false}");
+        mockHttpClient.onPost(writeUrl).doReturn(200, EMPTY_RESPONSE_BODY);
+        ClientCheckRequest request = new ClientCheckRequest()
+                ._object(DEFAULT_OBJECT)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        fga.check(request).get();
+
+        // When
+        fga.writeTuples(List.of(new ClientTupleKey()
+                        ._object("document:budget")
+                        .relation(DEFAULT_RELATION)
+                        .user("user:bob")))
+                .get();
+        fga.check(request).get();
+
+        // Then
+        mockHttpClient.verify().post(checkUrl).called(1);
+
+        // When
+        fga.writeTuples(List.of(new ClientTupleKey()
+                        ._object(DEFAULT_OBJECT)
+                        .relation(DEFAULT_RELATION)
+                        .user("user:bob")))
+                .get();
+        fga.check(request).get();
+
+        // Then
+        mockHttpClient.verify().post(checkUrl).called(2);
+
+        // When
+        fga.deleteTuples(List.of(new ClientTupleKeyWithoutCondition()
+                        ._object("group:engineering")
+                        .relation("member")
+                        .user(DEFAULT_USER)))
+                .get();
+        fga.check(request).get();
+
+        // Then
+        mockHttpClient.verify().post(checkUrl).called(3);
+    }
+
+    @Test
+    public void check_batching() throws Exception {
+        // Given
+        fga.setConfiguration(clientConfiguration.checkBatching(
+                new CheckBatchingConfiguration().window(Duration.ofMillis(100))));
+        String checkUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String batchCheckUrl = String.format("%s/stores/%s/batch-check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient
+                .onPost(batchCheckUrl)
+                .withBody(is("{\"checks\":["
+                        + "{\"tuple_key\":{\"user\":\"user:81684243-9356-4421-8fbf-a4f8d36aa31b\","
+                        + "\"relation\":\"reader\",\"object\":\"document:budget\"},"
+                        + "\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"0\"},"
+                        + "{\"tuple_key\":{\"user\":\"user:81684243-9356-4421-8fbf-a4f8d36aa31b\","
+                        + "\"relation\":\"reader\",\"object\":\"document:roadmap\"},"
+                        + "\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"1\"}],"
+                        + "\"authorization_model_id\":\"01G5JAVJ41T49E9TT3SKVS7X1J\",\"consistency\":\"UNSPECIFIED\"}"))
+                .doReturn(200, "{\"result\":{\"0\":{\"allowed\":true},\"1\":{\"allowed\":false}}}");
+        ClientCheckRequest budget = new ClientCheckRequest()
+                ._object("document:budget")
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        ClientCheckRequest roadmap = new ClientCheckRequest()
+                ._object("document:roadmap")
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+
+        // When
+        var first = fga.check(budget);
+        var second = fga.check(roadmap);
+
+        // Then
+        assertEquals(Boolean.TRUE, first.get().getAllowed());
+        assertEquals(Boolean.FALSE, second.get().getAllowed());
+        mockHttpClient.verify().post(batchCheckUrl).called(1);
+        mockHttpClient.verify().post(checkUrl).called(0);
+    }
+
+    @Test
+    public void batchCheck_decisionCache_sendsOnlyUncachedChecks() throws Exception {
+        // Given
+        fga.setConfiguration(clientConfiguration.decisionCache(new DecisionCacheConfiguration()));
+        String checkUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient.onPost(checkUrl).doReturn(200, "{\"allowed\":true}");
+        fga.check(new ClientCheckRequest()
+                        ._object(DEFAULT_OBJECT)
+                        .relation(DEFAULT_RELATION)
+                        .user(DEFAULT_USER))
+                .get();
+
+        String postUrl = String.format("%s/stores/%s/batch-check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String expectedBody = String.format(
+                "{\"checks\":[{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"document:budget\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"cor-2\"}],\"authorization_model_id\":\"%s\",\"consistency\":\"UNSPECIFIED\"}",
+                DEFAULT_USER, DEFAULT_RELATION, DEFAULT_AUTH_MODEL_ID);
+        mockHttpClient
+                .onPost(postUrl)
+                .withBody(is(expectedBody))
+                .doReturn(200, "{\"result\":{\"cor-2\":{\"allowed\":false}}}");
+        ClientBatchCheckRequest request = new ClientBatchCheckRequest()
+                .checks(List.of(
+                        new ClientBatchCheckItem()
+                                .user(DEFAULT_USER)
+                                .relation(DEFAULT_RELATION)
+                                ._object(DEFAULT_OBJECT)
+                                .correlationId("cor-1"),
+                        new ClientBatchCheckItem()
+                                .user(DEFAULT_USER)
+                                .relation(DEFAULT_RELATION)
+                                ._object("document:budget")
+                                .correlationId("cor-2")));
+
+        // When
+        ClientBatchCheckResponse response = fga.batchCheck(request).get();
+
+        // Then
+        mockHttpClient.verify().post(postUrl).withBody(is(expectedBody)).called(1);
+        Map<String, Boolean> allowed = response.getResult().stream()
+                .collect(Collectors.toMap(
+                        ClientBatchCheckSingleResponse::getCorrelationId, ClientBatchCheckSingleResponse::isAllowed));
+        assertEquals(Map.of("cor-1", true, "cor-2", false), allowed);
+
+        // When
+        fga.check(new ClientCheckRequest()
+                        ._object("document:budget")
+                        .relation(DEFAULT_RELATION)
+                        .user(DEFAULT_USER))
+                .get();
+
+        // Then
+        mockHttpClient.verify().post(checkUrl).called(1);
+    }
+
+    @Test
+    public void batchCheck_sendsDuplicateChecksOnce() throws Exception {
+        // Given
+        String postUrl = String.format("%s/stores/%s/batch-check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String expectedBody = String.format(
+                "{\"checks\":[{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"%s\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"cor-1\"},{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"document:budget\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"cor-2\"}],\"authorization_model_id\":\"%s\",\"consistency\":\"UNSPECIFIED\"}",
+                DEFAULT_USER, DEFAULT_RELATION, DEFAULT_OBJECT, DEFAULT_USER, DEFAULT_RELATION, DEFAULT_AUTH_MODEL_ID);
+        mockHttpClient
+                .onPost(postUrl)
+                .withBody(is(expectedBody))
+                .doReturn(200, "{\"result\":{\"cor-1\":{\"allowed\":true},\"cor-2\":{\"allowed\":false}}}");
+        ClientBatchCheckRequest request = new ClientBatchCheckRequest()
+                .checks(List.of(
+                        new ClientBatchCheckItem()
+                                .user(DEFAULT_USER)
+                                .relation(DEFAULT_RELATION)
+                                ._object(DEFAULT_OBJECT)
+                                .correlationId("cor-1"),
+                        new ClientBatchCheckItem()
+                                .user(DEFAULT_USER)
+                                .relation(DEFAULT_RELATION)
+                                ._object("document:budget")
+                                .correlationId("cor-2"),
+                        new ClientBatchCheckItem()
+                                .user(DEFAULT_USER)
+                                .relation(DEFAULT_RELATION)
+                                ._object(DEFAULT_OBJECT)
+                                .correlationId("cor-3")));
+
+        // When
+        ClientBatchCheckResponse response = fga.batchCheck(request).get();
+
+        // Then
+        mockHttpClient.verify().post(postUrl).withBody(is(expectedBody)).called(1);
+        Map<String, Boolean> allowed = response.getResult().stream()
+                .collect(Collectors.toMap(
+                        ClientBatchCheckSingleResponse::getCorrelationId, ClientBatchCheckSingleResponse::isAllowed));
+        assertEquals(Map.of("cor-1", true, "cor-2", false, "cor-3", true), allowed);
+        ClientBatchCheckSingleResponse duplicate = response.getResult().stream()
+                .filter(result -> "cor-3".equals(result.getCorrelationId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(DEFAULT_OBJECT, duplicate.getRequest().getObject());
+    }
+
     /**
      * Check whether a user is authorized to access an object.
      */
@@ -1966,24 +2415,12 @@ public class OpenFgaClientTest {
     }
 
     @Test
-    public void shouldShutdownExecutorAfterBatchCheck() throws Exception {
+    public void clientBatchCheck_doesNotCreateExecutor() throws Exception {
         // Given
-        ScheduledExecutorService mockExecutor = mock(ScheduledExecutorService.class);
-
-        try (MockedStatic<Executors> mockedExecutors = mockStatic(Executors.class)) {
-            mockedExecutors
-                    .when(() -> Executors.newScheduledThreadPool(anyInt()))
-                    .thenReturn(mockExecutor);
-
-            // mockExecutor needs to handle tasks submitted to it so latch can count down
-            doAnswer(invocation -> {
-                        Runnable task = invocation.getArgument(0);
-                        task.run();
-                        return null;
-                    })
-                    .when(mockExecutor)
-                    .execute(any(Runnable.class));
+        String postUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient.onPost(postUrl).doReturn(200, "{\"allowed\":true}");
 
+        try (MockedStatic<Executors> mockedExecutors = mockStatic(Executors.class, CALLS_REAL_METHODS)) {
             ClientCheckRequest request = new ClientCheckRequest()
                     ._object(DEFAULT_OBJECT)
                     .relation(DEFAULT_RELATION)
@@ -1993,13 +2430,48 @@ public class OpenFgaClientTest {
                     .consistency(ConsistencyPreference.MINIMIZE_LATENCY);
 
             // When
-            fga.clientBatchCheck(List.of(request), options).get();
+            List<ClientBatchCheckClientResponse> response =
+                    fga.clientBatchCheck(List.of(request), options).get();
 
             // Then
-            verify(mockExecutor).shutdown();
+            mockedExecutors.verify(() -> Executors.newScheduledThreadPool(anyInt()), never());
+            assertEquals(Boolean.TRUE, response.get(0).getAllowed());
         }
     }
 
+    @Test
+    public void clientBatchCheck_preservesRequestOrder() throws Exception {
+        // Given
+        String postUrl = String.format("%s/stores/%s/check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient
+                .onPost(postUrl)
+                .withBody(containsString("\"relation\":\"owner\""))
+                .doReturn(200, "{\"allowed\":false}");
+        mockHttpClient
+                .onPost(postUrl)
+                .withBody(containsString("\"relation\":\"reader\""))
+                .doReturn(200, "{\"allowed\":true}");
+        List<ClientCheckRequest> requests = Stream.of("owner", "reader", "owner", "reader")
+                .map(relation -> new ClientCheckRequest()
+                        ._object(DEFAULT_OBJECT)
+                        .relation(relation)
+                        .user(DEFAULT_USER))
+                .collect(Collectors.toList());
+        ClientBatchCheckClientOptions options = new ClientBatchCheckClientOptions().maxParallelRequests(2);
+
+        // When
+        List<ClientBatchCheckClientResponse> response = fga.clientBatchCheck(requests, options).get();
+
+        // Then
+        mockHttpClient.verify().post(postUrl).called(4);
+        assertEquals(
+                List.of("owner", "reader", "owner", "reader"),
+                response.stream().map(ClientBatchCheckClientResponse::getRelation).collect(Collectors.toList()));
+        assertEquals(
+                List.of(false, true, false, true),
+                response.stream().map(ClientBatchCheckClientResponse::getAllowed).collect(Collectors.toList()));
+    }
+
     @Test
     public void clientBatchCheck_twentyTimes() throws Exception {
         // Given
@@ -2349,6 +2821,35 @@ public class OpenFgaClientTest {
         assertEquals("{\"code\":\"rate_limited\",\"message\":\"Too Many Requests\"}", exception.getResponseData());
     }
 
+    @Test
+    public void batchCheck_stopsSendingBatchesAfterFailure() {
+        // Given
+        String postUrl = String.format("%s/stores/%s/batch-check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        mockHttpClient
+                .onPost(postUrl)
+                .doReturn(500, "{\"code\":\"internal_error\",\"message\":\"Internal Server Error\"}");
+
+        List<ClientBatchCheckItem> items = IntStream.range(0, 3)
+                .mapToObj(i -> new ClientBatchCheckItem()
+                        .user(DEFAULT_USER)
+                        .relation(DEFAULT_RELATION)
+                        ._object(DEFAULT_OBJECT)
+                        .correlationId("cor-" + i))
+                .collect(Collectors.toList());
+        ClientBatchCheckRequest request = new ClientBatchCheckRequest().checks(items);
+        ClientBatchCheckOptions options = new ClientBatchCheckOptions().maxBatchSize(1).maxParallelRequests(1);
+
+        // When
+        ExecutionException execException = assertThrows(
+                ExecutionException.class, () -> fga.batchCheck(request, options).get());
+
+        // Then
+        // Only the first sub-batch is sent (with its retries); the remaining ones are skipped
+        mockHttpClient.verify().post(postUrl).called(1 + FgaConstants.DEFAULT_MAX_RETRY);
+        var exception = assertInstanceOf(FgaApiInternalError.class, execException.getCause());
+        assertEquals(500, exception.getStatusCode());
+    }
+
     /**
      * Expand all relationships in userset tree format, and following userset rewrite rules.  Useful to reason
      * about and debug a certain relationship.
@@ -2678,6 +3179,53 @@ public class OpenFgaClientTest {
         assertTrue(response.getRelations().isEmpty());
     }
 
+    @Test
+    public void listRelations_multipleObjectsWithBatchCheck() throws Exception {
+        // Given
+        String postUrl = String.format("%s/stores/%s/batch-check", FgaConstants.TEST_API_URL, DEFAULT_STORE_ID);
+        String expectedBody = String.format(
+                "{\"checks\":[{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"%s\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"0.0\"},{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"owner\",\"object\":\"%s\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"0.1\"},{\"tuple_key\":{\"user\":\"%s\",\"relation\":\"%s\",\"object\":\"document:budget\"},\"contextual_tuples\":null,\"context\":null,\"correlation_id\":\"1.0\"}],\"authorization_model_id\":\"%s\",\"consistency\":\"UNSPECIFIED\"}",
+                DEFAULT_USER,
+                DEFAULT_RELATION,
+                DEFAULT_OBJECT,
+                DEFAULT_USER,
+                DEFAULT_OBJECT,
+                DEFAULT_USER,
+                DEFAULT_RELATION,
+                DEFAULT_AUTH_MODEL_ID);
+        mockHttpClient
+                .onPost(postUrl)
+                .withBody(is(expectedBody))
+                .withHeader(FgaConstants.CLIENT_METHOD_HEADER, "ListRelations")
+                .doReturn(
+                        200,
+                        "{\"result\":{\"0.0\":{\"allowed\":true},\"0.1\":{\"allowed\":false},\"1.0\":{\"allowed\":true}}}");
+        List<ClientListRelationsRequest> requests = List.of(
+                new ClientListRelationsRequest()
+                        .relations(List.of(DEFAULT_RELATION, "owner"))
+                        .user(DEFAULT_USER)
+                        ._object(DEFAULT_OBJECT),
+                new ClientListRelationsRequest()
+                        .relations(List.of(DEFAULT_RELATION))
+                        .user(DEFAULT_USER)
+                        ._object("document:budget"));
+
+        // When
+        List<ClientListRelationsResponse> responses =
+                fga.listRelations(requests, new ClientListRelationsOptions()).get();
+
+        // Then
+        mockHttpClient
+                .verify()
+                .post(postUrl)
+                .withBody(is(expectedBody))
+                .withHeader(FgaConstants.CLIENT_METHOD_HEADER, "ListRelations")
+                .called(1);
+        assertEquals(2, responses.size());
+        assertEquals(List.of(DEFAULT_RELATION), responses.get(0).getRelations());
+        assertEquals(List.of(DEFAULT_RELATION), responses.get(1).getRelations());
+    }
+
     @Test
     public void listRelations_storeIdRequired() {
         // Given
@@ -0,0 +1,107 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ReaderWriterRegistryTest {
+
+    @Test
+    void shouldReuseReadersAndWritersPerType() {
+        // given
+        ReaderWriterRegistry registry = new ReaderWriterRegistry(new ObjectMapper());
+
+        // then
+        assertThat(registry.reader(CheckResponse.class)).isSameAs(registry.reader(CheckResponse.class));
+        assertThat(registry.writer(CheckRequest.class)).isSameAs(registry.writer(CheckRequest.class));
+    }
+
+    @Test
+    void shouldSerializeLikeTheObjectMapper() throws Exception {
+        // given
+        ObjectMapper mapper = new ApiClient().getObjectMapper();
+        ReaderWriterRegistry registry = new ReaderWriterRegistry(mapper);
+        CheckRequest request = new CheckRequest()
+                .tupleKey(new CheckRequestTupleKey()
+                        .user("user:81684243-9356-4421-8fbf-a4f8d36aa31b")
+                        .relation("reader")
+                        ._object("document:roadmap"))
+                .authorizationModelId("01G5JAVJ41T49E9TT3SKVS7X1J");
+
+        // then
+        assertThat(registry.writeValueAsBytes(request)).isEqualTo(mapper.writeValueAsBytes(request));
+        assertThat(registry.writeValueAsBytes(null)).isEqualTo(mapper.writeValueAsBytes(null));
+    }
+
+    @Test
+    void shouldDeserializeWithTheRegisteredReader() throws Exception {
+        // given
+        ReaderWriterRegistry registry = new ReaderWriterRegistry(new ApiClient().getObjectMapper());
+        byte[] body = "{\"allowed\":true,\"resolution\":\"\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        CheckResponse response = registry.readValue(body, CheckResponse.class);
+
+        // then
+        assertThat(response.getAllowed()).isTrue();
+    }
+
+    @Test
+    void shouldFollowChangesToTheObjectMapper() throws Exception {
+        // given
+        ApiClient apiClient = new ApiClient();
+        byte[] body = "{\"allowed\":true,\"unknown\":1}".getBytes(StandardCharsets.UTF_8);
+        ObjectReader initial = ReaderWriterRegistry.of(apiClient).reader(CheckResponse.class);
+
+        // when
+        apiClient.getObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+        // then
+        assertThat(ReaderWriterRegistry.of(apiClient).reader(CheckResponse.class)).isNotSameAs(initial);
+        assertThatThrownBy(() -> ReaderWriterRegistry.of(apiClient).readValue(body, CheckResponse.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+    }
+
+    @Test
+    void shouldUseTheObjectMapperOfAClientThatDoesNotProvideARegistry() {
+        // given
+        ApiClient apiClient = new ApiClient() {
+            @Override
+            public ReaderWriterRegistry getReaderWriterRegistry() {
+                return null;
+            }
+        };
+        ObjectMapper mapper = new ObjectMapper();
+
+        // when
+        apiClient.setObjectMapper(mapper);
+        ReaderWriterRegistry registry = ReaderWriterRegistry.of(apiClient);
+
+        // then
+        assertThat(registry.getObjectMapper()).isSameAs(mapper);
+    }
+
+    @Test
+    void apiClientShouldRebuildRegistryWithObjectMapper() {
+        // given
+        ApiClient apiClient = new ApiClient();
+        ReaderWriterRegistry initial = apiClient.getReaderWriterRegistry();
+        ObjectMapper mapper = new ObjectMapper();
+
+        // when
+        apiClient.setObjectMapper(mapper);
+
+        // then
+        assertThat(apiClient.getReaderWriterRegistry()).isNotSameAs(initial);
+        assertThat(apiClient.getReaderWriterRegistry().getObjectMapper()).isSameAs(mapper);
+    }
+}
@@ -0,0 +1,121 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.ConsistencyPreference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+    private static final String STORE_ID = "01YCP46JKYM8FJCQ37NMBYHE5X";
+
+    private final RequestCoalescer coalescer = new RequestCoalescer(new ObjectMapper());
+    private final List<CompletableFuture<Boolean>> requests = new ArrayList<>();
+    private final AtomicInteger collapsed = new AtomicInteger();
+
+    @Test
+    void shouldShareAnIdenticalRequestInFlight() throws Exception {
+        // when
+        var first = coalesce(check("document:roadmap", Map.of("ip", "127.0.0.1", "time", "now")), null);
+        var second = coalesce(check("document:roadmap", reordered()), null);
+        requests.get(0).complete(true);
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(collapsed).hasValue(1);
+        assertThat(first.get()).isTrue();
+        assertThat(second.get()).isTrue();
+        assertThat(coalescer.size()).isZero();
+    }
+
+    @Test
+    void shouldSendDifferentRequestsSeparately() {
+        // when
+        coalesce(check("document:roadmap", null), null);
+        coalesce(check("document:budget", null), null);
+        coalesce(check("document:roadmap", null).consistency(ConsistencyPreference.HIGHER_CONSISTENCY), null);
+        coalesce(check("document:roadmap", null), Map.of("X-Tenant", "a"));
+
+        // then
+        assertThat(requests).hasSize(4);
+        assertThat(collapsed).hasValue(0);
+    }
+
+    @Test
+    void shouldSendANewRequestOnceTheSharedRequestCompleted() {
+        // given
+        coalesce(check("document:roadmap", null), null);
+        requests.get(0).complete(false);
+
+        // when
+        coalesce(check("document:roadmap", null), null);
+
+        // then
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void shouldShareFailuresAndIsolateCancellation() {
+        // given
+        var first = coalesce(check("document:roadmap", null), null);
+        var second = coalesce(check("document:roadmap", null), null);
+
+        // when
+        first.cancel(true);
+        requests.get(0).completeExceptionally(new IllegalStateException("unavailable"));
+
+        // then
+        assertThat(first).isCancelled();
+        assertThatThrownBy(second::get).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotShareRequestsInFlightAfterClear() {
+        // given
+        coalesce(check("document:roadmap", null), null);
+
+        // when
+        coalescer.clear();
+        coalesce(check("document:roadmap", null), null);
+
+        // then
+        assertThat(requests).hasSize(2);
+        assertThat(collapsed).hasValue(0);
+    }
+
+    private CompletableFuture<Boolean> coalesce(CheckRequest body, Map<String, String> headers) {
+        return coalescer.coalesce(
+                "Check",
+                STORE_ID,
+                body,
+                headers,
+                () -> {
+                    CompletableFuture<Boolean> request = new CompletableFuture<>();
+                    requests.add(request);
+                    return request;
+                },
+                collapsed::incrementAndGet);
+    }
+
+    private static Map<String, Object> reordered() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("time", "now");
+        context.put("ip", "127.0.0.1");
+        return context;
+    }
+
+    private static CheckRequest check(String object, Map<String, Object> context) {
+        return new CheckRequest()
+                .tupleKey(new CheckRequestTupleKey().user("user:anne").relation("reader")._object(object))
+                .context(context);
+    }
+}
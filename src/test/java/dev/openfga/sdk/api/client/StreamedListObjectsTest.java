@@ -1,10 +1,12 @@
 package dev.openfga.sdk.api.client;
 
+import static dev.openfga.sdk.api.client.StreamingResponses.streamed;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.StreamHandle;
 import dev.openfga.sdk.api.client.model.ClientListObjectsRequest;
 import dev.openfga.sdk.api.client.model.ClientStreamedListObjectsOptions;
 import dev.openfga.sdk.api.configuration.ClientConfiguration;
@@ -16,11 +18,14 @@ import dev.openfga.sdk.errors.FgaInvalidParameterException;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +60,7 @@ public class StreamedListObjectsTest {
 
         mockApiClient = mock(ApiClient.class);
         when(mockApiClient.getHttpClient()).thenReturn(mockHttpClient);
+        when(mockApiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
         when(mockApiClient.getObjectMapper()).thenReturn(new ObjectMapper());
         when(mockApiClient.getHttpClientBuilder()).thenReturn(mockHttpClientBuilder);
 
@@ -70,10 +76,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1, line2, line3);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -100,10 +103,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -130,10 +130,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.empty();
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -176,10 +173,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1, line2, line3);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         List<Throwable> receivedErrors = new ArrayList<>();
@@ -209,10 +203,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1, line2, line3);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         List<Throwable> receivedErrors = new ArrayList<>();
@@ -248,10 +239,7 @@ public class StreamedListObjectsTest {
         // Given
         Stream<String> streamResponse = Stream.empty();
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(400, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         List<Throwable> receivedErrors = new ArrayList<>();
@@ -287,10 +275,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = lines.stream();
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         AtomicInteger callCount = new AtomicInteger(0);
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -313,10 +298,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -344,10 +326,7 @@ public class StreamedListObjectsTest {
         Stream<String> streamResponse = Stream.of(line1);
 
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(200, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> receivedObjects = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -380,10 +359,7 @@ public class StreamedListObjectsTest {
         // Given - HTTP 400 error should create ApiException
         Stream<String> streamResponse = Stream.empty();
         HttpResponse<Stream<String>> mockResponse = createMockStreamResponse(400, streamResponse);
-        CompletableFuture<HttpResponse<Stream<String>>> responseFuture =
-                CompletableFuture.completedFuture(mockResponse);
-
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenReturn(responseFuture);
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<Throwable> receivedErrors = new ArrayList<>();
         ClientListObjectsRequest request = new ClientListObjectsRequest()
@@ -411,6 +387,181 @@ public class StreamedListObjectsTest {
         assertEquals(400, apiException.getStatusCode());
     }
 
+    @Test
+    public void streamedListObjects_limitStopsTheStream() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        List<String> receivedObjects = new ArrayList<>();
+        List<Throwable> receivedErrors = new ArrayList<>();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        ClientStreamedListObjectsOptions options = new ClientStreamedListObjectsOptions().limit(2);
+
+        // When
+        StreamHandle handle = fga.streamedListObjects(
+                request, options, response -> receivedObjects.add(response.getObject()), receivedErrors::add);
+        body.send("{\"result\":{\"object\":\"document:1\"}}\n{\"result\":{\"object\":\"document:2\"}}\n"
+                + "{\"result\":{\"object\":\"document:3\"}}\n");
+
+        // Then
+        assertEquals(List.of("document:1", "document:2"), receivedObjects);
+        assertTrue(body.cancelled);
+        assertTrue(handle.isDone());
+        assertFalse(handle.isCompletedExceptionally());
+        assertTrue(receivedErrors.isEmpty());
+    }
+
+    @Test
+    public void streamedListObjects_limitMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientStreamedListObjectsOptions().limit(0));
+    }
+
+    @Test
+    public void streamedListObjects_cancelStopsTheStream() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        List<String> receivedObjects = new ArrayList<>();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        StreamHandle handle = fga.streamedListObjects(request, response -> receivedObjects.add(response.getObject()));
+        body.send("{\"result\":{\"object\":\"document:1\"}}\n");
+
+        // When
+        assertTrue(handle.cancel());
+        body.send("{\"result\":{\"object\":\"document:2\"}}\n");
+
+        // Then
+        assertTrue(body.cancelled);
+        assertEquals(List.of("document:1"), receivedObjects);
+        assertTrue(handle.isDone());
+        assertFalse(handle.isCompletedExceptionally());
+        assertFalse(handle.cancel());
+    }
+
+    @Test
+    public void streamedListObjectsPublisher_readsTheBodyOnDemand() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+
+        // When
+        fga.streamedListObjectsPublisher(request, null).subscribe(subscriber);
+
+        // Then
+        assertEquals(0, body.requested);
+
+        // When
+        subscriber.subscription.request(1);
+        body.send("{\"result\":{\"object\":\"document:1\"}}\n\n{\"result\":{\"object\":\"document:2\"}}\n");
+
+        // Then
+        assertEquals(List.of("document:1"), subscriber.objects);
+        assertEquals(1, body.requested);
+
+        // When
+        subscriber.subscription.request(5);
+        body.complete();
+
+        // Then
+        assertEquals(List.of("document:1", "document:2"), subscriber.objects);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void streamedListObjectsPublisher_cancelStopsReadingTheBody() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        fga.streamedListObjectsPublisher(request, null).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        body.send("{\"result\":{\"object\":\"document:1\"}}\n");
+
+        // When
+        subscriber.subscription.cancel();
+
+        // Then
+        assertTrue(body.cancelled);
+        assertEquals(List.of("document:1"), subscriber.objects);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void streamedListObjectsPublisher_completesAtTheLimit() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        ClientStreamedListObjectsOptions options = new ClientStreamedListObjectsOptions().limit(2);
+        fga.streamedListObjectsPublisher(request, options).subscribe(subscriber);
+
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        body.send("{\"result\":{\"object\":\"document:1\"}}\n{\"result\":{\"object\":\"document:2\"}}\n"
+                + "{\"result\":{\"object\":\"document:3\"}}\n");
+
+        // Then
+        assertEquals(List.of("document:1", "document:2"), subscriber.objects);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertTrue(body.cancelled);
+    }
+
+    @Test
+    public void streamedListObjectsPublisher_errorInStream() throws Exception {
+        // Given
+        StreamBody body = mockStreamBody(200);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+        fga.streamedListObjectsPublisher(request, null).subscribe(subscriber);
+
+        // When
+        subscriber.subscription.request(Long.MAX_VALUE);
+        body.send("{\"error\":{\"code\":500,\"message\":\"Internal error\"}}\n");
+
+        // Then
+        assertInstanceOf(dev.openfga.sdk.errors.ApiException.class, subscriber.error);
+        assertEquals("Stream error: Internal error", subscriber.error.getMessage());
+        assertTrue(body.cancelled);
+    }
+
+    @Test
+    public void streamedListObjectsPublisher_httpError() throws Exception {
+        // Given
+        mockStreamBody(400);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ClientListObjectsRequest request = new ClientListObjectsRequest()
+                .type(DEFAULT_TYPE)
+                .relation(DEFAULT_RELATION)
+                .user(DEFAULT_USER);
+
+        // When
+        fga.streamedListObjectsPublisher(request, null).subscribe(subscriber);
+
+        // Then
+        assertInstanceOf(dev.openfga.sdk.errors.ApiException.class, subscriber.error);
+        assertEquals(400, ((dev.openfga.sdk.errors.ApiException) subscriber.error).getStatusCode());
+        assertTrue(subscriber.objects.isEmpty());
+    }
+
     private HttpResponse<Stream<String>> createMockStreamResponse(int statusCode, Stream<String> body) {
         HttpResponse<Stream<String>> mockResponse = mock(HttpResponse.class);
         when(mockResponse.statusCode()).thenReturn(statusCode);
@@ -423,4 +574,86 @@ public class StreamedListObjectsTest {
 
         return mockResponse;
     }
+
+    /**
+     * Make the http client pass a response with the given status to the body handler of the request, and feed the
+     * body subscriber it returns from the test.
+     */
+    private StreamBody mockStreamBody(int statusCode) {
+        StreamBody body = new StreamBody();
+        when(mockHttpClient.<Void>sendAsync(any(), any())).thenAnswer(invocation -> {
+            HttpResponse.BodyHandler<Void> handler = invocation.getArgument(1);
+            HttpResponse.BodySubscriber<Void> subscriber = handler.apply(new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return statusCode;
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return HttpHeaders.of(Map.of(), (name, value) -> true);
+                }
+
+                @Override
+                public HttpClient.Version version() {
+                    return HttpClient.Version.HTTP_1_1;
+                }
+            });
+            body.subscriber = subscriber;
+            subscriber.onSubscribe(body);
+            return new CompletableFuture<HttpResponse<Void>>();
+        });
+        return body;
+    }
+
+    private static class StreamBody implements Flow.Subscription {
+        HttpResponse.BodySubscriber<Void> subscriber;
+        long requested;
+        boolean cancelled;
+
+        void send(String chunk) {
+            subscriber.onNext(List.of(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        }
+
+        void complete() {
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<StreamedListObjectsResponse> {
+        final List<String> objects = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(StreamedListObjectsResponse item) {
+            objects.add(item.getObject());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package dev.openfga.sdk.api.client;
 
+import static dev.openfga.sdk.api.client.StreamingResponses.streamed;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -60,6 +61,7 @@ public class StreamingApiExecutorTest {
 
         mockApiClient = mock(ApiClient.class);
         when(mockApiClient.getHttpClient()).thenReturn(mockHttpClient);
+        when(mockApiClient.getTransport()).thenReturn(new HttpClientTransport(mockHttpClient));
         when(mockApiClient.getObjectMapper()).thenReturn(new ObjectMapper());
         when(mockApiClient.getHttpClientBuilder()).thenReturn(mockHttpClientBuilder);
 
@@ -79,8 +81,7 @@ public class StreamingApiExecutorTest {
                 "{\"result\":{\"object\":\"document:3\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
 
@@ -102,8 +103,7 @@ public class StreamingApiExecutorTest {
     public void stream_emptyStream_completesWithNoObjects() throws Exception {
         // Given
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, Stream.empty());
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
 
@@ -126,8 +126,7 @@ public class StreamingApiExecutorTest {
         }
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, jsonLines.stream());
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         AtomicInteger received = new AtomicInteger(0);
 
@@ -153,8 +152,7 @@ public class StreamingApiExecutorTest {
                 "{\"result\":{\"object\":\"document:2\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
         List<Throwable> errors = new ArrayList<>();
@@ -176,8 +174,7 @@ public class StreamingApiExecutorTest {
     public void stream_httpError_failsFutureAndCallsErrorConsumer() throws Exception {
         // Given — HTTP 400
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(400, Stream.empty());
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
         List<Throwable> errors = new ArrayList<>();
@@ -200,8 +197,7 @@ public class StreamingApiExecutorTest {
     public void stream_httpError_withNoErrorConsumer_failsFuture() throws Exception {
         // Given
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(500, Stream.empty());
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         // When
         CompletableFuture<Void> future = fga.streamingApiExecutor(StreamedListObjectsResponse.class).stream(
@@ -220,8 +216,7 @@ public class StreamingApiExecutorTest {
         Stream<String> lines = Stream.of("{\"result\":{\"object\":\"document:1\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
 
@@ -247,8 +242,7 @@ public class StreamingApiExecutorTest {
         Stream<String> lines = Stream.of("{\"result\":{\"object\":\"document:1\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
 
@@ -279,8 +273,7 @@ public class StreamingApiExecutorTest {
         Stream<String> lines = Stream.of("{\"result\":{\"object\":\"document:1\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         ApiExecutorRequestBuilder request = ApiExecutorRequestBuilder.builder(
                         HttpMethod.POST, "/stores/{store_id}/streamed-list-objects")
@@ -313,8 +306,7 @@ public class StreamingApiExecutorTest {
 
         Stream<String> lines = Stream.of("{\"result\":{\"object\":\"document:1\"}}");
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         List<StreamedListObjectsResponse> received = new ArrayList<>();
         fga.streamingApiExecutor(typeRef).stream(buildStreamedListObjectsRequest(), received::add)
@@ -374,8 +366,7 @@ public class StreamingApiExecutorTest {
 
         Stream<String> lines = Stream.of("{\"result\":{\"object\":\"document:1\"}}");
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         authFga.streamingApiExecutor(StreamedListObjectsResponse.class).stream(
                         buildStreamedListObjectsRequest(), obj -> {})
@@ -394,8 +385,7 @@ public class StreamingApiExecutorTest {
                 Stream.of("{\"result\":{\"object\":\"document:1\"}}", "{\"result\":{\"object\":\"document:2\"}}");
 
         HttpResponse<Stream<String>> mockResponse = mockStreamResponse(200, lines);
-        when(mockHttpClient.<Stream<String>>sendAsync(any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(mockResponse));
+        when(mockHttpClient.<Stream<String>>sendAsync(any(), any())).thenAnswer(streamed(mockResponse));
 
         AtomicInteger completionFlag = new AtomicInteger(0);
         List<StreamedListObjectsResponse> received = new ArrayList<>();
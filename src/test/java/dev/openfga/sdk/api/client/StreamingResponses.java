@@ -0,0 +1,92 @@
+package dev.openfga.sdk.api.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Answers of a mocked {@link HttpClient#sendAsync} for streaming requests.
+ */
+public final class StreamingResponses {
+    private StreamingResponses() {}
+
+    /**
+     * Answer a request with the response the way the {@link HttpClient} does: pass its status and headers to the body
+     * handler of the request, and feed the lines of its body to the body subscriber the handler returns, as they are
+     * requested. The answer completes with the response once the body has been read.
+     */
+    public static Answer<CompletableFuture<HttpResponse<Stream<String>>>> streamed(
+            HttpResponse<Stream<String>> response) {
+        return invocation -> {
+            HttpResponse.BodyHandler<?> handler = invocation.getArgument(1);
+            HttpResponse.BodySubscriber<?> subscriber = handler.apply(new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return response.statusCode();
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return response.headers();
+                }
+
+                @Override
+                public HttpClient.Version version() {
+                    return HttpClient.Version.HTTP_1_1;
+                }
+            });
+            String body = response.body() == null
+                    ? ""
+                    : response.body().map(line -> line + "\n").collect(Collectors.joining());
+            subscriber.onSubscribe(new Body(subscriber, body));
+            return subscriber.getBody().toCompletableFuture().thenApply(ignored -> response);
+        };
+    }
+
+    private static final class Body implements Flow.Subscription {
+        private final Flow.Subscriber<List<ByteBuffer>> subscriber;
+        private final ByteBuffer content;
+        private long demand;
+        private boolean sent;
+        private boolean emitting;
+        private boolean done;
+
+        private Body(Flow.Subscriber<List<ByteBuffer>> subscriber, String content) {
+            this.subscriber = subscriber;
+            this.content = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void request(long n) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (demand > 0 && !done) {
+                if (!sent && content.hasRemaining()) {
+                    sent = true;
+                    demand--;
+                    subscriber.onNext(List.of(content));
+                } else {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.client.model.ClientExportTuplesResponse;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.model.RelationshipCondition;
+import dev.openfga.sdk.api.model.Tuple;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TupleExportTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteOneTuplePerLine() throws Exception {
+        // given
+        Path file = directory.resolve("tuples.ndjson");
+        TupleExport export = TupleExport.open(file, null, mapper, 1, null);
+
+        // when
+        export.write(List.of(tuple("document:1", null), tuple("document:2", null)));
+        export.partitionCompleted();
+        ClientExportTuplesResponse response = export.finish();
+
+        // then
+        assertThat(response.getTuples()).isEqualTo(2);
+        assertThat(response.getCompletedPartitions()).isEqualTo(1);
+        assertThat(Files.readAllLines(file))
+                .containsExactly(
+                        "{\"user\":\"user:81684243\",\"relation\":\"viewer\",\"object\":\"document:1\"}",
+                        "{\"user\":\"user:81684243\",\"relation\":\"viewer\",\"object\":\"document:2\"}");
+    }
+
+    @Test
+    void shouldWriteACompressedFileThatCanBeImported() throws Exception {
+        // given
+        Path file = directory.resolve("tuples.ndjson.gz");
+        TupleExport export = TupleExport.open(file, null, mapper, 1, null);
+        RelationshipCondition condition =
+                new RelationshipCondition().name("in_office_hours").context(Map.of("timezone", "UTC"));
+
+        // when
+        export.write(List.of(tuple("document:1", condition), tuple("document:2", null)));
+        export.finish();
+
+        // then
+        List<ClientTupleKey> imported = new ArrayList<>();
+        TupleFiles.open(file, null, mapper).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ClientTupleKey item) {
+                imported.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+        assertThat(imported).extracting(ClientTupleKey::getObject).containsExactly("document:1", "document:2");
+        assertThat(imported.get(0).getCondition().getName()).isEqualTo("in_office_hours");
+        assertThat(imported.get(0).getCondition().getContext()).isEqualTo(Map.of("timezone", "UTC"));
+        assertThat(imported.get(1).getCondition()).isNull();
+    }
+
+    @Test
+    void shouldReportProgressAfterEveryPage() throws Exception {
+        // given
+        List<ClientExportTuplesResponse> progress = new ArrayList<>();
+        TupleExport export = TupleExport.open(directory.resolve("tuples.ndjson"), false, mapper, 2, progress::add);
+
+        // when
+        export.write(List.of(tuple("document:1", null)));
+        export.write(List.of(tuple("document:2", null), tuple("document:3", null)));
+
+        // then
+        assertThat(progress).extracting(ClientExportTuplesResponse::getTuples).containsExactly(1L, 3L);
+        assertThat(progress).extracting(ClientExportTuplesResponse::getPartitions).containsOnly(2);
+    }
+
+    @Test
+    void shouldDeleteTheFileWhenAPartitionFails() throws Exception {
+        // given
+        Path file = directory.resolve("tuples.ndjson");
+        TupleExport export = TupleExport.open(file, null, mapper, 2, null);
+        export.write(List.of(tuple("document:1", null)));
+        IllegalStateException failure = new IllegalStateException("unavailable");
+
+        // when
+        export.fail(new CompletionException(failure));
+
+        // then
+        assertThatThrownBy(() -> export.write(List.of(tuple("document:2", null))))
+                .isInstanceOf(CancellationException.class);
+        assertThatThrownBy(export::finish).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThat(file).doesNotExist();
+    }
+
+    private static Tuple tuple(String object, RelationshipCondition condition) {
+        return new Tuple()
+                .key(new TupleKey()
+                        .user("user:81684243")
+                        .relation("viewer")
+                        ._object(object)
+                        .condition(condition));
+    }
+}
@@ -0,0 +1,272 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.openfga.sdk.api.client.model.ClientImportTuplesResponse;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientWriteSingleResponse;
+import dev.openfga.sdk.api.client.model.ClientWriteStatus;
+import dev.openfga.sdk.constants.FgaConstants;
+import dev.openfga.sdk.util.IteratorPublisher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TupleImportTest {
+    private final List<List<ClientTupleKey>> chunks = new ArrayList<>();
+    private final List<CompletableFuture<List<ClientWriteSingleResponse>>> writes = new ArrayList<>();
+    private final ImportCheckpointStore checkpointStore = ImportCheckpointStore.inMemory();
+
+    @Test
+    void shouldOnlyReadTuplesAsChunksComplete() throws Exception {
+        // given
+        AtomicInteger read = new AtomicInteger();
+        var tuples = IntStream.range(0, 25).mapToObj(i -> {
+            read.incrementAndGet();
+            return tuple(i);
+        });
+
+        // when
+        var result = TupleImport.run(
+                new IteratorPublisher<ClientTupleKey>(tuples.iterator(), null), tupleImport(5, 2, 0));
+
+        // then
+        assertThat(chunks).hasSize(2);
+        assertThat(read).hasValue(10);
+
+        // when
+        succeed(1);
+
+        // then
+        assertThat(chunks).hasSize(3);
+        assertThat(read).hasValue(15);
+        assertThat(chunks.get(2)).extracting(ClientTupleKey::getObject).startsWith("document:10");
+
+        // when
+        succeed(0);
+        succeed(2);
+        succeed(3);
+        succeed(4);
+
+        // then
+        assertThat(chunks).hasSize(5);
+        assertThat(result.get().getImported()).isEqualTo(25);
+        assertThat(result.get().getFailures()).isEmpty();
+        assertThat(result.get().getOffset()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldOnlyCheckpointTuplesPrecededByCompletedChunks() throws Exception {
+        // given
+        var result = TupleImport.run(publisher(20), tupleImport(5, 4, 0));
+
+        // when
+        succeed(1);
+        succeed(2);
+
+        // then
+        assertThat(checkpointStore.load("import")).isNull();
+
+        // when
+        succeed(0);
+
+        // then
+        assertThat(checkpointStore.load("import")).isEqualTo(15);
+
+        // when
+        succeed(3);
+
+        // then
+        assertThat(checkpointStore.load("import")).isEqualTo(20);
+        assertThat(result.get().getOffset()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldSkipTheTuplesOfTheCheckpoint() throws Exception {
+        // when
+        var result = TupleImport.run(publisher(12), tupleImport(5, 2, 7));
+        succeed(0);
+
+        // then
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0))
+                .extracting(ClientTupleKey::getObject)
+                .containsExactly("document:7", "document:8", "document:9", "document:10", "document:11");
+        assertThat(result.get().getImported()).isEqualTo(5);
+        assertThat(result.get().getOffset()).isEqualTo(12);
+        assertThat(checkpointStore.load("import")).isEqualTo(12);
+    }
+
+    @Test
+    void shouldReportFailedChunksAndContinue() throws Exception {
+        // given
+        var result = TupleImport.run(publisher(10), tupleImport(5, 1, 0));
+
+        // when
+        fail(0);
+        succeed(1);
+
+        // then
+        ClientImportTuplesResponse response = result.get();
+        assertThat(response.getImported()).isEqualTo(5);
+        assertThat(response.getFailures()).hasSize(5);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getOffset()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepTheFirstFailuresAndCountTheOthers() throws Exception {
+        // given
+        var result = TupleImport.run(publisher(5), tupleImport(5, 1, 0, Runnable::run, null, 3));
+
+        // when
+        fail(0);
+
+        // then
+        ClientImportTuplesResponse response = result.get();
+        assertThat(response.getFailures())
+                .extracting(failure -> failure.getTupleKey().getObject())
+                .containsExactly("document:0", "document:1", "document:2");
+        assertThat(response.getFailed()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldPassFailuresToTheListenerInsteadOfKeepingThem() throws Exception {
+        // given
+        List<ClientWriteSingleResponse> failed = new ArrayList<>();
+        var result = TupleImport.run(
+                publisher(10),
+                tupleImport(5, 1, 0, Runnable::run, failed::add, FgaConstants.CLIENT_IMPORT_MAX_FAILURES));
+
+        // when
+        fail(0);
+        succeed(1);
+
+        // then
+        ClientImportTuplesResponse response = result.get();
+        assertThat(failed).hasSize(5);
+        assertThat(response.getFailures()).isEmpty();
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getImported()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldSaveCheckpointsOnTheCheckpointExecutor() throws Exception {
+        // given
+        List<Runnable> saves = new ArrayList<>();
+        var result = TupleImport.run(
+                publisher(10), tupleImport(5, 2, 0, saves::add, null, FgaConstants.CLIENT_IMPORT_MAX_FAILURES));
+
+        // when
+        succeed(0);
+        succeed(1);
+
+        // then
+        assertThat(saves).hasSize(1);
+        assertThat(checkpointStore.load("import")).isNull();
+        assertThat(result).isNotDone();
+
+        // when
+        saves.remove(0).run();
+
+        // then
+        assertThat(checkpointStore.load("import")).isEqualTo(5);
+        assertThat(saves).hasSize(1);
+
+        // when
+        saves.remove(0).run();
+
+        // then
+        assertThat(checkpointStore.load("import")).isEqualTo(10);
+        assertThat(result.get().getOffset()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldCancelTheSourceAndWaitForChunksInFlightOnError() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        var tuples = IntStream.range(0, 100).mapToObj(TupleImportTest::tuple);
+        var result = TupleImport.run(
+                new IteratorPublisher<ClientTupleKey>(tuples.iterator(), () -> closed.set(true)),
+                tupleImport(5, 2, 0));
+
+        // when
+        writes.get(1).completeExceptionally(new CompletionException(new IllegalStateException("unauthenticated")));
+
+        // then
+        assertThat(closed).isTrue();
+        assertThat(result).isNotDone();
+
+        // when
+        succeed(0);
+
+        // then
+        assertThat(chunks).hasSize(2);
+        assertThat(checkpointStore.load("import")).isNull();
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private TupleImport tupleImport(int chunkSize, int maxInFlight, long skip) {
+        return tupleImport(chunkSize, maxInFlight, skip, Runnable::run, null, FgaConstants.CLIENT_IMPORT_MAX_FAILURES);
+    }
+
+    private TupleImport tupleImport(
+            int chunkSize,
+            int maxInFlight,
+            long skip,
+            Executor checkpointExecutor,
+            Consumer<ClientWriteSingleResponse> failureListener,
+            int maxFailures) {
+        return new TupleImport(
+                chunk -> {
+                    CompletableFuture<List<ClientWriteSingleResponse>> write = new CompletableFuture<>();
+                    chunks.add(chunk);
+                    writes.add(write);
+                    return write;
+                },
+                chunkSize,
+                maxInFlight,
+                skip,
+                "import",
+                checkpointStore,
+                checkpointExecutor,
+                failureListener,
+                maxFailures);
+    }
+
+    private void succeed(int chunk) {
+        writes.get(chunk)
+                .complete(chunks.get(chunk).stream()
+                        .map(tuple -> new ClientWriteSingleResponse(tuple.asTupleKey(), ClientWriteStatus.SUCCESS))
+                        .collect(Collectors.toList()));
+    }
+
+    private void fail(int chunk) {
+        writes.get(chunk)
+                .complete(chunks.get(chunk).stream()
+                        .map(tuple -> new ClientWriteSingleResponse(
+                                tuple.asTupleKey(), ClientWriteStatus.FAILURE, new Exception("invalid")))
+                        .collect(Collectors.toList()));
+    }
+
+    private static IteratorPublisher<ClientTupleKey> publisher(int count) {
+        return new IteratorPublisher<>(
+                IntStream.range(0, count).mapToObj(TupleImportTest::tuple).iterator(), null);
+    }
+
+    private static ClientTupleKey tuple(int i) {
+        return new ClientTupleKey().user("user:" + i).relation("viewer")._object("document:" + i);
+    }
+}
@@ -0,0 +1,175 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.openfga.sdk.api.client.model.ClientReadResponse;
+import dev.openfga.sdk.api.model.ReadResponse;
+import dev.openfga.sdk.api.model.Tuple;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TuplePublisherTest {
+    private final List<String> tokens = new ArrayList<>();
+    private final List<CompletableFuture<ClientReadResponse>> reads = new ArrayList<>();
+
+    @Test
+    void shouldReadAheadUpToThePrefetchedPages() {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(null, 2).subscribe(subscriber);
+
+        // when
+        reads.get(0).complete(page(0, 2, "a"));
+        reads.get(1).complete(page(2, 2, "b"));
+
+        // then
+        assertThat(tokens).containsExactly(null, "a", "b");
+        assertThat(subscriber.objects()).isEmpty();
+
+        // when
+        reads.get(2).complete(page(4, 2, "c"));
+
+        // then
+        assertThat(tokens).hasSize(3);
+
+        // when
+        subscriber.subscription.request(3);
+
+        // then
+        assertThat(subscriber.objects()).containsExactly("document:0", "document:1", "document:2");
+        assertThat(tokens).containsExactly(null, "a", "b", "c");
+    }
+
+    @Test
+    void shouldEmitEveryPageAndComplete() {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher("start", 1).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // when
+        reads.get(0).complete(page(0, 2, "a"));
+        reads.get(1).complete(page(2, 0, "b"));
+        reads.get(2).complete(page(2, 1, ""));
+
+        // then
+        assertThat(tokens).containsExactly("start", "a", "b");
+        assertThat(subscriber.objects()).containsExactly("document:0", "document:1", "document:2");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldFailOnceTheTuplesReadBeforeAFailedReadAreEmitted() {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(null, 1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        IllegalStateException failure = new IllegalStateException("unavailable");
+
+        // when
+        reads.get(0).complete(page(0, 2, "a"));
+        reads.get(1).completeExceptionally(failure);
+
+        // then
+        assertThat(subscriber.objects()).containsExactly("document:0");
+        assertThat(subscriber.error).isNull();
+
+        // when
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(subscriber.objects()).containsExactly("document:0", "document:1");
+        assertThat(subscriber.error).isSameAs(failure);
+    }
+
+    @Test
+    void shouldStopReadingWhenCancelled() {
+        // given
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(null, 1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        // when
+        subscriber.subscription.cancel();
+        reads.get(0).complete(page(0, 2, "a"));
+
+        // then
+        assertThat(tokens).containsExactly((String) null);
+        assertThat(subscriber.objects()).isEmpty();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void shouldReadThePagesAgainForEverySubscriber() {
+        // given
+        TuplePublisher publisher = publisher(null, 0);
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+
+        // when
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        // then
+        assertThat(tokens).containsExactly(null, null);
+    }
+
+    private TuplePublisher publisher(String continuationToken, int prefetch) {
+        return new TuplePublisher(
+                token -> {
+                    CompletableFuture<ClientReadResponse> read = new CompletableFuture<>();
+                    tokens.add(token);
+                    reads.add(read);
+                    return read;
+                },
+                continuationToken,
+                prefetch);
+    }
+
+    private static ClientReadResponse page(int start, int size, String continuationToken) {
+        List<Tuple> tuples = IntStream.range(start, start + size)
+                .mapToObj(i -> new Tuple()
+                        .key(new TupleKey().user("user:81684243").relation("viewer")._object("document:" + i)))
+                .collect(Collectors.toList());
+        return new ClientReadResponse(new ApiResponse<>(
+                200, Map.of(), "", new ReadResponse().tuples(tuples).continuationToken(continuationToken)));
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Tuple> {
+        final List<Tuple> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        List<String> objects() {
+            return items.stream().map(tuple -> tuple.getKey().getObject()).collect(Collectors.toList());
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Tuple item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
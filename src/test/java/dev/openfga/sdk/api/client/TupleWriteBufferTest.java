@@ -0,0 +1,199 @@
+package dev.openfga.sdk.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
+import dev.openfga.sdk.api.client.model.ClientWriteRequest;
+import dev.openfga.sdk.api.client.model.ClientWriteResponse;
+import dev.openfga.sdk.api.client.model.ClientWriteStatus;
+import dev.openfga.sdk.api.configuration.ClientTupleWriteBufferOptions;
+import dev.openfga.sdk.errors.FgaValidationError;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class TupleWriteBufferTest {
+    private final List<Runnable> delays = new ArrayList<>();
+    private final List<ClientWriteRequest> requests = new ArrayList<>();
+    private final List<CompletableFuture<ClientWriteResponse>> responses = new ArrayList<>();
+
+    @Test
+    void shouldRejectInvalidOptions() {
+        assertThatThrownBy(() -> new ClientTupleWriteBufferOptions().maxBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ClientTupleWriteBufferOptions().maxParallelRequests(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldWriteTheOperationsOfADelayAsOneRequest() throws Exception {
+        // given
+        TupleWriteBuffer buffer = buffer(new ClientTupleWriteBufferOptions());
+
+        // when
+        var write = buffer.write(tuple("document:0"));
+        var delete = buffer.delete(tuple("document:1"));
+
+        // then
+        assertThat(requests).isEmpty();
+        assertThat(buffer.getPending()).isEqualTo(2);
+
+        // when
+        runDelays();
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getWrites())
+                .extracting(ClientTupleKeyWithoutCondition::getObject)
+                .containsExactly("document:0");
+        assertThat(requests.get(0).getDeletes())
+                .extracting(ClientTupleKeyWithoutCondition::getObject)
+                .containsExactly("document:1");
+        assertThat(write).isNotDone();
+
+        // when
+        succeed(0);
+
+        // then
+        assertThat(write.get().getStatus()).isEqualTo(ClientWriteStatus.SUCCESS);
+        assertThat(delete.get().getStatus()).isEqualTo(ClientWriteStatus.SUCCESS);
+        assertThat(delete.get().getTupleKey().getObject()).isEqualTo("document:1");
+    }
+
+    @Test
+    void shouldFlushAFullBatchRightAway() {
+        // given
+        TupleWriteBuffer buffer = buffer(new ClientTupleWriteBufferOptions().maxBatchSize(2));
+
+        // when
+        buffer.write(tuple("document:0"));
+        buffer.write(tuple("document:1"));
+        buffer.write(tuple("document:2"));
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getWrites()).hasSize(2);
+        assertThat(buffer.getPending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlySendTheLastOperationOnATuple() throws Exception {
+        // given
+        TupleWriteBuffer buffer = buffer(new ClientTupleWriteBufferOptions());
+
+        // when
+        var write = buffer.write(tuple("document:0"));
+        var delete = buffer.delete(tuple("document:0"));
+        buffer.flush();
+        succeed(0);
+
+        // then
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getWrites()).isEmpty();
+        assertThat(requests.get(0).getDeletes())
+                .extracting(ClientTupleKeyWithoutCondition::getObject)
+                .containsExactly("document:0");
+        assertThat(write.get().getStatus()).isEqualTo(ClientWriteStatus.SUCCESS);
+        assertThat(delete.get().getStatus()).isEqualTo(ClientWriteStatus.SUCCESS);
+    }
+
+    @Test
+    void shouldWaitForTheRequestWritingATupleBeforeSendingItAgain() {
+        // given
+        TupleWriteBuffer buffer = buffer(new ClientTupleWriteBufferOptions());
+        buffer.write(tuple("document:0"));
+        buffer.flush();
+
+        // when
+        buffer.delete(tuple("document:0"));
+        buffer.write(tuple("document:1"));
+        var flushed = buffer.flush();
+
+        // then
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).getWrites())
+                .extracting(ClientTupleKeyWithoutCondition::getObject)
+                .containsExactly("document:1");
+        assertThat(buffer.getPending()).isEqualTo(1);
+
+        // when
+        succeed(0);
+        succeed(1);
+
+        // then
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(2).getDeletes())
+                .extracting(ClientTupleKeyWithoutCondition::getObject)
+                .containsExactly("document:0");
+        assertThat(flushed).isNotDone();
+
+        // when
+        succeed(2);
+
+        // then
+        assertThat(flushed).isDone();
+    }
+
+    @Test
+    void shouldReturnTheErrorOfAFailedRequestForEachOperation() throws Exception {
+        // given
+        TupleWriteBuffer buffer = buffer(new ClientTupleWriteBufferOptions());
+        var first = buffer.write(tuple("document:0"));
+        var second = buffer.write(tuple("document:1"));
+        buffer.flush();
+
+        // when
+        responses.get(0).completeExceptionally(new FgaValidationError("user", "invalid user"));
+
+        // then
+        assertThat(first.get().getStatus()).isEqualTo(ClientWriteStatus.FAILURE);
+        assertThat(first.get().getError()).isInstanceOf(FgaValidationError.class);
+        assertThat(second.get().getStatus()).isEqualTo(ClientWriteStatus.FAILURE);
+    }
+
+    @Test
+    void shouldFlushAndRejectOperationsWhenClosed() {
+        // given
+        TupleWriteBuffer buffer = new TupleWriteBuffer(
+                new ClientTupleWriteBufferOptions(),
+                request -> CompletableFuture.completedFuture(new ClientWriteResponse(List.of(), List.of())),
+                delays::add);
+        var write = buffer.write(tuple("document:0"));
+
+        // when
+        buffer.close();
+
+        // then
+        assertThat(write).isDone();
+        assertThatThrownBy(() -> buffer.write(tuple("document:1"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private TupleWriteBuffer buffer(ClientTupleWriteBufferOptions options) {
+        return new TupleWriteBuffer(
+                options,
+                request -> {
+                    CompletableFuture<ClientWriteResponse> response = new CompletableFuture<>();
+                    requests.add(request);
+                    responses.add(response);
+                    return response;
+                },
+                delays::add);
+    }
+
+    private void runDelays() {
+        List<Runnable> running = new ArrayList<>(delays);
+        delays.clear();
+        running.forEach(Runnable::run);
+    }
+
+    private void succeed(int request) {
+        responses.get(request).complete(new ClientWriteResponse(List.of(), List.of()));
+    }
+
+    private static ClientTupleKey tuple(String object) {
+        return new ClientTupleKey().user("user:anne").relation("reader")._object(object);
+    }
+}
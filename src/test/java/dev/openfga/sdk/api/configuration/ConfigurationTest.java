@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import dev.openfga.sdk.constants.FgaConstants;
 import dev.openfga.sdk.errors.*;
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -333,4 +334,54 @@ class ConfigurationTest {
         assertNotNull(defaultDelay, "minimumRetryDelay should have a default value");
         assertEquals(Duration.ofMillis(100), defaultDelay, "Default minimumRetryDelay should be 100ms");
     }
+
+    @Test
+    void maxInFlightRequests_hasDefaultValue() {
+        // Given
+        ClientConfiguration config = new ClientConfiguration();
+
+        // Then
+        assertEquals(FgaConstants.CLIENT_MAX_IN_FLIGHT_REQUESTS, config.getMaxInFlightRequests());
+        assertTrue(config.isPerStoreFairness());
+    }
+
+    @Test
+    void maxInFlightRequests_nonPositive_throwsException() {
+        // Given
+        ClientConfiguration config = new ClientConfiguration();
+
+        // When & Then
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> config.maxInFlightRequests(0));
+
+        assertEquals("maxInFlightRequests must be greater than 0", exception.getMessage());
+    }
+
+    @Test
+    void transportSettings_areKeptOnOverride() {
+        // Given
+        ClientConfiguration config = new ClientConfiguration()
+                .apiUrl(DEFAULT_API_URL)
+                .httpVersion(HttpClient.Version.HTTP_2)
+                .maxConcurrentStreams(32);
+
+        // When
+        Configuration result = config.override(new ConfigurationOverride());
+
+        // Then
+        assertEquals(HttpClient.Version.HTTP_2, result.getHttpVersion());
+        assertEquals(32, result.getMaxConcurrentStreams());
+    }
+
+    @Test
+    void maxConcurrentStreams_nonPositive_throwsException() {
+        // Given
+        ClientConfiguration config = new ClientConfiguration();
+
+        // When & Then
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> config.maxConcurrentStreams(0));
+
+        assertEquals("maxConcurrentStreams must be greater than 0", exception.getMessage());
+    }
 }
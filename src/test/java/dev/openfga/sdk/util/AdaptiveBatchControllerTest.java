@@ -0,0 +1,223 @@
+package dev.openfga.sdk.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.openfga.sdk.errors.FgaApiRateLimitExceededError;
+import dev.openfga.sdk.errors.FgaApiValidationError;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchControllerTest {
+    private static final long BASELINE_NANOS = 10_000_000;
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveBatchController(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBatchController(2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBatchController().dispatch(List.of(1), 0, 1, this::echo, r -> null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldGrowUpToTheMaximumsWhileLatencyStaysAtTheBaseline() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(2, 10);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            controller.onSuccess(16, 50, BASELINE_NANOS, null);
+        }
+
+        // then
+        assertThat(controller.concurrency(16)).isEqualTo(16);
+        assertThat(controller.batchSize(50)).isEqualTo(50);
+        assertThat(controller.concurrency(4)).isEqualTo(4);
+        assertThat(controller.batchSize(20)).isEqualTo(20);
+    }
+
+    @Test
+    void shouldShrinkConcurrencyWhenLatencyRises() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(16, 10);
+        controller.onSuccess(16, 50, BASELINE_NANOS, null);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            controller.onSuccess(16, 50, BASELINE_NANOS * 4, null);
+        }
+
+        // then
+        assertThat(controller.concurrency(16)).isLessThan(16);
+        assertThat(controller.batchSize(50)).isEqualTo(11);
+    }
+
+    @Test
+    void shouldPreferTheQueryDurationReportedByTheServer() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(16, 10);
+        controller.onSuccess(16, 50, BASELINE_NANOS, 10.0);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            // Slow round trips, e.g. a slow network, while the server is as fast as before
+            controller.onSuccess(16, 50, BASELINE_NANOS * 4, 10.0);
+        }
+
+        // then
+        assertThat(controller.concurrency(16)).isEqualTo(16);
+        assertThat(controller.batchSize(50)).isEqualTo(31);
+    }
+
+    @Test
+    void shouldHalveBothLimitsWhenRateLimited() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(8, 40);
+
+        // when
+        controller.onFailure(new CompletionException(new FgaApiRateLimitExceededError("limited", 429, null, null)));
+
+        // then
+        assertThat(controller.concurrency(16)).isEqualTo(4);
+        assertThat(controller.batchSize(50)).isEqualTo(20);
+
+        // when
+        controller.onFailure(new FgaApiValidationError("invalid", 400, null, null));
+
+        // then
+        assertThat(controller.concurrency(16)).isEqualTo(4);
+        assertThat(controller.batchSize(50)).isEqualTo(20);
+    }
+
+    @Test
+    void shouldDispatchSubBatchesWithinTheCurrentLimits() throws Exception {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(2, 3);
+        List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        List<List<Integer>> sent = new ArrayList<>();
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+
+        // when
+        CompletableFuture<List<List<Integer>>> result = controller.dispatch(
+                items,
+                50,
+                16,
+                batch -> {
+                    sent.add(batch);
+                    CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return future;
+                },
+                response -> null);
+
+        // then
+        assertThat(sent).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+
+        // when
+        while (!result.isDone()) {
+            int next = firstPending(pending);
+            pending.get(next).complete(sent.get(next));
+        }
+
+        // then
+        assertThat(result.get().stream().flatMap(List::stream)).containsExactlyElementsOf(items);
+        assertThat(sent).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(50));
+    }
+
+    @Test
+    void shouldStopDispatchingAfterAFailure() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(1, 2);
+        List<List<Integer>> sent = new ArrayList<>();
+
+        // when
+        CompletableFuture<List<List<Integer>>> result = controller.dispatch(
+                List.of(0, 1, 2, 3, 4, 5),
+                2,
+                1,
+                batch -> {
+                    sent.add(batch);
+                    return CompletableFuture.failedFuture(new IllegalStateException("unavailable"));
+                },
+                response -> null);
+
+        // then
+        assertThat(sent).containsExactly(List.of(0, 1));
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldHalveTheLimitsOncePerRequestHoweverManyTimesItIsRetried() {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(8, 40);
+
+        // when
+        CompletableFuture<List<Integer>> result = controller.dispatch(
+                List.of(0),
+                50,
+                16,
+                (batch, request) -> {
+                    // Two attempts are retried before the last one fails as well
+                    request.onFailure(new FgaApiRateLimitExceededError("limited", 429, null, null));
+                    request.onFailure(new FgaApiRateLimitExceededError("limited", 429, null, null));
+                    return CompletableFuture.failedFuture(
+                            new FgaApiRateLimitExceededError("limited", 429, null, null));
+                },
+                response -> null);
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(controller.concurrency(16)).isEqualTo(4);
+        assertThat(controller.batchSize(50)).isEqualTo(20);
+    }
+
+    @Test
+    void shouldMeasureLatencyFromWhenTheRequestIsSent() throws Exception {
+        // given
+        AdaptiveBatchController controller = new AdaptiveBatchController(16, 10);
+        controller.onSuccess(16, 50, BASELINE_NANOS, null);
+        List<AdaptiveBatchController.Request> requests = new ArrayList<>();
+        CompletableFuture<List<Integer>> response = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<List<List<Integer>>> result = controller.dispatch(
+                List.of(0),
+                50,
+                16,
+                (batch, request) -> {
+                    requests.add(request);
+                    return response;
+                },
+                r -> null);
+        // Queued on the client for several times the latency of the server
+        Thread.sleep(BASELINE_NANOS * 4 / 1_000_000);
+        requests.get(0).sent();
+        response.complete(List.of(0));
+
+        // then
+        assertThat(result.get()).containsExactly(List.of(0));
+        assertThat(controller.concurrency(16)).isEqualTo(16);
+        assertThat(controller.batchSize(50)).isEqualTo(12);
+    }
+
+    private static int firstPending(List<CompletableFuture<List<Integer>>> pending) {
+        for (int i = 0; i < pending.size(); i++) {
+            if (!pending.get(i).isDone()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private CompletableFuture<List<Integer>> echo(List<Integer> batch) {
+        return CompletableFuture.completedFuture(batch);
+    }
+}
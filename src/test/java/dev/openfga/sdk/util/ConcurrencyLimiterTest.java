@@ -0,0 +1,150 @@
+package dev.openfga.sdk.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> new ConcurrencyLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotStartMoreThanMaxInFlightTasks() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<Integer> task = new CompletableFuture<>();
+            tasks.add(task);
+            results.add(limiter.submit(() -> {
+                started.incrementAndGet();
+                return task;
+            }));
+        }
+
+        // then
+        assertThat(started).hasValue(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getPending()).isEqualTo(3);
+
+        // when
+        tasks.get(0).complete(0);
+
+        // then
+        assertThat(started).hasValue(3);
+        assertThat(results.get(0)).isCompletedWithValue(0);
+        assertThat(results.get(2)).isNotDone();
+
+        // when
+        for (int i = 1; i < tasks.size(); i++) {
+            tasks.get(i).complete(i);
+        }
+
+        // then
+        assertThat(started).hasValue(5);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getPending()).isZero();
+        assertThat(results.get(4)).isCompletedWithValue(4);
+    }
+
+    @Test
+    void shouldReleaseSlotWhenTaskFails() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+
+        // when
+        CompletableFuture<Object> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = limiter.submit(() -> CompletableFuture.completedFuture("ok"));
+
+        // then
+        assertThatThrownBy(failed::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(next).isCompletedWithValue("ok");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotGrowTheStackWithSynchronouslyCompletingTasks() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        CompletableFuture<Integer> gate = new CompletableFuture<>();
+        limiter.submit(() -> gate);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            int value = i;
+            results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+
+        // when
+        gate.complete(-1);
+
+        // then
+        assertThat(results.get(results.size() - 1)).isCompletedWithValue(99_999);
+    }
+
+    @Test
+    void shouldServeKeysRoundRobinWhenFair() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, true);
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        limiter.submit("store-a", () -> gate);
+        List<String> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            limiter.submit("store-a", () -> {
+                started.add("store-a");
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+        limiter.submit("store-b", () -> {
+            started.add("store-b");
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // when
+        gate.complete(null);
+
+        // then
+        assertThat(started).containsExactly("store-a", "store-b", "store-a", "store-a");
+    }
+
+    @Test
+    void shouldServeInSubmissionOrderWhenNotFair() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        limiter.submit("store-a", () -> gate);
+        List<String> started = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            limiter.submit("store-a", () -> {
+                started.add("store-a");
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+        limiter.submit("store-b", () -> {
+            started.add("store-b");
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // when
+        gate.complete(null);
+
+        // then
+        assertThat(started).containsExactly("store-a", "store-a", "store-a", "store-b");
+    }
+}
@@ -0,0 +1,142 @@
+package dev.openfga.sdk.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class IteratorPublisherTest {
+
+    @Test
+    void shouldOnlyEmitRequestedElements() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        IteratorPublisher<Integer> publisher =
+                new IteratorPublisher<>(List.of(0, 1, 2).iterator(), () -> closed.set(true));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        subscriber.subscription.request(2);
+
+        // then
+        assertThat(subscriber.items).containsExactly(0, 1);
+        assertThat(subscriber.completed).isFalse();
+
+        // when
+        subscriber.subscription.request(2);
+
+        // then
+        assertThat(subscriber.items).containsExactly(0, 1, 2);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldNotGrowTheStackWithRequestsFromOnNext() {
+        // given
+        IteratorPublisher<Integer> publisher = new IteratorPublisher<>(IntStream.range(0, 100_000).iterator(), null);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+
+        // when
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(subscriber.items).hasSize(100_000);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldCloseTheResourceWhenCancelled() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        IteratorPublisher<Integer> publisher =
+                new IteratorPublisher<>(List.of(0, 1).iterator(), () -> closed.set(true));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(closed).isTrue();
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @Test
+    void shouldFailWhenTheIteratorFails() {
+        // given
+        IteratorPublisher<Integer> publisher = new IteratorPublisher<>(
+                IntStream.range(0, 2)
+                        .map(i -> {
+                            if (i == 1) {
+                                throw new IllegalStateException("unreadable");
+                            }
+                            return i;
+                        })
+                        .iterator(),
+                null);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        subscriber.subscription.request(5);
+
+        // then
+        assertThat(subscriber.items).containsExactly(0);
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectASecondSubscriber() {
+        // given
+        IteratorPublisher<Integer> publisher = new IteratorPublisher<>(List.of(0).iterator(), null);
+        publisher.subscribe(new RecordingSubscriber());
+        RecordingSubscriber second = new RecordingSubscriber();
+
+        // when
+        publisher.subscribe(second);
+
+        // then
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        final List<Integer> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.openfga.sdk.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PublisherIteratorTest {
+
+    @Test
+    void shouldRequestTheNextBatchOnceTheLastOneIsConsumed() {
+        // given
+        AtomicInteger read = new AtomicInteger();
+        Iterator<Integer> source = IntStream.range(0, 10)
+                .peek(i -> read.incrementAndGet())
+                .iterator();
+
+        // when
+        PublisherIterator<Integer> iterator = PublisherIterator.of(new IteratorPublisher<>(source, null), 4);
+
+        // then
+        assertThat(read).hasValue(4);
+
+        // when
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            items.add(iterator.next());
+        }
+
+        // then
+        assertThat(items).containsExactly(0, 1, 2, 3);
+        assertThat(read).hasValue(8);
+
+        // when
+        iterator.forEachRemaining(items::add);
+
+        // then
+        assertThat(items).hasSize(10);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldThrowTheErrorOfThePublisherAfterItsElements() {
+        // given
+        Iterator<Integer> source = IntStream.range(0, 2)
+                .map(i -> {
+                    if (i == 1) {
+                        throw new IllegalStateException("unreadable");
+                    }
+                    return i;
+                })
+                .iterator();
+        PublisherIterator<Integer> iterator = PublisherIterator.of(new IteratorPublisher<>(source, null), 10);
+
+        // when
+        Integer first = iterator.next();
+
+        // then
+        assertThat(first).isZero();
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unreadable");
+    }
+
+    @Test
+    void shouldWrapCheckedErrors() {
+        // given
+        PublisherIterator<Integer> iterator = PublisherIterator.of(
+                subscriber -> {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {}
+
+                        @Override
+                        public void cancel() {}
+                    });
+                    subscriber.onError(new IOException("unreachable"));
+                },
+                10);
+
+        // then
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldCancelTheSubscriptionWhenClosed() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        PublisherIterator<Integer> iterator = PublisherIterator.of(
+                new IteratorPublisher<>(IntStream.range(0, 10).iterator(), () -> closed.set(true)), 2);
+
+        // when
+        iterator.next();
+        iterator.close();
+
+        // then
+        assertThat(closed).isTrue();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package dev.openfga.sdk.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowTest {
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> SlidingWindow.run(List.<Supplier<CompletableFuture<Integer>>>of().iterator(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldOnlyPullTasksAsEarlierOnesComplete() {
+        // given
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Supplier<CompletableFuture<Integer>>> lazyTasks = IntStream.range(0, 5).mapToObj(i -> {
+            pulled.incrementAndGet();
+            return () -> {
+                CompletableFuture<Integer> task = new CompletableFuture<>();
+                tasks.add(task);
+                return task;
+            };
+        });
+
+        // when
+        CompletableFuture<List<Integer>> result = SlidingWindow.run(lazyTasks.iterator(), 2);
+
+        // then
+        assertThat(pulled).hasValue(2);
+        assertThat(tasks).hasSize(2);
+
+        // when
+        tasks.get(1).complete(1);
+
+        // then
+        assertThat(pulled).hasValue(3);
+        assertThat(result).isNotDone();
+
+        // when
+        tasks.get(0).complete(0);
+        tasks.get(2).complete(2);
+        tasks.get(4).complete(4);
+        tasks.get(3).complete(3);
+
+        // then
+        assertThat(pulled).hasValue(5);
+        assertThat(result).isCompletedWithValue(List.of(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    void shouldCompleteImmediatelyWithoutTasks() {
+        assertThat(SlidingWindow.run(List.<Supplier<CompletableFuture<Integer>>>of().iterator(), 1))
+                .isCompletedWithValue(List.of());
+    }
+
+    @Test
+    void shouldNotGrowTheStackWithSynchronouslyCompletingTasks() {
+        // given
+        Stream<Supplier<CompletableFuture<Integer>>> lazyTasks =
+                IntStream.range(0, 100_000).mapToObj(i -> () -> CompletableFuture.completedFuture(i));
+
+        // when
+        CompletableFuture<List<Integer>> result = SlidingWindow.run(lazyTasks.iterator(), 1);
+
+        // then
+        assertThat(result.join()).hasSize(100_000);
+    }
+
+    @Test
+    void shouldStopPullingTasksAfterAFailure() {
+        // given
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Supplier<CompletableFuture<Integer>>> lazyTasks = IntStream.range(0, 5).mapToObj(i -> {
+            pulled.incrementAndGet();
+            return () -> CompletableFuture.failedFuture(new IllegalStateException("unavailable"));
+        });
+
+        // when
+        CompletableFuture<List<Integer>> result = SlidingWindow.run(lazyTasks.iterator(), 1);
+
+        // then
+        assertThat(pulled).hasValue(1);
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}